@@ -28,6 +28,8 @@ import javafx.scene.paint.Color;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -35,18 +37,19 @@ import java.time.temporal.ChronoUnit;
  */
 public class Alarm {
     public enum Repetition { ONCE, HALF_HOURLY, HOURLY, DAILY, WEEKLY }
-    public static final boolean          ARMED   = true;
-    public static final boolean          UNARMED = false;
+    public static final boolean              ARMED   = true;
+    public static final boolean              UNARMED = false;
 
-    public        final AlarmMarkerEvent ALARM_MARKER_PRESSED_EVENT  = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_PRESSED);
-    public        final AlarmMarkerEvent ALARM_MARKER_RELEASED_EVENT = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_RELEASED);
+    public        final AlarmMarkerEvent     ALARM_MARKER_PRESSED_EVENT  = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_PRESSED);
+    public        final AlarmMarkerEvent     ALARM_MARKER_RELEASED_EVENT = new AlarmMarkerEvent(Alarm.this, null, AlarmMarkerEvent.ALARM_MARKER_RELEASED);
 
-    private             Repetition       repetition;
-    private             ZonedDateTime    time;
-    private             boolean          armed;
-    private             String           text;
-    private             Command          command;
-    private             Color            color;
+    private             Repetition           repetition;
+    private             ZonedDateTime        time;
+    private             boolean              armed;
+    private             String               text;
+    private             Command              command;
+    private             Color                color;
+    private             List<AlarmScheduler> schedulers;
 
 
     // ******************** Constructors **************************************
@@ -99,7 +102,10 @@ public class Alarm {
      * The values are ONCE, HALF_HOURLY, HOURLY, DAILY, WEEKLY
      * @param REPETITION
      */
-    public void setRepetition(final Repetition REPETITION) { repetition = REPETITION; }
+    public void setRepetition(final Repetition REPETITION) {
+        repetition = REPETITION;
+        reschedule();
+    }
 
     /**
      * Returns the time of the alarm.
@@ -110,7 +116,10 @@ public class Alarm {
      * Defines the time of the alarm.
      * @param TIME
      */
-    public void setTime(final ZonedDateTime TIME) { time = TIME; }
+    public void setTime(final ZonedDateTime TIME) {
+        time = TIME;
+        reschedule();
+    }
 
     /**
      * Returns true if the alarm is activated.
@@ -165,6 +174,14 @@ public class Alarm {
      */
     public void setColor(final Color COLOR) { color = COLOR; }
 
+    void addScheduler(final AlarmScheduler SCHEDULER) {
+        if (null == schedulers) { schedulers = new CopyOnWriteArrayList<>(); }
+        schedulers.add(SCHEDULER);
+    }
+    void removeScheduler(final AlarmScheduler SCHEDULER) { if (null != schedulers) { schedulers.remove(SCHEDULER); } }
+
+    private void reschedule() { if (null != schedulers) { schedulers.forEach(scheduler -> scheduler.reschedule(this)); } }
+
     @Override public String toString() {
         return new StringBuilder()
             .append("{\n")
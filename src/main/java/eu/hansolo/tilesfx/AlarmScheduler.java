@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx;
+
+import eu.hansolo.tilesfx.Alarm.Repetition;
+
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Keeps the alarms of a tile in a priority queue ordered by the time they
+ * will fire next. Checking the alarms on a tick only needs to look at the
+ * head of the queue, so as long as no alarm is due the costs do not depend
+ * on the number of alarms. Because an alarm is due as soon as the time has
+ * reached its next fire time, it will also fire if the tick that matches its
+ * time exactly has been missed. Repeating alarms will be scheduled again for
+ * the next matching time after the current time, so after a longer gap an
+ * alarm fires once and not once for every missed repetition.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+class AlarmScheduler {
+    private final Supplier<ZonedDateTime> clock;
+    private final PriorityQueue<Entry>    queue;
+    private final Map<Alarm, Entry>       entries;
+    private       ZonedDateTime           lastTime;
+
+
+    // ******************** Constructors **************************************
+    AlarmScheduler(final Supplier<ZonedDateTime> CLOCK) {
+        clock   = CLOCK;
+        queue   = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.fireTime));
+        entries = new IdentityHashMap<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    synchronized void add(final Alarm ALARM) {
+        if (entries.containsKey(ALARM)) { return; }
+        ALARM.addScheduler(this);
+        schedule(ALARM, clock.get(), false);
+    }
+
+    synchronized void remove(final Alarm ALARM) {
+        Entry entry = entries.remove(ALARM);
+        if (null == entry) { return; }
+        queue.remove(entry);
+        ALARM.removeScheduler(this);
+    }
+
+    synchronized void clear() {
+        entries.keySet().forEach(alarm -> alarm.removeScheduler(this));
+        entries.clear();
+        queue.clear();
+    }
+
+    /**
+     * Will be called by the alarm if its time or repetition changed.
+     * @param ALARM
+     */
+    synchronized void reschedule(final Alarm ALARM) {
+        if (!entries.containsKey(ALARM)) { return; }
+        schedule(ALARM, clock.get(), false);
+    }
+
+    /**
+     * Fires all alarms that are due at the given time. Alarms that only fire
+     * once will be passed to EXPIRED after they fired.
+     * @param TIME the current time
+     * @param FIRE will be called for every armed alarm that is due
+     * @param EXPIRED will be called for every alarm that will not fire again
+     */
+    void poll(final ZonedDateTime TIME, final Consumer<Alarm> FIRE, final Consumer<Alarm> EXPIRED) {
+        final long now = TIME.toInstant().toEpochMilli();
+        while (true) {
+            Alarm   alarm;
+            boolean expired;
+            synchronized (this) {
+                if (null != lastTime && TIME.isBefore(lastTime)) {
+                    // The time has been set back, all fire times have to be calculated again
+                    List<Alarm> alarms = new ArrayList<>(entries.keySet());
+                    entries.clear();
+                    queue.clear();
+                    alarms.forEach(a -> schedule(a, TIME, false));
+                }
+                lastTime = TIME;
+
+                Entry entry = queue.peek();
+                if (null == entry || entry.fireTime > now) { return; }
+                queue.poll();
+                alarm   = entry.alarm;
+                expired = Repetition.ONCE == alarm.getRepetition();
+                // The polled entry is no longer in the queue, so it only has to be removed from the map
+                entries.remove(alarm);
+                if (expired) {
+                    alarm.removeScheduler(this);
+                } else {
+                    schedule(alarm, TIME, true);
+                }
+            }
+            // Fire outside of the lock because handlers might change the alarms
+            if (alarm.isArmed()) { FIRE.accept(alarm); }
+            if (expired) { EXPIRED.accept(alarm); }
+        }
+    }
+
+    private void schedule(final Alarm ALARM, final ZonedDateTime TIME, final boolean AFTER) {
+        Entry entry    = new Entry(ALARM, nextFireTime(ALARM, TIME, AFTER).toInstant().toEpochMilli());
+        Entry oldEntry = entries.put(ALARM, entry);
+        if (null != oldEntry) { queue.remove(oldEntry); }
+        queue.add(entry);
+    }
+
+    /**
+     * Returns the next time the given alarm should fire. For repeating alarms
+     * only the fields of the alarm time that define the repetition are used,
+     * e.g. minute and second for HOURLY alarms.
+     * @param ALARM
+     * @param TIME the reference time
+     * @param AFTER if true the next time after TIME, otherwise the next time
+     *              at or after the second of TIME
+     * @return the next time the given alarm should fire
+     */
+    static ZonedDateTime nextFireTime(final Alarm ALARM, final ZonedDateTime TIME, final boolean AFTER) {
+        final ZonedDateTime alarmTime = ALARM.getTime();
+        final ZonedDateTime candidate;
+        final TemporalAmount period;
+        switch(ALARM.getRepetition()) {
+            case HALF_HOURLY:
+                candidate = TIME.truncatedTo(ChronoUnit.HOURS).withMinute(alarmTime.getMinute() % 30).withSecond(alarmTime.getSecond());
+                period    = Duration.ofMinutes(30);
+                break;
+            case HOURLY:
+                candidate = TIME.truncatedTo(ChronoUnit.HOURS).withMinute(alarmTime.getMinute()).withSecond(alarmTime.getSecond());
+                period    = Duration.ofHours(1);
+                break;
+            case DAILY:
+                candidate = TIME.truncatedTo(ChronoUnit.DAYS).withHour(alarmTime.getHour()).withMinute(alarmTime.getMinute()).withSecond(alarmTime.getSecond());
+                period    = Period.ofDays(1);
+                break;
+            case WEEKLY:
+                candidate = TIME.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(alarmTime.getDayOfWeek()))
+                                .withHour(alarmTime.getHour()).withMinute(alarmTime.getMinute()).withSecond(alarmTime.getSecond());
+                period    = Period.ofWeeks(1);
+                break;
+            case ONCE:
+            default:
+                return alarmTime;
+        }
+        final ZonedDateTime reference = AFTER ? TIME : TIME.truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime next = candidate;
+        while (AFTER ? !next.isAfter(reference) : next.isBefore(reference)) { next = next.plus(period); }
+        return next;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry {
+        final Alarm alarm;
+        final long  fireTime;
+
+        Entry(final Alarm ALARM, final long FIRE_TIME) {
+            alarm    = ALARM;
+            fireTime = FIRE_TIME;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx;
+
+import eu.hansolo.tilesfx.Tile.SkinType;
+import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.skins.BarChartItem;
+import eu.hansolo.tilesfx.skins.LeaderBoardItem;
+import eu.hansolo.tilesfx.tools.FlowGridPane;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+
+
+/**
+ * Internal load test for complete dashboards. Builds a FlowGridPane with a
+ * number of tiles of a mix of skin types and feeds them with values from a
+ * seeded random generator at a fixed rate, so every run with the same
+ * configuration gets the same sequence of values.
+ * After a warm up phase it measures for the given duration and writes a JSON
+ * report with the pulse duration percentiles, the utilization of the FX
+ * application thread, the allocation rate and the number of nodes in the
+ * scene graph.
+ *
+ * The benchmark is configured with system properties:
+ * benchmark.tiles    number of tiles (default 24)
+ * benchmark.skins    comma separated SkinTypes that will be used round robin
+ * benchmark.rate     value updates per tile and second (default 10)
+ * benchmark.animated true if the tiles should be animated (default false)
+ * benchmark.warmup   warm up time in seconds (default 5)
+ * benchmark.duration measurement time in seconds (default 20)
+ * benchmark.seed     seed of the value feed (default 42)
+ * benchmark.report   file the JSON report will be written to
+ *
+ * To run it without a display start it with Monocle (-Dglass.platform=Monocle
+ * -Dmonocle.platform=Headless -Dprism.order=sw), otherwise the stage will be
+ * placed outside of the visible screen area.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class Benchmark extends Application {
+    private static final SkinType[]     DEFAULT_SKINS = { SkinType.GAUGE, SkinType.SPARK_LINE, SkinType.PERCENTAGE, SkinType.NUMBER,
+                                                          SkinType.CIRCULAR_PROGRESS, SkinType.BAR_CHART, SkinType.LEADER_BOARD, SkinType.RADIAL_CHART };
+    private static final int            NO_OF_ITEMS   = 8;
+    private static final double         TILE_SIZE     = 150;
+    private static final double         NANOS_PER_MS  = 1_000_000.0;
+    private              int            noOfTiles;
+    private              SkinType[]     skinTypes;
+    private              double         rate;
+    private              boolean        animated;
+    private              long           warmup;
+    private              long           duration;
+    private              long           seed;
+    private              Path           reportFile;
+    private              List<Tile>     tiles;
+    private              List<Feed>     feeds;
+    private              Scene          scene;
+    private              AnimationTimer timer;
+    private              boolean        measuring;
+    private              long           startTime;
+    private              long           lastPulse;
+    private              long           pulseStart;
+    private              long           lastNodeCount;
+    private              Samples        pulseDurations;
+    private              Samples        frameTimes;
+    private              long           valueUpdates;
+    private              long           measureStart;
+    private              long           fxCpuStart;
+    private              long           allocatedStart;
+    private              int            liveNodes;
+    private              int            maxLiveNodes;
+
+
+    @Override public void init() {
+        noOfTiles  = Integer.getInteger("benchmark.tiles", 24);
+        skinTypes  = parseSkinTypes(System.getProperty("benchmark.skins", ""));
+        rate       = Double.parseDouble(System.getProperty("benchmark.rate", "10"));
+        animated   = Boolean.getBoolean("benchmark.animated");
+        warmup     = Long.getLong("benchmark.warmup", 5) * 1_000_000_000l;
+        duration   = Long.getLong("benchmark.duration", 20) * 1_000_000_000l;
+        seed       = Long.getLong("benchmark.seed", 42);
+        reportFile = Paths.get(System.getProperty("benchmark.report", "build/reports/benchmark/benchmark.json"));
+
+        tiles = new ArrayList<>(noOfTiles);
+        feeds = new ArrayList<>(noOfTiles);
+        for (int i = 0 ; i < noOfTiles ; i++) {
+            SkinType skinType = skinTypes[i % skinTypes.length];
+            Tile     tile     = TileBuilder.create()
+                                           .skinType(skinType)
+                                           .prefSize(TILE_SIZE, TILE_SIZE)
+                                           .title(skinType.name())
+                                           .animated(animated)
+                                           .build();
+            tiles.add(tile);
+            feeds.add(createFeed(tile, new Random(seed + i)));
+        }
+
+        pulseDurations = new Samples();
+        frameTimes     = new Samples();
+
+        timer = new AnimationTimer() {
+            @Override public void handle(final long NOW) {
+                pulseStart = System.nanoTime();
+                if (0 == startTime) { startTime = NOW; }
+                if (measuring && lastPulse > 0) { frameTimes.add(NOW - lastPulse); }
+                feed(NOW);
+                lastPulse = NOW;
+
+                if (!measuring && NOW - startTime >= warmup) {
+                    startMeasurement(NOW);
+                } else if (measuring && NOW - measureStart >= duration) {
+                    finish(NOW);
+                } else if (measuring && NOW - lastNodeCount >= 1_000_000_000l) {
+                    countLiveNodes(NOW);
+                }
+            }
+        };
+    }
+
+    @Override public void start(final Stage STAGE) {
+        int          noOfCols = (int) Math.ceil(Math.sqrt(noOfTiles));
+        int          noOfRows = (int) Math.ceil(noOfTiles / (double) noOfCols);
+        FlowGridPane pane     = new FlowGridPane(noOfCols, noOfRows, tiles.toArray(new Node[0]));
+        pane.setHgap(5);
+        pane.setVgap(5);
+        pane.setPadding(new Insets(5));
+        pane.setBackground(new Background(new BackgroundFill(Tile.BACKGROUND.darker(), CornerRadii.EMPTY, Insets.EMPTY)));
+
+        scene = new Scene(pane, noOfCols * (TILE_SIZE + 5) + 5, noOfRows * (TILE_SIZE + 5) + 5);
+        // Layout and CSS are done after the animation timers in a pulse
+        scene.addPostLayoutPulseListener(() -> {
+            if (measuring && pulseStart > 0) { pulseDurations.add(System.nanoTime() - pulseStart); }
+            pulseStart = 0;
+        });
+
+        STAGE.setTitle("TilesFX Benchmark");
+        STAGE.setScene(scene);
+        if (!isHeadless()) {
+            STAGE.setX(-10 * scene.getWidth());
+            STAGE.setY(-10 * scene.getHeight());
+        }
+        STAGE.show();
+
+        timer.start();
+    }
+
+    @Override public void stop() {
+        timer.stop();
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    private Feed createFeed(final Tile TILE, final Random RND) {
+        switch(TILE.getSkinType()) {
+            case BAR_CHART:
+                for (int i = 0 ; i < NO_OF_ITEMS ; i++) { TILE.addBarChartItem(new BarChartItem("Item " + i, RND.nextDouble() * 100, Tile.BLUE)); }
+                return new Feed(RND, rnd -> TILE.getBarChartItems().get(rnd.nextInt(NO_OF_ITEMS)).setValue(rnd.nextDouble() * 100));
+            case LEADER_BOARD:
+                for (int i = 0 ; i < NO_OF_ITEMS ; i++) { TILE.addLeaderBoardItem(new LeaderBoardItem("Item " + i, RND.nextDouble() * 100)); }
+                return new Feed(RND, rnd -> TILE.getLeaderBoardItems().get(rnd.nextInt(NO_OF_ITEMS)).setValue(rnd.nextDouble() * 100));
+            case RADIAL_CHART:
+            case DONUT_CHART:
+            case CYCLE_STEP:
+            case RADAR_CHART:
+                for (int i = 0 ; i < NO_OF_ITEMS ; i++) { TILE.addChartData(new ChartData("Data " + i, RND.nextDouble() * 100, Tile.BLUE)); }
+                return new Feed(RND, rnd -> TILE.getChartData().get(rnd.nextInt(NO_OF_ITEMS)).setValue(rnd.nextDouble() * 100));
+            default:
+                return new Feed(RND, rnd -> TILE.setValue(TILE.getMinValue() + rnd.nextDouble() * TILE.getRange()));
+        }
+    }
+
+    /**
+     * Feeds every tile with the number of values that are due at the given
+     * time, so the load does not depend on the frame rate.
+     */
+    private void feed(final long NOW) {
+        double elapsed = lastPulse > 0 ? (NOW - lastPulse) / 1_000_000_000.0 : 0;
+        for (Feed feed : feeds) {
+            feed.pending += elapsed * rate;
+            while (feed.pending >= 1) {
+                feed.update.accept(feed.random);
+                feed.pending--;
+                if (measuring) { valueUpdates++; }
+            }
+        }
+    }
+
+    private void startMeasurement(final long NOW) {
+        measuring      = true;
+        measureStart   = NOW;
+        fxCpuStart     = fxThreadCpuTime();
+        allocatedStart = allocatedBytes();
+        countLiveNodes(NOW);
+    }
+
+    private void finish(final long NOW) {
+        timer.stop();
+        measuring = false;
+        countLiveNodes(NOW);
+
+        double seconds     = (NOW - measureStart) / 1_000_000_000.0;
+        long   fxCpuEnd    = fxThreadCpuTime();
+        long   allocated   = allocatedBytes();
+        double utilization = fxCpuStart < 0 || fxCpuEnd < 0 ? -1 : (fxCpuEnd - fxCpuStart) / (double) (NOW - measureStart);
+        double allocRate   = allocatedStart < 0 || allocated < 0 ? -1 : (allocated - allocatedStart) / seconds / (1024 * 1024);
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n")
+            .append("  \"config\": {\n")
+            .append("    \"tiles\": ").append(noOfTiles).append(",\n")
+            .append("    \"skins\": [").append(Arrays.stream(skinTypes).map(skinType -> "\"" + skinType.name() + "\"").reduce((s1, s2) -> s1 + ", " + s2).orElse("")).append("],\n")
+            .append("    \"rate\": ").append(format(rate)).append(",\n")
+            .append("    \"animated\": ").append(animated).append(",\n")
+            .append("    \"warmupSeconds\": ").append(warmup / 1_000_000_000l).append(",\n")
+            .append("    \"durationSeconds\": ").append(duration / 1_000_000_000l).append(",\n")
+            .append("    \"seed\": ").append(seed).append(",\n")
+            .append("    \"headless\": ").append(isHeadless()).append("\n")
+            .append("  },\n")
+            .append("  \"javaVersion\": \"").append(System.getProperty("java.version")).append("\",\n")
+            .append("  \"javafxVersion\": \"").append(System.getProperty("javafx.runtime.version")).append("\",\n")
+            .append("  \"seconds\": ").append(format(seconds)).append(",\n")
+            .append("  \"pulses\": ").append(frameTimes.size()).append(",\n")
+            .append("  \"valueUpdates\": ").append(valueUpdates).append(",\n")
+            .append("  \"pulseDurationMs\": ").append(pulseDurations.toJson()).append(",\n")
+            .append("  \"frameTimeMs\": ").append(frameTimes.toJson()).append(",\n")
+            .append("  \"fxThreadUtilization\": ").append(format(utilization)).append(",\n")
+            .append("  \"allocationRateMBPerSecond\": ").append(format(allocRate)).append(",\n")
+            .append("  \"liveNodes\": { \"final\": ").append(liveNodes).append(", \"max\": ").append(maxLiveNodes).append(" }\n")
+            .append("}\n");
+
+        System.out.println(json);
+        try {
+            if (null != reportFile.getParent()) { Files.createDirectories(reportFile.getParent()); }
+            Files.write(reportFile, json.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Error writing report: " + e);
+        }
+        Platform.exit();
+    }
+
+    private void countLiveNodes(final long NOW) {
+        lastNodeCount = NOW;
+        liveNodes     = countNodes(scene.getRoot());
+        maxLiveNodes  = Math.max(maxLiveNodes, liveNodes);
+    }
+
+    private static int countNodes(final Node NODE) {
+        int count = 1;
+        if (NODE instanceof Parent) {
+            for (Node child : ((Parent) NODE).getChildrenUnmodifiable()) { count += countNodes(child); }
+        }
+        return count;
+    }
+
+    private static long fxThreadCpuTime() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) { return -1; }
+        return threadMXBean.getCurrentThreadCpuTime();
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) { return -1; }
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!sunThreadMXBean.isThreadAllocatedMemorySupported() || !sunThreadMXBean.isThreadAllocatedMemoryEnabled()) { return -1; }
+        long allocated = 0;
+        for (long bytes : sunThreadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            if (bytes > 0) { allocated += bytes; }
+        }
+        return allocated;
+    }
+
+    private static SkinType[] parseSkinTypes(final String SKINS) {
+        if (null == SKINS || SKINS.isBlank()) { return DEFAULT_SKINS; }
+        return Arrays.stream(SKINS.split(","))
+                     .map(String::trim)
+                     .filter(name -> !name.isEmpty())
+                     .map(name -> SkinType.valueOf(name.toUpperCase(Locale.ENGLISH)))
+                     .toArray(SkinType[]::new);
+    }
+
+    private static boolean isHeadless() { return "Monocle".equalsIgnoreCase(System.getProperty("glass.platform")); }
+
+    private static String format(final double VALUE) { return String.format(Locale.US, "%.3f", VALUE); }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Feed {
+        final Random           random;
+        final Consumer<Random> update;
+        double                 pending;
+
+        Feed(final Random RANDOM, final Consumer<Random> UPDATE) {
+            random = RANDOM;
+            update = UPDATE;
+        }
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int    size;
+
+        void add(final long VALUE) {
+            if (size == values.length) { values = Arrays.copyOf(values, size * 2); }
+            values[size++] = VALUE;
+        }
+
+        int size() { return size; }
+
+        String toJson() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double mean = 0;
+            for (long value : sorted) { mean += value; }
+            mean = 0 == size ? 0 : mean / size;
+            return new StringBuilder().append("{ \"mean\": ").append(format(mean / NANOS_PER_MS))
+                                      .append(", \"p50\": ").append(format(percentile(sorted, 50) / NANOS_PER_MS))
+                                      .append(", \"p90\": ").append(format(percentile(sorted, 90) / NANOS_PER_MS))
+                                      .append(", \"p99\": ").append(format(percentile(sorted, 99) / NANOS_PER_MS))
+                                      .append(", \"max\": ").append(format(0 == size ? 0 : sorted[size - 1] / NANOS_PER_MS))
+                                      .append(" }")
+                                      .toString();
+        }
+
+        private static long percentile(final long[] SORTED, final double PERCENTILE) {
+            if (0 == SORTED.length) { return 0; }
+            int index = (int) Math.ceil(PERCENTILE / 100.0 * SORTED.length) - 1;
+            return SORTED[Math.max(0, Math.min(SORTED.length - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Drains the values that have been offered to tiles with one AnimationTimer
+ * for all tiles. Producers only mark a tile as dirty, the tiles that are
+ * dirty at the beginning of a pulse will be drained in this pulse. A tile
+ * that gets dirty again while the tiles are drained will be drained in the
+ * next pulse, so every tile will be applied at most once per frame.
+ * The timer stops after a pulse without dirty tiles and will be started
+ * again when the next tile gets dirty.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+enum IngestionDrainer {
+    INSTANCE;
+
+    private final Queue<Tile>    dirtyTiles;
+    private final AtomicBoolean  running;
+    private final AnimationTimer timer;
+
+
+    // ******************** Constructors **************************************
+    IngestionDrainer() {
+        dirtyTiles = new ConcurrentLinkedQueue<>();
+        running    = new AtomicBoolean(false);
+        timer      = new AnimationTimer() {
+            @Override public void handle(final long NOW) { drain(); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds the given tile to the tiles that will be drained with the next
+     * pulse. Can be called from any thread, the tile has to make sure that
+     * it will only be added once until it was drained.
+     * @param TILE
+     */
+    void markDirty(final Tile TILE) {
+        dirtyTiles.add(TILE);
+        if (running.compareAndSet(false, true)) { Platform.runLater(() -> timer.start()); }
+    }
+
+    private void drain() {
+        // Only drain the tiles that have been dirty when the pulse started
+        int noOfDirtyTiles = dirtyTiles.size();
+        if (0 == noOfDirtyTiles) {
+            timer.stop();
+            running.set(false);
+            // A producer might have added a tile after the size check but before running was reset
+            if (!dirtyTiles.isEmpty() && running.compareAndSet(false, true)) { timer.start(); }
+            return;
+        }
+        for (int i = 0 ; i < noOfDirtyTiles ; i++) {
+            Tile tile = dirtyTiles.poll();
+            if (null == tile) { break; }
+            tile.drainOffered();
+        }
+    }
+}
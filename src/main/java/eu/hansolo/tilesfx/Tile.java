@@ -18,6 +18,7 @@
 package eu.hansolo.tilesfx;
 
 import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.chart.ChartDataAggregate;
 import eu.hansolo.tilesfx.chart.RadarChartMode;
 import eu.hansolo.tilesfx.chart.SunburstChart;
 import eu.hansolo.tilesfx.chart.TilesFXSeries;
@@ -33,26 +34,31 @@ import eu.hansolo.tilesfx.events.TimeEvent;
 import eu.hansolo.tilesfx.events.TimeEvent.TimeEventType;
 import eu.hansolo.tilesfx.events.TimeEventListener;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.jfr.TileEventDispatched;
+import eu.hansolo.tilesfx.jfr.TileValueUpdate;
 import eu.hansolo.tilesfx.skins.*;
+import eu.hansolo.tilesfx.tools.Animator;
+import eu.hansolo.tilesfx.tools.Choropleth;
 import eu.hansolo.tilesfx.tools.Country;
 import eu.hansolo.tilesfx.tools.CountryGroup;
 import eu.hansolo.tilesfx.tools.CountryPath;
+import eu.hansolo.tilesfx.tools.DoubleRingBuffer;
+import eu.hansolo.tilesfx.tools.GradientLookup;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.HoltWinters;
 import eu.hansolo.tilesfx.tools.InfoRegion;
 import eu.hansolo.tilesfx.tools.Location;
+import eu.hansolo.tilesfx.tools.LocationIndex;
 import eu.hansolo.tilesfx.tools.LowerRightRegion;
 import eu.hansolo.tilesfx.tools.MatrixIcon;
 import eu.hansolo.tilesfx.tools.MovingAverage;
 import eu.hansolo.tilesfx.tools.NotifyRegion;
 import eu.hansolo.tilesfx.tools.Rank;
 import eu.hansolo.tilesfx.tools.SectionComparator;
+import eu.hansolo.tilesfx.tools.TileMetrics;
 import eu.hansolo.tilesfx.tools.TimeData;
 import eu.hansolo.tilesfx.tools.TimeSectionComparator;
-import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
 import javafx.beans.binding.Bindings;
@@ -74,6 +80,7 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.property.StringPropertyBase;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.css.CssMetaData;
 import javafx.css.SimpleStyleableObjectProperty;
@@ -100,7 +107,6 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.SVGPath;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
-import javafx.util.Duration;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -112,12 +118,14 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -125,6 +133,9 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Collectors;
 
 import static eu.hansolo.tilesfx.tools.Helper.clamp;
@@ -225,6 +236,12 @@ public class Tile extends Control {
     public enum ItemSortingTopic {
         VALUE, TIMESTAMP, DURATION
     }
+    public enum IngestionPolicy {
+        LATEST_WINS, ACCUMULATE
+    }
+    public enum RenderMode {
+        NODES, CANVAS
+    }
 
 
     public static final  Color                          BACKGROUND                     = Color.rgb(42, 42, 42); // #2a2a2a
@@ -246,6 +263,7 @@ public class Tile extends Control {
     public static final  java.time.Duration             DEFAULT_TIME_PERIOD            = java.time.Duration.ofMinutes(1);
     public static final  TimeUnit                       DEFAULT_TIME_PERIOD_RESOLUTION = TimeUnit.SECONDS;
     private static final int                            MAX_NO_OF_DECIMALS             = 3;
+    private static final Interpolator                   VALUE_INTERPOLATOR             = Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0);
 
     private final        TileEvent                      SHOW_NOTIFY_REGION_EVENT       = new TileEvent(EventType.SHOW_NOTIFY_REGION);
     private final        TileEvent                      HIDE_NOTIFY_REGION_EVENT       = new TileEvent(EventType.HIDE_NOTIFY_REGION);
@@ -277,6 +295,7 @@ public class Tile extends Control {
     private final        TileEvent                      TRACK_EVENT                    = new TileEvent(EventType.TRACK);
     private final        TileEvent                      MAP_PROVIDER_EVENT             = new TileEvent(EventType.MAP_PROVIDER);
     private final        TileEvent                      FLIP_START_EVENT               = new TileEvent(EventType.FLIP_START);
+    private final        TileEvent                      CHOROPLETH_EVENT               = new TileEvent(EventType.CHOROPLETH);
     private final        TileEvent                      BKG_IMAGE_EVENT                = new TileEvent(EventType.BACKGROUND_IMAGE);
     private final        TileEvent                      REGIONS_ON_TOP_EVENT           = new TileEvent(EventType.REGIONS_ON_TOP);
     private final        TileEvent                      INFO_REGION_HANDLER_EVENT      = new TileEvent(EventType.INFO_REGION_HANDLER);
@@ -284,6 +303,7 @@ public class Tile extends Control {
     private final        TileEvent                      HIGHLIGHT_SECTIONS             = new TileEvent(EventType.HIGHLIGHT_SECTIONS);
     private final        TileEvent                      ANIMATED_ON_EVENT              = new TileEvent(EventType.ANIMATED_ON);
     private final        TileEvent                      ANIMATED_OFF_EVENT             = new TileEvent(EventType.ANIMATED_OFF);
+    private final        TileMetrics                    metrics                        = new TileMetrics();
 
     private static final StyleablePropertyFactory<Tile> FACTORY                        = new StyleablePropertyFactory<>(Region.getClassCssMetaData());
     private static final CssMetaData<Tile, Color>       THUMB_COLOR                    = FACTORY.createColorCssMetaData("-thumb-color", s -> s.thumbColor, Color.rgb(223, 223, 223, 0.5), false);
@@ -299,6 +319,15 @@ public class Tile extends Control {
 
     private              BooleanBinding                 showing;
 
+    // Ingestion related
+    private static final long                           NO_OFFERED_VALUE               = 0xfff8_0000_0000_0001L; // NaN pattern that Double.doubleToLongBits() never returns
+    private        final AtomicLong                     offeredValue                   = new AtomicLong(NO_OFFERED_VALUE);
+    private static final int                            OFFERED_VALUES_CAPACITY        = 1024;
+    private        final DoubleRingBuffer               offeredValues                  = new DoubleRingBuffer(OFFERED_VALUES_CAPACITY);
+    private        final Queue<ChartData>               offeredChartData               = new ConcurrentLinkedQueue<>();
+    private        final AtomicBoolean                  dirty                          = new AtomicBoolean(false);
+    private volatile     IngestionPolicy                ingestionPolicy                = IngestionPolicy.LATEST_WINS;
+
     // Data related
     private DoubleProperty                                value;
     private DoubleProperty                                oldValue;      // last value
@@ -358,6 +387,7 @@ public class Tile extends Control {
     private ZoneId                                        zoneId;
     private int                                           updateInterval;
     private ObservableList<TimeSection>                   timeSections;
+    private TimeSectionTimeline                           timeSectionTimeline;
     private LocalTime                                     _duration;
     private ObjectProperty<LocalTime>                     duration;
     private ObservableList<BarChartItem>                  barChartItems;
@@ -370,7 +400,11 @@ public class Tile extends Control {
     private Location                                      _currentLocation;
     private ObjectProperty<Location>                      currentLocation;
     private ObservableList<Location>                      poiList;
+    private LocationIndex                                 poiIndex;
+    private boolean                                       _locationLayerEnabled;
+    private BooleanProperty                               locationLayerEnabled;
     private ObservableList<ChartData>                     chartDataList;
+    private ChartDataAggregate                            chartDataAggregate;
     private List<Location>                                track;
     private TileColor                                     _trackColor;
     private ObjectProperty<TileColor>                     trackColor;
@@ -515,8 +549,10 @@ public class Tile extends Control {
     private double                                        originalMinValue;
     private double                                        originalMaxValue;
     private double                                        originalThreshold;
-    private Timeline                                      timeline;
-    private Instant                                       lastCall;
+    private DoubleConsumer                                valueWriter;
+    private DoubleConsumer                                currentValueWriter;
+    private DoubleConsumer                                currentTimeWriter;
+    private long                                          lastCall;
     private boolean                                       withinSpeedLimit;
     private boolean                                       _discreteSeconds;
     private BooleanProperty                               discreteSeconds;
@@ -561,7 +597,7 @@ public class Tile extends Control {
     private boolean                                       _alarmsVisible;
     private BooleanProperty                               alarmsVisible;
     private ObservableList<Alarm>                         alarms;
-    private List<Alarm>                                   alarmsToRemove;
+    private AlarmScheduler                                alarmScheduler;
     private boolean                                       _strokeWithGradient;
     private BooleanProperty                               strokeWithGradient;
     private boolean                                       _fillWithGradient;
@@ -581,6 +617,7 @@ public class Tile extends Control {
     private ObjectProperty<Country>                       country;
     private CountryGroup                                  _countryGroup;
     private ObjectProperty<CountryGroup>                  countryGroup;
+    private Choropleth                                    choropleth;
     private boolean                                       _dataPointsVisible;
     private BooleanProperty                               dataPointsVisible;
     private boolean                                       _snapToTicks;
@@ -601,6 +638,9 @@ public class Tile extends Control {
     private Color                                         _lowerRightRegionBackgroundColor;
     private Color                                         _lowerRightRegionForegroundColor;
     private String                                        _lowerRightRegionTooltipText;
+    private boolean                                       _metricsOverlayEnabled;
+    private boolean                                       _staticLayerCacheEnabled;
+    private RenderMode                                    _renderMode;
     private Image                                         _backgroundImage;
     private double                                        _backgroundImageOpacity;
     private boolean                                       _backgroundImageKeepAspect;
@@ -632,6 +672,7 @@ public class Tile extends Control {
     private BooleanProperty                               interactive;
     private int                                           _numberOfValuesForTrendCalculation;
     private IntegerProperty                               numberOfValuesForTrendCalculation;
+    private HoltWinters                                   _trendForecaster;
     private EventHandler<MouseEvent>                      infoRegionHandler;
 
     private volatile ScheduledFuture<?>                   periodicTickTask;
@@ -820,17 +861,14 @@ public class Tile extends Control {
         value                               = new DoublePropertyBase(_minValue) {
             private void update() {
                 final double VALUE = get();
-                withinSpeedLimit = !(Instant.now().minusMillis(getAnimationDuration()).isBefore(lastCall));
-                lastCall = Instant.now();
+                final long NOW = System.nanoTime();
+                withinSpeedLimit = NOW - lastCall >= getAnimationDuration() * 1_000_000L;
+                lastCall = NOW;
                 if (isAnimated() && withinSpeedLimit) {
                     long animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
-                    timeline.stop();
-
-                    final KeyValue KEY_VALUE = new KeyValue(currentValue, VALUE, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                    final KeyFrame KEY_FRAME = new KeyFrame(Duration.millis(animationDuration), KEY_VALUE);
-                    timeline.getKeyFrames().setAll(KEY_FRAME);
-                    timeline.play();
+                    Animator.INSTANCE.animate(currentValueWriter, currentValue.get(), VALUE, animationDuration, VALUE_INTERPOLATOR, () -> onValueAnimationFinished());
                 } else {
+                    Animator.INSTANCE.stop(currentValueWriter);
                     currentValue.set(VALUE);
                     fireTileEvent(FINISHED_EVENT);
                 }
@@ -840,9 +878,13 @@ public class Tile extends Control {
             @Override public void set(final double VALUE) {
                 // ATTENTION There is an optimization in the properties so that properties
                 // only get invalid if the the new value is different from the old value
+                TileValueUpdate valueUpdate = TileValueUpdate.isRecording() ? new TileValueUpdate() : null;
+                if (null != valueUpdate) { valueUpdate.begin(); }
+                metrics.valueReceived();
                 if (Helper.equals(VALUE, getFormerValue())) { update(); }
                 super.set(VALUE);
                 fireTileEvent(VALUE_EVENT);
+                if (null != valueUpdate) { valueUpdate.commit(Tile.this, VALUE); }
             }
             @Override public Object getBean() { return Tile.this; }
             @Override public String getName() { return "value"; }
@@ -912,6 +954,7 @@ public class Tile extends Control {
         _currentLocation                    = new Location(0, 0);
         _trackColor                         = TileColor.BLUE;
         _mapProvider                        = MapProvider.BW;
+        _locationLayerEnabled               = false;
         flipTimeInMS                        = 500;
         _itemSorting                        = ItemSorting.NONE;
         _itemSortingTopic                   = ItemSortingTopic.VALUE;
@@ -1024,6 +1067,9 @@ public class Tile extends Control {
         _lowerRightRegionBackgroundColor    = Tile.GRAY;
         _lowerRightRegionForegroundColor    = Tile.BACKGROUND;
         _lowerRightRegionTooltipText        = "";
+        _metricsOverlayEnabled              = false;
+        _staticLayerCacheEnabled            = false;
+        _renderMode                         = RenderMode.NODES;
         _backgroundImage                    = null;
         _backgroundImageOpacity             = 0.2;
         _backgroundImageKeepAspect          = true;
@@ -1041,22 +1087,19 @@ public class Tile extends Control {
         _rank                               = Rank.DEFAULT;
         _interactive                        = true;
         _numberOfValuesForTrendCalculation  = 3;
+        _trendForecaster                    = new HoltWinters();
         updateInterval                      = LONG_INTERVAL;
         increment                           = 1;
         originalMinValue                    = -Double.MAX_VALUE;
         originalMaxValue                    = Double.MAX_VALUE;
         originalThreshold                   = Double.MAX_VALUE;
-        lastCall                            = Instant.now();
-        timeline                            = new Timeline();
-        timeline.setOnFinished(e -> {
-            if (isReturnToZero() && !Helper.equals(currentValue.get(), 0.0)) {
-                final KeyValue KEY_VALUE2 = new KeyValue(value, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
-                timeline.getKeyFrames().setAll(KEY_FRAME2);
-                timeline.play();
-            }
-            fireTileEvent(FINISHED_EVENT);
-        });
+        lastCall                            = System.nanoTime();
+        valueWriter                         = v -> value.set(v);
+        currentValueWriter                  = v -> {
+            metrics.animationFrame();
+            currentValue.set(v);
+        };
+        currentTimeWriter                   = v -> currentTime.set(Math.round(v));
         presetTileParameters(skinType);
     }
 
@@ -1179,6 +1222,87 @@ public class Tile extends Control {
     }
     public DoubleProperty valueProperty() { return value; }
 
+    /**
+     * Returns the policy that will be used to apply values that are offered
+     * with offerValue(). LATEST_WINS only applies the last value that was
+     * offered since the last frame, ACCUMULATE applies all offered values in
+     * the order they were offered (e.g. for sparklines or other series).
+     * With ACCUMULATE at most 1024 values will be kept between two frames,
+     * if more values are offered the oldest ones will be dropped.
+     * @return the policy that will be used to apply offered values
+     */
+    public IngestionPolicy getIngestionPolicy() { return ingestionPolicy; }
+    public void setIngestionPolicy(final IngestionPolicy POLICY) { ingestionPolicy = null == POLICY ? IngestionPolicy.LATEST_WINS : POLICY; }
+
+    /**
+     * Offers a new value to the tile. In contrast to setValue() this method
+     * can be called from any thread and never blocks. All values that are
+     * offered within one frame will be applied on the FX application thread
+     * in one go according to the ingestion policy.
+     * @param VALUE
+     */
+    public void offerValue(final double VALUE) {
+        if (IngestionPolicy.ACCUMULATE == ingestionPolicy) {
+            offeredValues.offer(VALUE);
+        } else {
+            offeredValue.set(Double.doubleToLongBits(VALUE));
+        }
+        markDirty();
+    }
+    /**
+     * Offers the given values to the tile. Can be called from any thread.
+     * With LATEST_WINS only the last value of the batch will be applied.
+     * @param VALUES
+     */
+    public void offerBatch(final double... VALUES) {
+        if (null == VALUES || VALUES.length == 0) { return; }
+        if (IngestionPolicy.ACCUMULATE == ingestionPolicy) {
+            for (double v : VALUES) { offeredValues.offer(v); }
+        } else {
+            offeredValue.set(Double.doubleToLongBits(VALUES[VALUES.length - 1]));
+        }
+        markDirty();
+    }
+    /**
+     * Offers chart data that will be added to the chart data of the tile.
+     * Can be called from any thread, all chart data offered within one frame
+     * will be added with one call to addChartData().
+     * @param DATA
+     */
+    public void offerChartData(final ChartData... DATA) { offerChartDataBatch(Arrays.asList(DATA)); }
+    public void offerChartDataBatch(final Collection<ChartData> DATA) {
+        if (null == DATA || DATA.isEmpty()) { return; }
+        offeredChartData.addAll(DATA);
+        markDirty();
+    }
+
+    private void onValueAnimationFinished() {
+        if (isReturnToZero() && !Helper.equals(currentValue.get(), 0.0)) {
+            Animator.INSTANCE.animate(valueWriter, value.get(), 0, (long) (0.8 * getAnimationDuration()), VALUE_INTERPOLATOR, () -> fireTileEvent(FINISHED_EVENT));
+        }
+        fireTileEvent(FINISHED_EVENT);
+    }
+
+    private void markDirty() {
+        if (dirty.compareAndSet(false, true)) { IngestionDrainer.INSTANCE.markDirty(this); }
+    }
+
+    /**
+     * Will be called once per pulse by the IngestionDrainer if values have
+     * been offered to this tile.
+     */
+    void drainOffered() {
+        dirty.set(false);
+        if (!offeredChartData.isEmpty()) {
+            List<ChartData> data = new ArrayList<>();
+            for (ChartData d = offeredChartData.poll() ; null != d ; d = offeredChartData.poll()) { data.add(d); }
+            addChartData(data);
+        }
+        offeredValues.drain(v -> setValue(v));
+        long bits = offeredValue.getAndSet(NO_OFFERED_VALUE);
+        if (NO_OFFERED_VALUE != bits) { setValue(Double.longBitsToDouble(bits)); }
+    }
+
     /**
      * Returns the current value of the Tile. If animated == true this value
      * represents the current value during the animation. Otherwise it's returns
@@ -1232,7 +1356,7 @@ public class Tile extends Control {
      * @param VALUE
      */
     public void setMinValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        Animator.INSTANCE.complete(currentValueWriter);
         if (null == minValue) {
             if (VALUE > getMaxValue()) { setMaxValue(VALUE); }
             _minValue = clamp(-Double.MAX_VALUE, getMaxValue(), VALUE);
@@ -1281,7 +1405,7 @@ public class Tile extends Control {
      * @param VALUE
      */
     public void setMaxValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        Animator.INSTANCE.complete(currentValueWriter);
         if (null == maxValue) {
             if (VALUE < getMinValue()) { setMinValue(VALUE); }
             _maxValue = clamp(getMinValue(), Double.MAX_VALUE, VALUE);
@@ -2300,6 +2424,53 @@ public class Tile extends Control {
         fireTileEvent(DATA_EVENT);
     }
 
+    /**
+     * Returns a spatial index of the poi's that will be kept in sync with
+     * the poi list. Use it for nearest neighbour, range and bounding box
+     * queries instead of iterating over the poi list.
+     * @return a spatial index of the poi's
+     */
+    public LocationIndex getPoiIndex() {
+        if (null == poiIndex) {
+            poiIndex = new LocationIndex(getPoiList());
+            getPoiList().addListener((ListChangeListener<Location>) change -> {
+                while (change.next()) {
+                    if (change.wasRemoved()) { change.getRemoved().forEach(location -> poiIndex.remove(location)); }
+                    if (change.wasAdded())   { change.getAddedSubList().forEach(location -> poiIndex.add(location)); }
+                }
+            });
+        }
+        return poiIndex;
+    }
+
+    /**
+     * Returns true if the WorldMapTileSkin draws the poi's and the located
+     * chart data on a single canvas layer instead of using one node per
+     * location. This should be used when a large number of locations
+     * (thousands) should be visualized.
+     * This property has to be set before the skin is created.
+     * @return true if the locations will be drawn on a canvas layer
+     */
+    public boolean isLocationLayerEnabled() { return null == locationLayerEnabled ? _locationLayerEnabled : locationLayerEnabled.get(); }
+    public void setLocationLayerEnabled(final boolean ENABLED) {
+        if (null == locationLayerEnabled) {
+            _locationLayerEnabled = ENABLED;
+        } else {
+            if (!locationLayerEnabled.isBound()) {
+                locationLayerEnabled.set(ENABLED);
+            }
+        }
+    }
+    public BooleanProperty locationLayerEnabledProperty() {
+        if (null == locationLayerEnabled) {
+            locationLayerEnabled = new BooleanPropertyBase(_locationLayerEnabled) {
+                @Override public Object getBean() { return Tile.this; }
+                @Override public String getName() { return "locationLayerEnabled"; }
+            };
+        }
+        return locationLayerEnabled;
+    }
+
     public List<Location> getTrack() {
         if (null == track) { track = new ArrayList<>(); }
         return track;
@@ -2428,6 +2599,16 @@ public class Tile extends Control {
         if (null == chartDataList) { chartDataList = FXCollections.observableArrayList(); }
         return chartDataList;
     }
+    /**
+     * Returns the sum, min, max and count of the chart data values. These will
+     * be kept up to date when chart data is added, removed or changes its value,
+     * so skins don't have to iterate over the chart data to get them.
+     * @return the aggregated values of the chart data
+     */
+    public ChartDataAggregate getChartDataAggregate() {
+        if (null == chartDataAggregate) { chartDataAggregate = new ChartDataAggregate(getChartData()); }
+        return chartDataAggregate;
+    }
     public void addChartData(final ChartData... DATA) { addChartData(Arrays.asList(DATA)); }
     public void addChartData(final List<ChartData> DATA) {
         getChartData().addAll(DATA);
@@ -4439,13 +4620,7 @@ public class Tile extends Control {
                     zoneId = get().getZone();
                     fireTileEvent(RECALC_EVENT);
                     if (!isRunning() && isAnimated()) {
-                        long animationDuration = getAnimationDuration();
-                        timeline.stop();
-                        final KeyValue KEY_VALUE = new KeyValue(currentTime, now.toEpochSecond());
-                        final KeyFrame KEY_FRAME = new KeyFrame(javafx.util.Duration.millis(animationDuration), KEY_VALUE);
-                        timeline.getKeyFrames().setAll(KEY_FRAME);
-                        timeline.setOnFinished(e -> fireTileEvent(FINISHED_EVENT));
-                        timeline.play();
+                        Animator.INSTANCE.animate(currentTimeWriter, currentTime.get(), now.toEpochSecond(), getAnimationDuration(), Interpolator.LINEAR, () -> fireTileEvent(FINISHED_EVENT));
                     } else {
                         currentTime.set(now.toEpochSecond());
                         fireTileEvent(FINISHED_EVENT);
@@ -4560,7 +4735,16 @@ public class Tile extends Control {
      * @return an observable list of TimeSection objects
      */
     public ObservableList<TimeSection> getTimeSections() {
-        if (null == timeSections) { timeSections = FXCollections.observableArrayList(); }
+        if (null == timeSections) {
+            timeSections        = FXCollections.observableArrayList();
+            timeSectionTimeline = new TimeSectionTimeline(timeSections);
+            timeSections.addListener((ListChangeListener<TimeSection>) change -> {
+                while (change.next()) {
+                    if (change.wasRemoved()) { change.getRemoved().forEach(section -> timeSectionTimeline.remove(section)); }
+                    if (change.wasAdded())   { change.getAddedSubList().forEach(section -> timeSectionTimeline.add(section)); }
+                }
+            });
+        }
         return timeSections;
     }
     /**
@@ -5277,7 +5461,16 @@ public class Tile extends Control {
      * @return an observable list of Alarm objects
      */
     public ObservableList<Alarm> getAlarms() {
-        if (null == alarms) { alarms = FXCollections.observableArrayList(); }
+        if (null == alarms) {
+            alarms         = FXCollections.observableArrayList();
+            alarmScheduler = new AlarmScheduler(() -> getTime());
+            alarms.addListener((ListChangeListener<Alarm>) change -> {
+                while (change.next()) {
+                    if (change.wasRemoved()) { change.getRemoved().forEach(alarm -> alarmScheduler.remove(alarm)); }
+                    if (change.wasAdded())   { change.getAddedSubList().forEach(alarm -> alarmScheduler.add(alarm)); }
+                }
+            });
+        }
         return alarms;
     }
     /**
@@ -5525,6 +5718,49 @@ public class Tile extends Control {
         return countryGroup;
     }
 
+    /**
+     * Returns the per tile country values and their color scale that will
+     * be used to fill the countries in the WorldMapTileSkin and the
+     * CountryTileSkin. In contrast to Country.setValue() and Country.setColor()
+     * these values are not shared between tiles.
+     * @return the per tile country values and their color scale
+     */
+    public Choropleth getChoropleth() {
+        if (null == choropleth) { choropleth = new Choropleth(); }
+        return choropleth;
+    }
+    public void setChoroplethGradientLookup(final GradientLookup GRADIENT_LOOKUP) {
+        getChoropleth().setGradientLookup(GRADIENT_LOOKUP);
+        fireTileEvent(CHOROPLETH_EVENT);
+    }
+    public void setChoroplethRange(final double MIN_VALUE, final double MAX_VALUE) {
+        getChoropleth().setRange(MIN_VALUE, MAX_VALUE);
+        fireTileEvent(CHOROPLETH_EVENT);
+    }
+    public void setChoroplethAutoRange(final boolean AUTO_RANGE) {
+        if (getChoropleth().setAutoRange(AUTO_RANGE)) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+    public void setChoroplethNoOfBuckets(final int NO_OF_BUCKETS) {
+        if (getChoropleth().setNoOfBuckets(NO_OF_BUCKETS)) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+    public void setCountryValue(final Country COUNTRY, final double VALUE) {
+        if (getChoropleth().setValue(COUNTRY, VALUE)) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+    /**
+     * Updates the values of the given countries in one batch. Only the
+     * countries whose color changed will be updated in the skin.
+     * @param VALUES
+     */
+    public void setCountryValues(final Map<Country, Double> VALUES) {
+        if (getChoropleth().setValues(VALUES)) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+    public void removeCountryValue(final Country COUNTRY) {
+        if (getChoropleth().removeValue(COUNTRY)) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+    public void clearCountryValues() {
+        if (getChoropleth().clear()) { fireTileEvent(CHOROPLETH_EVENT); }
+    }
+
     public boolean getDataPointsVisible() { return null == dataPointsVisible ? _dataPointsVisible : dataPointsVisible.get(); }
     public void setDataPointsVisible(final boolean VISIBLE) {
         if (null == dataPointsVisible) {
@@ -5886,6 +6122,58 @@ public class Tile extends Control {
         fireTileEvent(REDRAW_EVENT);
     }
 
+    /**
+     * Returns the performance counters of this tile like the number of
+     * received values, fired events and the time the skin needs to redraw.
+     * @return the performance counters of this tile
+     */
+    public TileMetrics getMetrics() { return metrics; }
+
+    public boolean isMetricsOverlayEnabled() { return _metricsOverlayEnabled; }
+    /**
+     * If enabled the metrics of this tile will be shown in the tooltip of a
+     * region in the upper left corner (instead of the info region). The
+     * region will be red as long as the average redraw time is over the
+     * redraw budget of the metrics.
+     * @param ENABLED
+     */
+    public void setMetricsOverlayEnabled(final boolean ENABLED) {
+        _metricsOverlayEnabled = ENABLED;
+        fireTileEvent(REDRAW_EVENT);
+    }
+
+    public boolean isStaticLayerCacheEnabled() { return _staticLayerCacheEnabled; }
+    /**
+     * If enabled the nodes of the skin that only change on resize or redraw
+     * (e.g. title, scale and sections) will be rendered into a cached image
+     * and only the dynamic nodes like the needle and the value will be
+     * rendered on every pulse. Only skins that separate their static nodes
+     * into the static layer will benefit from it.
+     * @param ENABLED
+     */
+    public void setStaticLayerCacheEnabled(final boolean ENABLED) {
+        _staticLayerCacheEnabled = ENABLED;
+        fireTileEvent(REDRAW_EVENT);
+    }
+
+    public RenderMode getRenderMode() { return _renderMode; }
+    /**
+     * Defines how skins with many items (e.g. Timeline, ClusterMonitor and
+     * CycleStep) render their items. NODES creates nodes for each item, CANVAS
+     * draws all items into one canvas which keeps the scene graph small and
+     * finds the item under the mouse by hit-testing. Skins without a canvas
+     * implementation will ignore this setting.
+     * A skin that supports the CANVAS render mode will be created again if
+     * the render mode changes.
+     * @param RENDER_MODE
+     */
+    public void setRenderMode(final RenderMode RENDER_MODE) {
+        if (null == RENDER_MODE || _renderMode == RENDER_MODE) { return; }
+        _renderMode = RENDER_MODE;
+        Skin<?> skin = getSkin();
+        if (skin instanceof TileSkin && ((TileSkin) skin).isCanvasRenderModeSupported()) { setSkinType(getSkinType()); }
+    }
+
     /**
      * Returns the lower right region.
      * Only if the getSkin() != null
@@ -6255,6 +6543,23 @@ public class Tile extends Control {
         return numberOfValuesForTrendCalculation;
     }
 
+    /**
+     * Returns the forecaster that will be updated with every new value of the
+     * TimelineTileSkin and that is used to show the trend. It can be queried
+     * for the level, the trend and forecasts of the data.
+     * @return the forecaster that is used for the trend
+     */
+    public HoltWinters getTrendForecaster() { return _trendForecaster; }
+    /**
+     * Defines the forecaster that will be used for the trend, e.g. a
+     * HoltWinters with different smoothing factors or with seasonality.
+     * @param FORECASTER
+     */
+    public void setTrendForecaster(final HoltWinters FORECASTER) {
+        _trendForecaster = null == FORECASTER ? new HoltWinters() : FORECASTER;
+        fireTileEvent(REDRAW_EVENT);
+    }
+
     public void showNotifyRegion(final boolean SHOW) { fireTileEvent(SHOW ? SHOW_NOTIFY_REGION_EVENT : HIDE_NOTIFY_REGION_EVENT); }
 
     public void showInfoRegion(final boolean SHOW) { fireTileEvent(SHOW ? SHOW_INFO_REGION_EVENT : HIDE_INFO_REGION_EVENT); }
@@ -6286,69 +6591,18 @@ public class Tile extends Control {
     }
 
     /**
-     * Calling this method will check the current time against all Alarm
-     * objects in alarms. The Alarm object will fire events in case the
-     * time is after the alarm time.
+     * Calling this method will fire all Alarm objects in alarms that are due
+     * at the given time. The alarms are kept in a queue ordered by the time
+     * they fire next, so only the alarms that are due will be visited.
+     * Alarms with Repetition.ONCE will be removed after they fired.
      * @param TIME
      */
     private void checkAlarms(final ZonedDateTime TIME) {
-        if (null == alarmsToRemove) { alarmsToRemove = new ArrayList<>(); }
-        alarmsToRemove.clear();
-        for (Alarm alarm : alarms) {
-            final ZonedDateTime ALARM_TIME = alarm.getTime();
-            switch (alarm.getRepetition()) {
-                case ONCE:
-                    if (TIME.isAfter(ALARM_TIME)) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                        alarmsToRemove.add(alarm);
-                    }
-                    break;
-                case HALF_HOURLY:
-                    if ((ALARM_TIME.getMinute() == TIME.getMinute() ||
-                         ALARM_TIME.plusMinutes(30).getMinute() == TIME.getMinute()) &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case HOURLY:
-                    if (ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case DAILY:
-                    if (ALARM_TIME.getHour()   == TIME.getHour() &&
-                        ALARM_TIME.getMinute() == TIME.getMinute() &&
-                        ALARM_TIME.getSecond() == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-                case WEEKLY:
-                    if (ALARM_TIME.getDayOfWeek() == TIME.getDayOfWeek() &&
-                        ALARM_TIME.getHour()      == TIME.getHour() &&
-                        ALARM_TIME.getMinute()    == TIME.getMinute() &&
-                        ALARM_TIME.getSecond()    == TIME.getSecond()) {
-                        if (alarm.isArmed()) {
-                            fireAlarmEvent(new AlarmEvent(alarm));
-                            alarm.executeCommand();
-                        }
-                    }
-                    break;
-            }
-        }
-        for (Alarm alarm : alarmsToRemove) { removeAlarm(alarm); }
+        if (null == alarmScheduler) { return; }
+        alarmScheduler.poll(TIME, alarm -> {
+            fireAlarmEvent(new AlarmEvent(alarm));
+            alarm.executeCommand();
+        }, alarm -> removeAlarm(alarm));
     }
 
     private void tick() { Platform.runLater(() -> {
@@ -6356,9 +6610,7 @@ public class Tile extends Control {
         setTime(getTime().plus(java.time.Duration.ofMillis(updateInterval)));
         ZonedDateTime now = time.get();
         if (isAlarmsEnabled()) checkAlarms(now);
-        if (getCheckSectionsForValue() && timeSections != null) {
-            for (TimeSection timeSection : timeSections) { timeSection.checkForTimeAndDate(now); }
-        }
+        if (getCheckSectionsForValue() && timeSectionTimeline != null) { timeSectionTimeline.advance(now); }
 
         if (timeEventListeners.isEmpty()) return;
         // Fire TimeEvents
@@ -6416,8 +6668,13 @@ public class Tile extends Control {
 
     public void fireTileEvent(final TileEvent EVENT) {
         if (null != showing && showing.get()) {
+            TileEventDispatched dispatched = TileEventDispatched.isRecording() ? new TileEventDispatched() : null;
+            if (null != dispatched) { dispatched.begin(); }
+            metrics.eventFired();
             for (TileEventListener listener : tileEventListeners) { listener.onTileEvent(EVENT); }
+            if (null != dispatched) { dispatched.commit(this, EVENT.getEventType().name(), tileEventListeners.size()); }
         } else {
+            metrics.eventQueued();
             tileEventQueue.add(EVENT);
         }
     }
@@ -20,8 +20,10 @@ package eu.hansolo.tilesfx;
 import eu.hansolo.tilesfx.Tile.ChartType;
 import eu.hansolo.tilesfx.Tile.ImageMask;
 import eu.hansolo.tilesfx.Tile.ItemSorting;
+import eu.hansolo.tilesfx.Tile.IngestionPolicy;
 import eu.hansolo.tilesfx.Tile.ItemSortingTopic;
 import eu.hansolo.tilesfx.Tile.MapProvider;
+import eu.hansolo.tilesfx.Tile.RenderMode;
 import eu.hansolo.tilesfx.Tile.SkinType;
 import eu.hansolo.tilesfx.Tile.TextSize;
 import eu.hansolo.tilesfx.Tile.TileColor;
@@ -39,6 +41,7 @@ import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.tools.Country;
 import eu.hansolo.tilesfx.tools.CountryGroup;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.HoltWinters;
 import eu.hansolo.tilesfx.tools.Location;
 import eu.hansolo.tilesfx.tools.MatrixIcon;
 import eu.hansolo.tilesfx.tools.Rank;
@@ -469,6 +472,11 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B ingestionPolicy(final IngestionPolicy POLICY) {
+        properties.put("ingestionPolicy", new SimpleObjectProperty<>(POLICY));
+        return (B)this;
+    }
+
     public final B titleColor(final Color COLOR) {
         properties.put("titleColor", new SimpleObjectProperty<>(COLOR));
         return (B)this;
@@ -808,6 +816,11 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B locationLayerEnabled(final boolean ENABLED) {
+        properties.put("locationLayerEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
     public final B track(final Location... LOCATIONS) {
         properties.put("trackArray", new SimpleObjectProperty(LOCATIONS));
         return (B)this;
@@ -1002,6 +1015,21 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B metricsOverlayEnabled(final boolean ENABLED) {
+        properties.put("metricsOverlayEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
+    public final B staticLayerCacheEnabled(final boolean ENABLED) {
+        properties.put("staticLayerCacheEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
+    public final B renderMode(final RenderMode RENDER_MODE) {
+        properties.put("renderMode", new SimpleObjectProperty<>(RENDER_MODE));
+        return (B)this;
+    }
+
     public final B showInfoRegion(final boolean SHOW) {
         properties.put("showInfoRegion", new SimpleBooleanProperty(SHOW));
         return (B)this;
@@ -1098,6 +1126,11 @@ public class TileBuilder<B extends TileBuilder<B>> {
         return (B)this;
     }
 
+    public final B trendForecaster(final HoltWinters FORECASTER) {
+        properties.put("trendForecaster", new SimpleObjectProperty<>(FORECASTER));
+        return (B)this;
+    }
+
     public final B backgroundImage(final Image IMAGE) {
         properties.put("backgroundImage", new SimpleObjectProperty<>(IMAGE));
         return (B)this;
@@ -1403,6 +1436,11 @@ public class TileBuilder<B extends TileBuilder<B>> {
             TILE = new Tile();
         }
 
+        // The render mode has to be set before the skin will be created
+        if (properties.keySet().contains("renderMode")) {
+            TILE.setRenderMode(((ObjectProperty<RenderMode>) properties.get("renderMode")).get());
+        }
+
         // Make sure that sections, areas and markers will be added first
         if (properties.keySet().contains("sectionsArray")) {
             TILE.setSections(((ObjectProperty<Section[]>) properties.get("sectionsArray")).get());
@@ -1808,6 +1846,8 @@ public class TileBuilder<B extends TileBuilder<B>> {
                 TILE.setItemSorting(((ObjectProperty<ItemSorting>) properties.get(key)).get());
             } else if ("itemSortingTopic".equals(key)) {
                 TILE.setItemSortingTopic(((ObjectProperty<ItemSortingTopic>) properties.get(key)).get());
+            } else if ("ingestionPolicy".equals(key)) {
+                TILE.setIngestionPolicy(((ObjectProperty<IngestionPolicy>) properties.get(key)).get());
             } else if ("dataPointsVisible".equals(key)) {
                 TILE.setDataPointsVisible(((BooleanProperty) properties.get(key)).get());
             } else if ("sunburstTree".equals(key)) {
@@ -1858,6 +1898,10 @@ public class TileBuilder<B extends TileBuilder<B>> {
                 TILE.setInfoRegionTooltipText(((StringProperty) properties.get(key)).get());
             } else if ("showInfoRegion".equals(key)) {
                 TILE.showInfoRegion(((BooleanProperty) properties.get(key)).get());
+            } else if ("metricsOverlayEnabled".equals(key)) {
+                TILE.setMetricsOverlayEnabled(((BooleanProperty) properties.get(key)).get());
+            } else if ("staticLayerCacheEnabled".equals(key)) {
+                TILE.setStaticLayerCacheEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("lowerRightRegionBackgroundColor".equals(key)) {
                 TILE.setLowerRightRegionBackgroundColor(((ObjectProperty<Color>) properties.get(key)).get());
             } else if ("lowerRightRegionForegroundColor".equals(key)) {
@@ -1884,6 +1928,8 @@ public class TileBuilder<B extends TileBuilder<B>> {
                 TILE.setMiddleGraphics(((ObjectProperty<Node>) properties.get(key)).get());
             } else if ("rightGraphics".equals(key)) {
                 TILE.setRightGraphics(((ObjectProperty<Node>) properties.get(key)).get());
+            } else if ("locationLayerEnabled".equals(key)) {
+                TILE.setLocationLayerEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("trendVisible".equals(key)) {
                 TILE.setTrendVisible(((BooleanProperty) properties.get(key)).get());
             } else if ("timeoutMs".equals(key)) {
@@ -1894,6 +1940,8 @@ public class TileBuilder<B extends TileBuilder<B>> {
                 TILE.setInteractive(((BooleanProperty) properties.get(key)).get());
             } else if ("numberOfValuesForTrendCalculation".equals(key)) {
                 TILE.setNumberOfValuesForTrendCalculation(((IntegerProperty) properties.get(key)).get());
+            } else if ("trendForecaster".equals(key)) {
+                TILE.setTrendForecaster(((ObjectProperty<HoltWinters>) properties.get(key)).get());
             } else if ("backgroundImage".equals(key)) {
                 TILE.setBackgroundImage(((ObjectProperty<Image>) properties.get(key)).get());
             } else if ("backgroundImageOpacity".equals(key)) {
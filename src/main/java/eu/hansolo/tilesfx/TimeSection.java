@@ -24,6 +24,9 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventTarget;
@@ -40,6 +43,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -65,7 +69,8 @@ public class TimeSection implements Comparable<TimeSection> {
     private       LocalTime                 checkedValue;
     private       boolean                   _active;
     private       BooleanProperty           active;
-    private       Set<DayOfWeek>            days;
+    private       ObservableSet<DayOfWeek>  days;
+    private       List<TimeSectionTimeline> timelines;
 
 
     // ******************** Constructors **************************************
@@ -112,8 +117,9 @@ public class TimeSection implements Comparable<TimeSection> {
         _textColor      = TEXT_COLOR;
         checkedValue    = LocalTime.MIN;
         _active         = ACTIVE;
-        days            = new HashSet<>(8);
+        days            = FXCollections.observableSet(new HashSet<>(8));
         days.addAll(Arrays.asList(DAYS));
+        days.addListener((SetChangeListener<DayOfWeek>) change -> invalidateTimelines());
     }
 
 
@@ -130,12 +136,17 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStart(final LocalTime START) {
         if (null == start) {
             _start = START;
+            invalidateTimelines();
         } else {
             start.set(START);
         }
     }
     public ObjectProperty<LocalTime> startProperty() {
-        if (null == start) { start = new SimpleObjectProperty<>(TimeSection.this, "start", _start); }
+        if (null == start) {
+            start = new SimpleObjectProperty<>(TimeSection.this, "start", _start) {
+                @Override protected void invalidated() { invalidateTimelines(); }
+            };
+        }
         return start;
     }
 
@@ -151,12 +162,17 @@ public class TimeSection implements Comparable<TimeSection> {
     public void setStop(final LocalTime STOP) {
         if (null == stop) {
             _stop = STOP;
+            invalidateTimelines();
         } else {
             stop.set(STOP);
         }
     }
     public ObjectProperty<LocalTime> stopProperty() {
-        if (null == stop) { stop = new SimpleObjectProperty<>(TimeSection.this, "stop", _stop); }
+        if (null == stop) {
+            stop = new SimpleObjectProperty<>(TimeSection.this, "stop", _stop) {
+                @Override protected void invalidated() { invalidateTimelines(); }
+            };
+        }
         return stop;
     }
 
@@ -300,6 +316,14 @@ public class TimeSection implements Comparable<TimeSection> {
     public void removeDay(final DayOfWeek DAY) { days.remove(DAY); }
     public void clearDays() { days.clear(); }
 
+    void addTimeline(final TimeSectionTimeline TIMELINE) {
+        if (null == timelines) { timelines = new CopyOnWriteArrayList<>(); }
+        timelines.add(TIMELINE);
+    }
+    void removeTimeline(final TimeSectionTimeline TIMELINE) { if (null != timelines) { timelines.remove(TIMELINE); } }
+
+    private void invalidateTimelines() { if (null != timelines) { timelines.forEach(timeline -> timeline.invalidate()); } }
+
 
     /**
      * Returns true if the given time is within the range between
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Compiles the time sections of a tile into a sorted timeline of the instants
+ * when the time enters and leaves a section in the current week. On every
+ * tick only a cursor will be moved forward over the boundaries that have been
+ * crossed since the last tick, so as long as no boundary is crossed the costs
+ * do not depend on the number of sections. Boundaries that have been skipped
+ * because ticks were missed will be fired in their order on the next tick.
+ * Like TimeSection.contains() the time is in a section if it is after the
+ * start and before the stop of the section on one of its days.
+ * After a gap of more than a week only the boundaries of the current week
+ * will be fired. If the sections changed or the time has been set back the
+ * timeline will be compiled again and only the sections whose state differs
+ * from the current time will fire an event.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+class TimeSectionTimeline {
+    private final List<TimeSection> sections;
+    private final Set<TimeSection>  entered;
+    private       ZoneId            zoneId;
+    private       long              weekEnd;
+    private       long              lastTime;
+    private       long[]            times;
+    private       TimeSection[]     boundarySections;
+    private       boolean[]         enters;
+    private       int               size;
+    private       int               cursor;
+    private       boolean           dirty;
+
+
+    // ******************** Constructors **************************************
+    TimeSectionTimeline(final List<TimeSection> SECTIONS) {
+        sections         = SECTIONS;
+        entered          = Collections.newSetFromMap(new IdentityHashMap<>());
+        times            = new long[0];
+        boundarySections = new TimeSection[0];
+        enters           = new boolean[0];
+        dirty            = true;
+    }
+
+
+    // ******************** Methods *******************************************
+    void add(final TimeSection SECTION) {
+        SECTION.addTimeline(this);
+        invalidate();
+    }
+
+    void remove(final TimeSection SECTION) {
+        SECTION.removeTimeline(this);
+        entered.remove(SECTION);
+        invalidate();
+    }
+
+    /**
+     * Will be called if the sections or their start, stop or days changed.
+     */
+    void invalidate() { dirty = true; }
+
+    /**
+     * Fires the events of all section boundaries that have been crossed
+     * between the last call and the given time.
+     * @param TIME the current time
+     */
+    void advance(final ZonedDateTime TIME) {
+        final long now = toNanos(TIME.toInstant());
+        if (dirty || !TIME.getZone().equals(zoneId) || now < lastTime) {
+            compile(TIME);
+            resync(TIME, now);
+        } else {
+            while (true) {
+                while (cursor < size && !dirty && isCrossed(cursor, now)) { fire(cursor++); }
+                if (dirty) {
+                    // A handler changed the sections
+                    compile(TIME);
+                    resync(TIME, now);
+                    break;
+                }
+                if (now < weekEnd) { break; }
+                // No section spans midnight, so no section is entered at the end of the week
+                compile(TIME);
+            }
+        }
+        lastTime = now;
+    }
+
+    private boolean isCrossed(final int INDEX, final long NOW) {
+        // Sections do not contain their start and stop time
+        return enters[INDEX] ? NOW > times[INDEX] : NOW >= times[INDEX];
+    }
+
+    private void fire(final int INDEX) {
+        final TimeSection section = boundarySections[INDEX];
+        final boolean     enter   = enters[INDEX];
+        if (enter ? !entered.add(section) : !entered.remove(section)) { return; }
+        if (section.isActive()) { section.fireTimeSectionEvent(enter ? section.ENTERED_EVENT : section.LEFT_EVENT); }
+    }
+
+    /**
+     * Builds the boundaries of the week that contains the given time and
+     * moves the cursor to the first boundary of that week.
+     */
+    private void compile(final ZonedDateTime TIME) {
+        zoneId = TIME.getZone();
+        final LocalDate      weekStart  = TIME.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        final List<Boundary> boundaries = new ArrayList<>();
+        for (TimeSection section : sections) {
+            final LocalTime start = section.getStart();
+            final LocalTime stop  = section.getStop();
+            if (null == start || null == stop || !stop.isAfter(start)) { continue; }
+            for (DayOfWeek day : section.getDays()) {
+                final LocalDate date = weekStart.plusDays(day.getValue() - 1);
+                boundaries.add(new Boundary(toNanos(ZonedDateTime.of(date, start, zoneId).toInstant()), section, true));
+                boundaries.add(new Boundary(toNanos(ZonedDateTime.of(date, stop, zoneId).toInstant()), section, false));
+            }
+        }
+        // Leaving a section will be fired before entering a section at the same time
+        boundaries.sort(Comparator.<Boundary>comparingLong(boundary -> boundary.time).thenComparing(boundary -> boundary.enter));
+
+        size = boundaries.size();
+        if (times.length < size) {
+            times            = new long[size];
+            boundarySections = new TimeSection[size];
+            enters           = new boolean[size];
+        }
+        for (int i = 0 ; i < size ; i++) {
+            final Boundary boundary = boundaries.get(i);
+            times[i]            = boundary.time;
+            boundarySections[i] = boundary.section;
+            enters[i]           = boundary.enter;
+        }
+        for (int i = size ; i < boundarySections.length ; i++) { boundarySections[i] = null; }
+        weekEnd = toNanos(weekStart.plusWeeks(1).atStartOfDay(zoneId).toInstant());
+        cursor  = 0;
+        dirty   = false;
+    }
+
+    /**
+     * Moves the cursor behind all boundaries before the given time without
+     * firing them and fires the events of the sections whose state differs
+     * from the state at the given time.
+     */
+    private void resync(final ZonedDateTime TIME, final long NOW) {
+        while (cursor < size && isCrossed(cursor, NOW)) { cursor++; }
+        final DayOfWeek         day      = TIME.getDayOfWeek();
+        final LocalTime         time     = TIME.toLocalTime();
+        final List<TimeSection> left     = new ArrayList<>();
+        final List<TimeSection> entering = new ArrayList<>();
+        for (TimeSection section : entered) {
+            if (!section.getDays().contains(day) || !section.contains(time)) { left.add(section); }
+        }
+        for (TimeSection section : sections) {
+            if (!entered.contains(section) && section.getDays().contains(day) && section.contains(time)) { entering.add(section); }
+        }
+        for (TimeSection section : left) {
+            entered.remove(section);
+            if (section.isActive()) { section.fireTimeSectionEvent(section.LEFT_EVENT); }
+        }
+        for (TimeSection section : entering) {
+            if (!entered.add(section)) { continue; }
+            if (section.isActive()) { section.fireTimeSectionEvent(section.ENTERED_EVENT); }
+        }
+    }
+
+    private static long toNanos(final Instant INSTANT) { return INSTANT.getEpochSecond() * 1_000_000_000L + INSTANT.getNano(); }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Boundary {
+        final long        time;
+        final TimeSection section;
+        final boolean     enter;
+
+        Boundary(final long TIME, final TimeSection SECTION, final boolean ENTER) {
+            time    = TIME;
+            section = SECTION;
+            enter   = ENTER;
+        }
+    }
+}
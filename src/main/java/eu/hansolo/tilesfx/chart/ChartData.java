@@ -21,12 +21,10 @@ import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.events.ChartDataEvent;
 import eu.hansolo.tilesfx.events.ChartDataEvent.EventType;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import eu.hansolo.tilesfx.tools.Animator;
 import eu.hansolo.tilesfx.tools.GradientLookup;
 import eu.hansolo.tilesfx.tools.Location;
 import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
 import javafx.beans.property.ObjectProperty;
@@ -35,7 +33,6 @@ import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
-import javafx.util.Duration;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -44,6 +41,7 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleConsumer;
 
 import static eu.hansolo.tilesfx.tools.Helper.clamp;
 
@@ -72,7 +70,9 @@ public class ChartData implements Comparable<ChartData> {
     protected       DoubleProperty                     currentValue;
     protected       ObjectProperty<java.time.Duration> currentDuration;
     protected       ObjectProperty<Instant>            currentTimestamp;
-    protected       Timeline                           timeline;
+    protected       DoubleConsumer                     currentValueWriter;
+    protected       DoubleConsumer                     currentTimestampWriter;
+    protected       DoubleConsumer                     currentDurationWriter;
     protected       String                             formatString;
     protected       double                             minValue;
     protected       double                             maxValue;
@@ -170,15 +170,15 @@ public class ChartData implements Comparable<ChartData> {
             @Override public Object getBean() { return ChartData.this; }
             @Override public String getName() { return "currentTimestamp"; }
         };
-        timeline           = new Timeline();
+        currentValueWriter     = v -> currentValue.set(v);
+        currentTimestampWriter = v -> currentTimestamp.set(Instant.ofEpochMilli(Math.round(v)));
+        currentDurationWriter  = v -> currentDuration.set(java.time.Duration.ofMillis(Math.round(v)));
         animated           = ANIMATED;
         animationDuration  = ANIMATION_DURATION;
         formatString       = "";
         minValue           = 0;
         maxValue           = 100;
         useChartDataColors = false;
-
-        timeline.setOnFinished(e -> fireChartDataEvent(FINISHED_EVENT));
     }
 
 
@@ -201,13 +201,7 @@ public class ChartData implements Comparable<ChartData> {
         if (animated) {
             oldValue = value;
             value    = VALUE;
-            timeline.stop();
-            KeyValue kv1 = new KeyValue(currentValue, oldValue, Interpolator.EASE_BOTH);
-            KeyValue kv2 = new KeyValue(currentValue, VALUE, Interpolator.EASE_BOTH);
-            KeyFrame kf1 = new KeyFrame(Duration.ZERO, kv1);
-            KeyFrame kf2 = new KeyFrame(Duration.millis(animationDuration), kv2);
-            timeline.getKeyFrames().setAll(kf1, kf2);
-            timeline.play();
+            Animator.INSTANCE.animate(currentValueWriter, oldValue, VALUE, animationDuration, Interpolator.EASE_BOTH, () -> fireChartDataEvent(FINISHED_EVENT));
         } else {
             oldValue = value;
             value    = VALUE;
@@ -243,13 +237,7 @@ public class ChartData implements Comparable<ChartData> {
         if (animated) {
             oldTimestamp = timestamp;
             timestamp    = TIMESTAMP;
-            timeline.stop();
-            KeyValue kv1 = new KeyValue(currentTimestamp, oldTimestamp, Interpolator.EASE_BOTH);
-            KeyValue kv2 = new KeyValue(currentTimestamp, TIMESTAMP, Interpolator.EASE_BOTH);
-            KeyFrame kf1 = new KeyFrame(Duration.ZERO, kv1);
-            KeyFrame kf2 = new KeyFrame(Duration.millis(animationDuration), kv2);
-            timeline.getKeyFrames().setAll(kf1, kf2);
-            timeline.play();
+            Animator.INSTANCE.animate(currentTimestampWriter, oldTimestamp.toEpochMilli(), TIMESTAMP.toEpochMilli(), animationDuration, Interpolator.EASE_BOTH, () -> fireChartDataEvent(FINISHED_EVENT));
         } else {
             oldTimestamp = timestamp;
             timestamp    = TIMESTAMP;
@@ -264,13 +252,7 @@ public class ChartData implements Comparable<ChartData> {
         if (animated) {
             oldDuration = duration;
             duration    = DURATION;
-            timeline.stop();
-            KeyValue kv1 = new KeyValue(currentDuration, oldDuration, Interpolator.EASE_BOTH);
-            KeyValue kv2 = new KeyValue(currentDuration, DURATION, Interpolator.EASE_BOTH);
-            KeyFrame kf1 = new KeyFrame(Duration.ZERO, kv1);
-            KeyFrame kf2 = new KeyFrame(Duration.millis(animationDuration), kv2);
-            timeline.getKeyFrames().setAll(kf1, kf2);
-            timeline.play();
+            Animator.INSTANCE.animate(currentDurationWriter, oldDuration.toMillis(), DURATION.toMillis(), animationDuration, Interpolator.EASE_BOTH, () -> fireChartDataEvent(FINISHED_EVENT));
         } else {
             oldDuration = duration;
             duration    = DURATION;
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.chart;
+
+import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Keeps the sum, min, max and count of the values of an observable list of
+ * ChartData up to date. The aggregates are updated from the list changes and
+ * the ChartDataEvents of the contained ChartData, so reading them does not
+ * need to iterate over the list. Optionally a list of the ChartData sorted by
+ * their value can be maintained.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class ChartDataAggregate {
+    private static final int                             RESYNC_INTERVAL = 4096;
+    private        final ObservableList<ChartData>       dataList;
+    private        final Map<ChartData, Entry>           entries;
+    private        final ListChangeListener<ChartData>   listListener;
+    private        final ChartDataEventListener          dataListener;
+    private              double                          sum;
+    private              double                          min;
+    private              double                          max;
+    private              boolean                         minMaxDirty;
+    private              int                             updatesSinceResync;
+    private              boolean                         sortedIndexEnabled;
+    private              List<ChartData>                 sortedList;
+    private              List<ChartData>                 sortedListView;
+
+
+    // ******************** Constructors **************************************
+    public ChartDataAggregate(final ObservableList<ChartData> DATA_LIST) {
+        dataList     = DATA_LIST;
+        entries      = new IdentityHashMap<>();
+        sortedList   = new ArrayList<>();
+        listListener = change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) { change.getRemoved().forEach(data -> remove(data)); }
+                if (change.wasAdded())   { change.getAddedSubList().forEach(data -> add(data)); }
+            }
+        };
+        dataListener = e -> update(e.getData());
+        minMaxDirty  = true;
+        dataList.forEach(data -> add(data));
+        dataList.addListener(listListener);
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getCount() { return dataList.size(); }
+
+    public double getSum() { return sum; }
+
+    public double getMin() {
+        validateMinMax();
+        return min;
+    }
+
+    public double getMax() {
+        validateMinMax();
+        return max;
+    }
+
+    public double getAverage() { return dataList.isEmpty() ? 0 : sum / dataList.size(); }
+
+    public boolean isSortedIndexEnabled() { return sortedIndexEnabled; }
+    /**
+     * Enables a list of the ChartData that is kept sorted by value in ascending
+     * order. Changed values will be moved to their new position with a binary
+     * search instead of sorting the whole list again.
+     * @param ENABLED
+     */
+    public void setSortedIndexEnabled(final boolean ENABLED) {
+        if (sortedIndexEnabled == ENABLED) { return; }
+        sortedIndexEnabled = ENABLED;
+        sortedList.clear();
+        if (ENABLED) {
+            sortedList.addAll(dataList);
+            sortedList.sort((d1, d2) -> Double.compare(entries.get(d1).value, entries.get(d2).value));
+        }
+        sortedListView = null;
+    }
+
+    /**
+     * Returns the ChartData sorted by their value in ascending order.
+     * Enables the sorted index if it was not enabled before.
+     * @return the ChartData sorted by their value in ascending order
+     */
+    public List<ChartData> getSortedAscending() {
+        setSortedIndexEnabled(true);
+        if (null == sortedListView) { sortedListView = Collections.unmodifiableList(sortedList); }
+        return sortedListView;
+    }
+
+    /**
+     * Returns the ChartData sorted by their value in descending order.
+     * Enables the sorted index if it was not enabled before.
+     * @return the ChartData sorted by their value in descending order
+     */
+    public List<ChartData> getSortedDescending() {
+        List<ChartData> descending = new ArrayList<>(getSortedAscending());
+        Collections.reverse(descending);
+        return descending;
+    }
+
+    public void dispose() {
+        dataList.removeListener(listListener);
+        entries.keySet().forEach(data -> data.removeChartDataEventListener(dataListener));
+        entries.clear();
+        sortedList.clear();
+    }
+
+    private void add(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) {
+            entry = new Entry(DATA.getValue());
+            entries.put(DATA, entry);
+            DATA.addChartDataEventListener(dataListener);
+        }
+        entry.count++;
+        sum += entry.value;
+        if (!minMaxDirty) {
+            min = Math.min(min, entry.value);
+            max = Math.max(max, entry.value);
+        }
+        if (sortedIndexEnabled) { sortedList.add(insertionIndex(entry.value), DATA); }
+    }
+
+    private void remove(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) { return; }
+        if (sortedIndexEnabled) { sortedList.remove(indexOf(DATA, entry.value)); }
+        entry.count--;
+        if (0 == entry.count) {
+            entries.remove(DATA);
+            DATA.removeChartDataEventListener(dataListener);
+        }
+        sum -= entry.value;
+        if (entry.value <= min || entry.value >= max) { minMaxDirty = true; }
+    }
+
+    private void update(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) { return; }
+        double oldValue = entry.value;
+        double newValue = DATA.getValue();
+        if (Double.compare(oldValue, newValue) == 0) { return; }
+
+        if (sortedIndexEnabled) {
+            for (int i = 0 ; i < entry.count ; i++) { sortedList.remove(indexOf(DATA, oldValue)); }
+        }
+        entry.value = newValue;
+        sum += (newValue - oldValue) * entry.count;
+        if (sortedIndexEnabled) {
+            for (int i = 0 ; i < entry.count ; i++) { sortedList.add(insertionIndex(newValue), DATA); }
+        }
+
+        if (!minMaxDirty) {
+            if (oldValue <= min && newValue > oldValue || oldValue >= max && newValue < oldValue) {
+                minMaxDirty = true;
+            } else {
+                min = Math.min(min, newValue);
+                max = Math.max(max, newValue);
+            }
+        }
+
+        // Avoid that rounding errors of the running sum accumulate
+        if (++updatesSinceResync >= RESYNC_INTERVAL) { resyncSum(); }
+    }
+
+    private void validateMinMax() {
+        if (!minMaxDirty) { return; }
+        if (entries.isEmpty()) {
+            min = 0;
+            max = 0;
+        } else if (sortedIndexEnabled) {
+            min = entries.get(sortedList.get(0)).value;
+            max = entries.get(sortedList.get(sortedList.size() - 1)).value;
+        } else {
+            min = Double.MAX_VALUE;
+            max = -Double.MAX_VALUE;
+            for (Entry entry : entries.values()) {
+                min = Math.min(min, entry.value);
+                max = Math.max(max, entry.value);
+            }
+        }
+        minMaxDirty = entries.isEmpty();
+    }
+
+    private void resyncSum() {
+        double s = 0;
+        for (Entry entry : entries.values()) { s += entry.value * entry.count; }
+        sum                = s;
+        updatesSinceResync = 0;
+    }
+
+    /**
+     * Returns the index after the last element with a value <= VALUE so that
+     * ChartData with equal values keep the order in which they were added.
+     */
+    private int insertionIndex(final double VALUE) {
+        int low  = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(sortedList.get(mid)).value <= VALUE) { low = mid + 1; } else { high = mid; }
+        }
+        return low;
+    }
+
+    private int indexOf(final ChartData DATA, final double VALUE) {
+        int low  = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(sortedList.get(mid)).value < VALUE) { low = mid + 1; } else { high = mid; }
+        }
+        for (int i = low ; i < sortedList.size() ; i++) {
+            if (sortedList.get(i) == DATA) { return i; }
+        }
+        return sortedList.indexOf(DATA);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry {
+        double value;
+        int    count;
+
+        Entry(final double VALUE) { value = VALUE; }
+    }
+}
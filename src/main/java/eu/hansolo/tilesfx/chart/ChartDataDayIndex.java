@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.chart;
+
+import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Groups the ChartData of an observable list by the day of their timestamp
+ * in a given time zone. The index is built once and then updated from the
+ * list changes and the ChartDataEvents of the contained ChartData, so the
+ * timestamp of each ChartData only has to be converted to a date again if it
+ * changed. Looking up the ChartData of a day does not iterate over the list.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class ChartDataDayIndex {
+    private final ObservableList<ChartData>       dataList;
+    private final Map<LocalDate, List<ChartData>> days;
+    private final Map<ChartData, Entry>           entries;
+    private final ListChangeListener<ChartData>   listListener;
+    private final ChartDataEventListener          dataListener;
+    private       ZoneId                          zoneId;
+
+
+    // ******************** Constructors **************************************
+    public ChartDataDayIndex(final ObservableList<ChartData> DATA_LIST) {
+        this(DATA_LIST, ZoneId.systemDefault());
+    }
+    public ChartDataDayIndex(final ObservableList<ChartData> DATA_LIST, final ZoneId ZONE_ID) {
+        dataList     = DATA_LIST;
+        days         = new HashMap<>();
+        entries      = new IdentityHashMap<>();
+        zoneId       = null == ZONE_ID ? ZoneId.systemDefault() : ZONE_ID;
+        listListener = change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) { change.getRemoved().forEach(data -> remove(data)); }
+                if (change.wasAdded())   { change.getAddedSubList().forEach(data -> add(data)); }
+            }
+        };
+        dataListener = e -> update(e.getData());
+        dataList.forEach(data -> add(data));
+        dataList.addListener(listListener);
+    }
+
+
+    // ******************** Methods *******************************************
+    public ZoneId getZoneId() { return zoneId; }
+    /**
+     * Sets the time zone that will be used to get the day of the timestamps.
+     * The index will only be rebuilt if the zone differs from the current one.
+     * @param ZONE_ID
+     */
+    public void setZoneId(final ZoneId ZONE_ID) {
+        if (null == ZONE_ID || zoneId.equals(ZONE_ID)) { return; }
+        zoneId = ZONE_ID;
+        days.clear();
+        entries.forEach((data, entry) -> {
+            entry.day = toLocalDate(entry.timestamp);
+            for (int i = 0 ; i < entry.count ; i++) { addToDay(entry.day, data); }
+        });
+    }
+
+    /**
+     * Returns the number of ChartData with a timestamp on the given day.
+     * @param DATE
+     * @return the number of ChartData with a timestamp on the given day
+     */
+    public int getCount(final LocalDate DATE) {
+        List<ChartData> dataOfDay = days.get(DATE);
+        return null == dataOfDay ? 0 : dataOfDay.size();
+    }
+
+    public boolean hasData(final LocalDate DATE) { return days.containsKey(DATE); }
+
+    /**
+     * Returns the ChartData with a timestamp on the given day in the order
+     * in which they have been added.
+     * @param DATE
+     * @return the ChartData with a timestamp on the given day
+     */
+    public List<ChartData> getData(final LocalDate DATE) {
+        List<ChartData> dataOfDay = days.get(DATE);
+        return null == dataOfDay ? Collections.emptyList() : Collections.unmodifiableList(dataOfDay);
+    }
+
+    public void dispose() {
+        dataList.removeListener(listListener);
+        entries.keySet().forEach(data -> data.removeChartDataEventListener(dataListener));
+        entries.clear();
+        days.clear();
+    }
+
+    private void add(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) {
+            entry = new Entry(DATA.getTimestamp(), toLocalDate(DATA.getTimestamp()));
+            entries.put(DATA, entry);
+            DATA.addChartDataEventListener(dataListener);
+        }
+        entry.count++;
+        addToDay(entry.day, DATA);
+    }
+
+    private void remove(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) { return; }
+        entry.count--;
+        if (0 == entry.count) {
+            entries.remove(DATA);
+            DATA.removeChartDataEventListener(dataListener);
+        }
+        removeFromDay(entry.day, DATA);
+    }
+
+    private void update(final ChartData DATA) {
+        Entry entry = entries.get(DATA);
+        if (null == entry) { return; }
+        Instant timestamp = DATA.getTimestamp();
+        // Most events are value changes, only convert the timestamp if it changed
+        if (entry.timestamp == timestamp || (null != timestamp && timestamp.equals(entry.timestamp))) { return; }
+        LocalDate day = toLocalDate(timestamp);
+        entry.timestamp = timestamp;
+        if (day.equals(entry.day)) { return; }
+        for (int i = 0 ; i < entry.count ; i++) {
+            removeFromDay(entry.day, DATA);
+            addToDay(day, DATA);
+        }
+        entry.day = day;
+    }
+
+    private void addToDay(final LocalDate DAY, final ChartData DATA) {
+        days.computeIfAbsent(DAY, day -> new ArrayList<>()).add(DATA);
+    }
+
+    private void removeFromDay(final LocalDate DAY, final ChartData DATA) {
+        List<ChartData> dataOfDay = days.get(DAY);
+        if (null == dataOfDay) { return; }
+        for (int i = dataOfDay.size() - 1 ; i >= 0 ; i--) {
+            if (dataOfDay.get(i) == DATA) {
+                dataOfDay.remove(i);
+                break;
+            }
+        }
+        if (dataOfDay.isEmpty()) { days.remove(DAY); }
+    }
+
+    private LocalDate toLocalDate(final Instant TIMESTAMP) {
+        return null == TIMESTAMP ? LocalDate.MIN : LocalDate.ofInstant(TIMESTAMP, zoneId);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Entry {
+        Instant   timestamp;
+        LocalDate day;
+        int       count;
+
+        Entry(final Instant TIMESTAMP, final LocalDate DAY) {
+            timestamp = TIMESTAMP;
+            day       = DAY;
+        }
+    }
+}
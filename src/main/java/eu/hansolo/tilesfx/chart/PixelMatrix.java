@@ -37,6 +37,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 
+import java.util.BitSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 
@@ -66,6 +67,7 @@ public class PixelMatrix extends Region {
     private              int                                            cols;
     private              int                                            rows;
     private              int[][]                                        matrix;
+    private              BitSet                                         changedPixels;
     private              MatrixFont                                     matrixFont;
     private              int                                            characterWidth;
     private              int                                            characterHeight;
@@ -106,6 +108,7 @@ public class PixelMatrix extends Region {
         cols                   = COLS;
         rows                   = ROWS;
         matrix                 = new int[cols][rows];
+        changedPixels          = new BitSet(cols * rows);
         matrixFont             = FONT;
         characterWidth         = matrixFont.getCharacterWidth();
         characterHeight        = matrixFont.getCharacterHeight();
@@ -158,9 +161,10 @@ public class PixelMatrix extends Region {
 
     public void setColsAndRows(final int[] COLS_AND_ROWS) { setColsAndRows(COLS_AND_ROWS[0], COLS_AND_ROWS[1]); }
     public void setColsAndRows(final int COLS, final int ROWS) {
-        cols   = COLS;
-        rows   = ROWS;
-        matrix = new int[cols][rows];
+        cols          = COLS;
+        rows          = ROWS;
+        matrix        = new int[cols][rows];
+        changedPixels = new BitSet(cols * rows);
         initGraphics();
         resize();
     }
@@ -222,7 +226,23 @@ public class PixelMatrix extends Region {
     public void setPixel(final int X, final int Y, final int COLOR_VALUE) {
         if (X >= cols || X < 0) return;
         if (Y >= rows || Y < 0) return;
+        if (matrix[X][Y] == COLOR_VALUE) return;
         matrix[X][Y] = COLOR_VALUE;
+        changedPixels.set(X * rows + Y);
+    }
+
+    /**
+     * Sets the pixels of the given column from the given row to the bottom to
+     * the on color and all pixels above to the off color. Only pixels that
+     * change their color will be drawn by the next call of drawChangedPixels().
+     * @param X the column
+     * @param FIRST_ON_ROW the first row (from the top) that will be set to the on color
+     * @param ON_COLOR_VALUE the color of the pixels from FIRST_ON_ROW to the bottom
+     * @param OFF_COLOR_VALUE the color of the pixels above FIRST_ON_ROW
+     */
+    public void setColumn(final int X, final int FIRST_ON_ROW, final int ON_COLOR_VALUE, final int OFF_COLOR_VALUE) {
+        if (X >= cols || X < 0) return;
+        for (int y = 0 ; y < rows ; y++) { setPixel(X, y, y < FIRST_ON_ROW ? OFF_COLOR_VALUE : ON_COLOR_VALUE); }
     }
 
     public void setPixelWithRedraw(final int X, final int Y, final boolean ON) {
@@ -368,7 +388,22 @@ public class PixelMatrix extends Region {
     public boolean isInnerShadowEnabled() { return innerShadowEnabled; }
     public void setInnerShadowEnabled(final boolean ENABLED) { innerShadowEnabled = ENABLED; }
 
+    /**
+     * Only draws the pixels that changed their color since the last call of
+     * drawMatrix() or drawChangedPixels().
+     */
+    public void drawChangedPixels() {
+        if (changedPixels.isEmpty()) { return; }
+        CtxBounds      bounds      = new CtxBounds(pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
+        CtxCornerRadii cornerRadii = new CtxCornerRadii(pixelSize * 0.125);
+        for (int i = changedPixels.nextSetBit(0) ; i >= 0 ; i = changedPixels.nextSetBit(i + 1)) {
+            drawPixel(i / rows, i % rows, bounds, cornerRadii);
+        }
+        changedPixels.clear();
+    }
+
     public void drawMatrix() {
+        changedPixels.clear();
         ctx.clearRect(0, 0, width, height);
         switch(pixelShape) {
             case ROUNDED_RECT:
@@ -413,6 +448,31 @@ public class PixelMatrix extends Region {
         }
     }
 
+    private void drawPixel(final int X, final int Y, final CtxBounds BOUNDS, final CtxCornerRadii CORNER_RADII) {
+        double x = X * pixelWidth;
+        double y = Y * pixelHeight;
+        ctx.clearRect(x, y, pixelWidth, pixelHeight);
+        ctx.save();
+        if (innerShadowEnabled) { ctx.setEffect(innerShadow); }
+        ctx.setFill(convertToColor(matrix[X][Y]));
+        switch(pixelShape) {
+            case ROUNDED_RECT:
+                BOUNDS.setX(x + spacer);
+                BOUNDS.setY(y + spacer);
+                Helper.drawRoundedRect(ctx, BOUNDS, CORNER_RADII);
+                ctx.fill();
+                break;
+            case ROUND:
+                ctx.fillOval(x + spacer, y + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
+                break;
+            case SQUARE:
+            default    :
+                ctx.fillRect(x + spacer, y + spacer, pixelWidthMinusDoubleSpacer, pixelHeightMinusDoubleSpacer);
+                break;
+        }
+        ctx.restore();
+    }
+
     public void setOnPixelMatrixEvent(final PixelMatrixEventListener LISTENER) { addPixelMatrixEventListener(LISTENER); }
     public void addPixelMatrixEventListener(final PixelMatrixEventListener LISTENER) { if (!listeners.contains(LISTENER)) listeners.add(LISTENER); }
     public void removePixelMatrixEventListener(final PixelMatrixEventListener LISTENER) { if (listeners.contains(LISTENER)) listeners.remove(LISTENER); }
@@ -19,8 +19,8 @@ package eu.hansolo.tilesfx.chart;
 
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.tools.CatmullRom;
 import eu.hansolo.tilesfx.tools.Helper;
-import eu.hansolo.tilesfx.tools.Point;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
@@ -715,33 +715,40 @@ public class RadarChart extends Region {
                 if (isSmoothing()) {
                     double      radAngle     = Math.toRadians(180);
                     double      radAngleStep = Math.toRadians(angleStep);
-                    List<Point> points       = new ArrayList<>();
+                    int         noOfPoints   = NO_OF_SECTORS + 2;
+                    double[]    xs           = new double[noOfPoints];
+                    double[]    ys           = new double[noOfPoints];
+                    int         index        = 0;
 
                     double x = CENTER_X + (-Math.sin(radAngle) * (CENTER_Y - (0.36239 * size)));
                     double y = CENTER_Y + (+Math.cos(radAngle) * (CENTER_Y - (0.36239 * size)));
-                    points.add(new Point(x, y));
+                    xs[index]   = x;
+                    ys[index++] = y;
 
                     for (int i = 0 ; i < NO_OF_SECTORS ; i++) {
                         double r1 = clamp(0, CIRCLE_RADIUS, (CENTER_Y - (CENTER_Y - OFFSET - ((data.get(i).getValue() - MIN_VALUE) / DATA_RANGE) * RANGE)));
                         x = CENTER_X + (-Math.sin(radAngle) * r1);
                         y = CENTER_Y + (+Math.cos(radAngle) * r1);
-                        points.add(new Point(x, y));
+                        xs[index]   = x;
+                        ys[index++] = y;
                         radAngle += radAngleStep;
                     }
                     double r3 = clamp(0, CIRCLE_RADIUS, (CENTER_Y - (CENTER_Y - OFFSET - ((data.get(NO_OF_SECTORS - 1).getValue() - MIN_VALUE) / DATA_RANGE) * RANGE)));
                     x = CENTER_X + (-Math.sin(radAngle) * r3);
                     y = CENTER_Y + (+Math.cos(radAngle) * r3);
-                    points.add(new Point(x, y));
+                    xs[index]   = x;
+                    ys[index++] = y;
 
-                    Point[] interpolatedPoints = Helper.subdividePoints(points.toArray(new Point[0]), 8);
+                    int      noOfInterpolatedPoints = CatmullRom.getNoOfSubdividedPoints(noOfPoints, 8);
+                    double[] interpolatedXs         = new double[noOfInterpolatedPoints];
+                    double[] interpolatedYs         = new double[noOfInterpolatedPoints];
+                    CatmullRom.subdivide(xs, ys, noOfPoints, 8, interpolatedXs, interpolatedYs);
 
                     chartCtx.beginPath();
-                    chartCtx.moveTo(interpolatedPoints[0].getX(), interpolatedPoints[0].getY());
-                    for (int i = 0 ; i < interpolatedPoints.length - 1 ; i++) {
-                        Point point = interpolatedPoints[i];
-                        chartCtx.lineTo(point.getX(), point.getY());
+                    chartCtx.moveTo(interpolatedXs[0], interpolatedYs[0]);
+                    for (int i = 0 ; i < noOfInterpolatedPoints ; i++) {
+                        chartCtx.lineTo(interpolatedXs[i], interpolatedYs[i]);
                     }
-                    chartCtx.lineTo(interpolatedPoints[interpolatedPoints.length - 1].getX(), interpolatedPoints[interpolatedPoints.length - 1].getY());
                     chartCtx.closePath();
 
                     chartCtx.fill();
@@ -19,8 +19,8 @@ package eu.hansolo.tilesfx.chart;
 
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.tools.CatmullRom;
 import eu.hansolo.tilesfx.tools.Helper;
-import eu.hansolo.tilesfx.tools.Point;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
@@ -728,7 +728,10 @@ public class RadarNodeChart extends Region {
                 if (isSmoothing()) {
                     double      radAngle     = Math.toRadians(180);
                     double      radAngleStep = Math.toRadians(angleStep);
-                    List<Point> points       = new ArrayList<>();
+                    int         noOfPoints   = NO_OF_SECTORS + 1;
+                    double[]    xs           = new double[noOfPoints];
+                    double[]    ys           = new double[noOfPoints];
+                    int         index        = 0;
 
                     double x;
                     double y;
@@ -736,22 +739,25 @@ public class RadarNodeChart extends Region {
                         double r1 = clamp(0, CIRCLE_RADIUS, (CENTER_Y - (CENTER_Y - OFFSET - ((data.get(i).getValue() - MIN_VALUE) / DATA_RANGE) * RANGE)));
                         x = CENTER_X + (-Math.sin(radAngle) * r1);
                         y = CENTER_Y + (+Math.cos(radAngle) * r1);
-                        points.add(new Point(x, y));
+                        xs[index]   = x;
+                        ys[index++] = y;
                         radAngle += radAngleStep;
                     }
                     double r3 = clamp(0, CIRCLE_RADIUS, (CENTER_Y - (CENTER_Y - OFFSET - ((data.get(NO_OF_SECTORS - 1).getValue() - MIN_VALUE) / DATA_RANGE) * RANGE)));
                     x = CENTER_X + (-Math.sin(radAngle) * r3);
                     y = CENTER_Y + (+Math.cos(radAngle) * r3);
-                    points.add(new Point(x, y));
+                    xs[index]   = x;
+                    ys[index++] = y;
 
-                    Point[] interpolatedPoints = Helper.subdividePoints(points.toArray(new Point[0]), 8);
+                    int      noOfInterpolatedPoints = CatmullRom.getNoOfSubdividedPoints(noOfPoints, 8);
+                    double[] interpolatedXs         = new double[noOfInterpolatedPoints];
+                    double[] interpolatedYs         = new double[noOfInterpolatedPoints];
+                    CatmullRom.subdivide(xs, ys, noOfPoints, 8, interpolatedXs, interpolatedYs);
 
-                    chartPath.getElements().add(new MoveTo(interpolatedPoints[0].getX(), interpolatedPoints[0].getY()));
-                    for (int i = 0 ; i < interpolatedPoints.length - 1 ; i++) {
-                        Point point = interpolatedPoints[i];
-                        chartPath.getElements().add(new LineTo(point.getX(), point.getY()));
+                    chartPath.getElements().add(new MoveTo(interpolatedXs[0], interpolatedYs[0]));
+                    for (int i = 0 ; i < noOfInterpolatedPoints ; i++) {
+                        chartPath.getElements().add(new LineTo(interpolatedXs[i], interpolatedYs[i]));
                     }
-                    chartPath.getElements().add(new LineTo(interpolatedPoints[interpolatedPoints.length - 1].getX(), interpolatedPoints[interpolatedPoints.length - 1].getY()));
                 } else {
                     chartPath.getElements().add(new MoveTo(CENTER_X, 0.28571 * CIRCLE_RADIUS));
                     for (int i = 0; i < NO_OF_SECTORS; i++) {
@@ -20,11 +20,14 @@ package eu.hansolo.tilesfx.chart;
 //import com.sun.javafx.charts.Legend;
 //import com.sun.javafx.charts.Legend.LegendItem;
 import eu.hansolo.tilesfx.events.SmoothedChartEvent;
+import eu.hansolo.tilesfx.tools.CatmullRom;
 import eu.hansolo.tilesfx.tools.Helper;
-import eu.hansolo.tilesfx.tools.Point;
 import javafx.animation.FadeTransition;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
+import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
@@ -33,6 +36,7 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.IntegerPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -70,8 +74,12 @@ import javafx.scene.shape.PathElement;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -105,6 +113,8 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
     private              PauseTransition                  timeBeforeFadeOut;
     private              SequentialTransition             fadeInFadeOut;
     private              List<Path>                       strokePaths;
+    private              Map<Series<X, Y>, Geometry>      geometries;
+    private              Map<Series<X, Y>, DoubleProperty> seriesYMultipliers;
     private              boolean                          _interactive;
     private              BooleanProperty                  interactive;
     private              double                           _tooltipTimeout;
@@ -145,6 +155,7 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
         _tooltipTimeout            = 2000;
         formatString               = "%.2f";
         strokePaths                = new ArrayList<>();
+        geometries                 = new IdentityHashMap<>();
         clickHandler               = e -> select(e);
         endOfTransformationHandler = e -> selectorTooltip.hide();
         seriesListener             = change -> {
@@ -168,6 +179,7 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
                         fillPath.removeEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
                         strokePath.removeEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
                         strokePaths.remove(strokePath);
+                        geometries.remove(series);
                     });
                 }
             }
@@ -679,14 +691,56 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
 
 
     // ******************** Internal Methods **********************************
+    /**
+     * The AreaChart keeps the y multiplier that animates a new series private,
+     * so the smoothed paths need their own one. Might be called from the
+     * constructor of the AreaChart, so the map will be created lazily.
+     */
+    @Override protected void seriesAdded(final Series<X, Y> SERIES, final int SERIES_INDEX) {
+        super.seriesAdded(SERIES, SERIES_INDEX);
+        final DoubleProperty seriesYMultiplier = new SimpleDoubleProperty(this, "seriesYMultiplier", 1);
+        if (null == seriesYMultipliers) { seriesYMultipliers = new IdentityHashMap<>(); }
+        seriesYMultipliers.put(SERIES, seriesYMultiplier);
+        if (shouldAnimate()) {
+            animate(new Timeline(new KeyFrame(Duration.ZERO, new KeyValue(seriesYMultiplier, 0)),
+                                 new KeyFrame(Duration.millis(500), new KeyValue(seriesYMultiplier, 1))));
+        }
+    }
+
+    @Override protected void seriesRemoved(final Series<X, Y> SERIES) {
+        super.seriesRemoved(SERIES);
+        if (null != seriesYMultipliers) { seriesYMultipliers.remove(SERIES); }
+    }
+
+    private double getSeriesYMultiplier(final Series<X, Y> SERIES) {
+        final DoubleProperty seriesYMultiplier = null == seriesYMultipliers ? null : seriesYMultipliers.get(SERIES);
+        return null == seriesYMultiplier ? 1 : seriesYMultiplier.get();
+    }
+
     @Override protected void layoutPlotChildren() {
-        super.layoutPlotChildren();
+        if (isSmoothed()) {
+            // The paths are created from the data, the AreaChart paths are not needed
+            double height = getLayoutBounds().getHeight();
+            getData().forEach(series -> {
+                final Path[] paths = getPaths(series);
+                if (null == paths) { return; }
+                smooth(series, paths[1].getElements(), paths[0].getElements(), height);
+            });
+        } else {
+            super.layoutPlotChildren();
+            // The AreaChart recreated the path elements, only the points of the stroke are needed for the selection
+            getData().forEach(series -> {
+                final Path[] paths = getPaths(series);
+                if (null == paths) { return; }
+                final Geometry geometry = geometries.computeIfAbsent(series, s -> new Geometry());
+                geometry.invalidate();
+                geometry.setStroke(paths[1].getElements());
+            });
+        }
 
-        double height = getLayoutBounds().getHeight();
         getData().forEach(series -> {
             final Path[] paths = getPaths(series);
             if (null == paths) { return; }
-            if (isSmoothed()) { smooth(paths[1].getElements(), paths[0].getElements(), height); }
             paths[0].setVisible(ChartType.AREA == getChartType());
             paths[0].setManaged(ChartType.AREA == getChartType());
         });
@@ -733,28 +787,56 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
         double            lowerBound   = ((NumberAxis) getYAxis()).getLowerBound();
         double            range        = upperBound - lowerBound;
         double            factor       = range / getYAxis().getLayoutBounds().getHeight();
-        List<PathElement> elements     = null;
-        int               noOfElements = 0;
         Bounds            pathBounds   = null;
         double            pathMinX     = 0;
         double            pathWidth    = 0;
-        PathElement       lastElement  = null;
 
-        Series<X, Y> series = null;
+        // Find the series with the cached stroke points instead of testing the path geometries
+        final boolean area         = ChartType.AREA == getChartType();
+        final double  tolerance    = Math.max(getSelectorSize(), 4);
+        Series<X, Y>  series       = null;
+        Geometry      geometry     = null;
+        double        curveY       = 0;
+        double        bestDistance = Double.MAX_VALUE;
         for (Series<X, Y> s : getData()) {
-            Path[] paths = getPaths(s);
-            int type = getChartType().ordinal(); // AREA == 0, LINE == 1 in ChartType enum
-            if (paths[type].contains(EVENT_X, EVENT_Y)) {
-                series       = s;
-                elements     = paths[type].getElements();
-                noOfElements = elements.size();
-                lastElement  = elements.get(0);
-                pathBounds   = paths[1].getLayoutBounds();
-                pathMinX     = pathBounds.getMinX();
-                pathWidth    = pathBounds.getWidth();
-                break;
+            Geometry g = geometries.get(s);
+            if (null == g || EVENT_Y < g.minY - (area ? 0 : tolerance) || (!area && EVENT_Y > g.maxY + tolerance)) { continue; }
+            double y = g.getStrokeY(EVENT_X);
+            if (Double.isNaN(y)) { continue; }
+            if (area) {
+                if (EVENT_Y >= y) {
+                    series   = s;
+                    geometry = g;
+                    curveY   = y;
+                    break;
+                }
+            } else {
+                double distance = Math.abs(EVENT_Y - y);
+                if (distance <= tolerance && distance < bestDistance) {
+                    series       = s;
+                    geometry     = g;
+                    curveY       = y;
+                    bestDistance = distance;
+                }
+            }
+        }
+        if (null == series) {
+            // Fall back to the series of the path that has been clicked
+            for (Series<X, Y> s : getData()) {
+                Path[] paths = getPaths(s);
+                if (null != paths && (paths[0] == EVT.getSource() || paths[1] == EVT.getSource())) {
+                    series   = s;
+                    geometry = geometries.get(s);
+                    curveY   = null == geometry ? Double.NaN : geometry.getStrokeY(EVENT_X);
+                    break;
+                }
             }
         }
+        if (null != series) {
+            pathBounds = getPaths(series)[1].getLayoutBounds();
+            pathMinX   = pathBounds.getMinX();
+            pathWidth  = pathBounds.getWidth();
+        }
 
         if (null == series || series.getData().isEmpty()) { return; }
 
@@ -783,85 +865,289 @@ public class SmoothedChart<X, Y> extends AreaChart<X, Y> {
 
             fireEvent(new SmoothedChartEvent(SmoothedChart.this, null, SmoothedChartEvent.DATA_SELECTED, selectedValue));
         } else {
-            for (int i = 1; i < noOfElements; i++) {
-                PathElement element = elements.get(i);
-
-                double[] xy  = getXYFromPathElement(lastElement);
-                double[] xy1 = getXYFromPathElement(element);
-                if (xy[0] < 0 || xy[1] < 0 || xy1[0] < 0 || xy1[1] < 0) { continue; }
-
-                if (EVENT_X > xy[0] && EVENT_X < xy1[0]) {
-                    double deltaX        = xy1[0] - xy[0];
-                    double deltaY        = xy1[1] - xy[1];
-                    double m             = deltaY / deltaX;
-                    double y             = m * (EVT.getX() - xy[0]) + xy[1];
-                    double selectedValue = ((getYAxis().getLayoutBounds().getHeight() - y) * factor + lowerBound);
-
-                    selector.setCenterX(CHART_X + EVT.getX());
-                    selector.setCenterY(CHART_MIN_Y + y);
-                    selector.setVisible(true);
-                    fadeInFadeOut.playFrom(Duration.millis(0));
-
-                    Point2D tooltipLocation = selector.localToScreen(selector.getCenterX(), selector.getCenterY());
-                    String  tooltipText     = new StringBuilder(String.format(Locale.US, formatString, selectedValue)).toString();
-                    selectorTooltip.setText(tooltipText);
-                    selectorTooltip.setX(tooltipLocation.getX());
-                    selectorTooltip.setY(tooltipLocation.getY());
-                    selectorTooltip.show(getScene().getWindow());
-
-                    fireEvent(new SmoothedChartEvent(SmoothedChart.this, null, SmoothedChartEvent.DATA_SELECTED, selectedValue));
-                    break;
-                }
-                lastElement = element;
+            if (Double.isNaN(curveY)) { return; }
+            double y             = curveY;
+            double selectedValue = ((getYAxis().getLayoutBounds().getHeight() - y) * factor + lowerBound);
+
+            selector.setCenterX(CHART_X + EVT.getX());
+            selector.setCenterY(CHART_MIN_Y + y);
+            selector.setVisible(true);
+            fadeInFadeOut.playFrom(Duration.millis(0));
+
+            Point2D tooltipLocation = selector.localToScreen(selector.getCenterX(), selector.getCenterY());
+            String  tooltipText     = new StringBuilder(String.format(Locale.US, formatString, selectedValue)).toString();
+            selectorTooltip.setText(tooltipText);
+            selectorTooltip.setX(tooltipLocation.getX());
+            selectorTooltip.setY(tooltipLocation.getY());
+            selectorTooltip.show(getScene().getWindow());
+
+            fireEvent(new SmoothedChartEvent(SmoothedChart.this, null, SmoothedChartEvent.DATA_SELECTED, selectedValue));
+        }
+    }
+
+    /**
+     * Creates the smoothed stroke and fill path of the given series directly
+     * from the display positions of its data. The subdivided geometry is
+     * cached per series and only computed again if the display positions,
+     * the number of subdivisions or the height changed, e.g. because the data
+     * or the axis bounds changed. Existing path elements are updated in place.
+     */
+    private void smooth(final Series<X, Y> SERIES, final ObservableList<PathElement> STROKE_ELEMENTS, final ObservableList<PathElement> FILL_ELEMENTS, final double HEIGHT) {
+        final Geometry geometry    = geometries.computeIfAbsent(SERIES, series -> new Geometry());
+        final Axis<X>  xAxis       = getXAxis();
+        final Axis<Y>  yAxis       = getYAxis();
+        final double   yMultiplier = getSeriesYMultiplier(SERIES);
+        geometry.clear();
+        for (Iterator<Data<X, Y>> iterator = getDisplayedDataIterator(SERIES) ; iterator.hasNext() ; ) {
+            final Data<X, Y> item = iterator.next();
+            final double     x    = xAxis.getDisplayPosition(getCurrentDisplayedXValue(item));
+            final double     y    = 1 == yMultiplier ? yAxis.getDisplayPosition(getCurrentDisplayedYValue(item))
+                                                     : yAxis.getDisplayPosition(yAxis.toRealValue(yAxis.toNumericValue(getCurrentDisplayedYValue(item)) * yMultiplier));
+            if (Double.isNaN(x) || Double.isNaN(y)) { continue; }
+            geometry.add(x, y);
+
+            final Node symbol = item.getNode();
+            if (null != symbol) {
+                final double w = symbol.prefWidth(-1);
+                final double h = symbol.prefHeight(-1);
+                symbol.resizeRelocate(x - (w * 0.5), y - (h * 0.5), w, h);
             }
         }
+        if (!geometry.update(getSubDivisions(), HEIGHT)) { return; }
+
+        final int noOfPoints = geometry.noOfPoints;
+        if (0 == noOfPoints) {
+            STROKE_ELEMENTS.clear();
+            FILL_ELEMENTS.clear();
+            geometry.setStroke(geometry.pathXs, geometry.pathYs, 0);
+            return;
+        }
+        final double   firstX         = geometry.xs[0];
+        final double   lastX          = geometry.xs[noOfPoints - 1];
+        final double[] subdividedXs   = geometry.subdividedXs;
+        final double[] subdividedYs   = geometry.subdividedYs;
+        final int      noOfSubdivided = geometry.noOfSubdividedPoints;
+        final double[] pathXs         = geometry.pathXs;
+        final double[] pathYs         = geometry.pathYs;
+
+        int count = 0;
+        pathXs[count]   = subdividedXs[0];
+        pathYs[count++] = subdividedYs[0];
+        for (int i = 0 ; i < noOfSubdivided ; i++) {
+            if (Double.compare(subdividedXs[i], firstX) >= 0) {
+                pathXs[count]   = subdividedXs[i];
+                pathYs[count++] = subdividedYs[i];
+            }
+        }
+        updateElements(STROKE_ELEMENTS, pathXs, pathYs, count, false);
+        geometry.setStroke(pathXs, pathYs, count);
+
+        // The fill uses the same points as the stroke but starts and ends at the bottom
+        pathXs[0]       = firstX;
+        pathYs[0]       = HEIGHT;
+        pathXs[count]   = lastX;
+        pathYs[count++] = HEIGHT;
+        pathXs[count]   = 0;
+        pathYs[count++] = HEIGHT;
+        updateElements(FILL_ELEMENTS, pathXs, pathYs, count, true);
     }
 
-    private void smooth(ObservableList<PathElement> strokeElements, ObservableList<PathElement> fillElements, final double HEIGHT) {
-        if (fillElements.isEmpty()) return;
-        // as we do not have direct access to the data, first recreate the list of all the data points we have
-        final Point[] dataPoints = new Point[strokeElements.size()];
-        for (int i = 0; i < strokeElements.size(); i++) {
-            final PathElement element = strokeElements.get(i);
-            if (element instanceof MoveTo) {
-                final MoveTo move = (MoveTo) element;
-                dataPoints[i] = new Point(move.getX(), move.getY());
-            } else if (element instanceof LineTo) {
-                final LineTo line = (LineTo) element;
-                final double x = line.getX(), y = line.getY();
-                dataPoints[i] = new Point(x, y);
+    /**
+     * Sets the elements to a MoveTo to the first point followed by a LineTo
+     * to each other point and optionally a ClosePath. If the elements already
+     * have this structure only their coordinates will be updated.
+     */
+    private static void updateElements(final ObservableList<PathElement> ELEMENTS, final double[] XS, final double[] YS, final int COUNT, final boolean CLOSED) {
+        final int noOfElements = COUNT + (CLOSED ? 1 : 0);
+        boolean   matches      = ELEMENTS.size() == noOfElements && ELEMENTS.get(0) instanceof MoveTo && (!CLOSED || ELEMENTS.get(COUNT) instanceof ClosePath);
+        for (int i = 1 ; matches && i < COUNT ; i++) { matches = ELEMENTS.get(i) instanceof LineTo; }
+
+        if (matches) {
+            final MoveTo moveTo = (MoveTo) ELEMENTS.get(0);
+            moveTo.setX(XS[0]);
+            moveTo.setY(YS[0]);
+            for (int i = 1 ; i < COUNT ; i++) {
+                final LineTo lineTo = (LineTo) ELEMENTS.get(i);
+                lineTo.setX(XS[i]);
+                lineTo.setY(YS[i]);
             }
+        } else {
+            final List<PathElement> elements = new ArrayList<>(noOfElements);
+            elements.add(new MoveTo(XS[0], YS[0]));
+            for (int i = 1 ; i < COUNT ; i++) { elements.add(new LineTo(XS[i], YS[i])); }
+            if (CLOSED) { elements.add(new ClosePath()); }
+            ELEMENTS.setAll(elements);
         }
-        double firstX = dataPoints[0].getX();
-        double lastX  = dataPoints[dataPoints.length - 1].getX();
+    }
 
-        Point[] points = Helper.subdividePoints(dataPoints, getSubDivisions());
 
-        fillElements.clear();
-        fillElements.add(new MoveTo(firstX, HEIGHT));
+    // ******************** Inner Classes *************************************
+    private static class Geometry {
+        private double[] xs                   = new double[16];
+        private double[] ys                   = new double[16];
+        private double[] nextXs               = new double[16];
+        private double[] nextYs               = new double[16];
+        private double[] subdividedXs         = new double[0];
+        private double[] subdividedYs         = new double[0];
+        private double[] pathXs               = new double[0];
+        private double[] pathYs               = new double[0];
+        private int      noOfPoints           = -1;
+        private int      noOfNextPoints;
+        private int      noOfSubdividedPoints;
+        private int      subDivisions;
+        private double   height;
+        private double[] strokeXs             = new double[0];
+        private double[] strokeYs             = new double[0];
+        private int      noOfStrokePoints;
+        private boolean  strokeSorted;
+        private double   minY;
+        private double   maxY;
+
+
+        void clear() { noOfNextPoints = 0; }
+
+        /**
+         * Forces the next update to subdivide the points again.
+         */
+        void invalidate() { noOfPoints = -1; }
+
+        void add(final double X, final double Y) {
+            if (noOfNextPoints == nextXs.length) {
+                nextXs = Arrays.copyOf(nextXs, noOfNextPoints * 2);
+                nextYs = Arrays.copyOf(nextYs, noOfNextPoints * 2);
+            }
+            nextXs[noOfNextPoints] = X;
+            nextYs[noOfNextPoints] = Y;
+            noOfNextPoints++;
+        }
 
-        strokeElements.clear();
-        strokeElements.add(new MoveTo(points[0].getX(), points[0].getY()));
+        /**
+         * Takes the added points as the new data points and subdivides them
+         * if they differ from the last ones.
+         * @return true if the geometry changed
+         */
+        boolean update(final int SUB_DIVISIONS, final double HEIGHT) {
+            sortByX();
+            if (noOfNextPoints == noOfPoints && SUB_DIVISIONS == subDivisions && Double.compare(HEIGHT, height) == 0 &&
+                Arrays.equals(nextXs, 0, noOfNextPoints, xs, 0, noOfPoints) && Arrays.equals(nextYs, 0, noOfNextPoints, ys, 0, noOfPoints)) {
+                return false;
+            }
+            double[] lastXs = xs;
+            double[] lastYs = ys;
+            xs           = nextXs;
+            ys           = nextYs;
+            nextXs       = lastXs;
+            nextYs       = lastYs;
+            noOfPoints   = noOfNextPoints;
+            subDivisions = SUB_DIVISIONS;
+            height       = HEIGHT;
+            if (nextXs.length < xs.length) {
+                nextXs = new double[xs.length];
+                nextYs = new double[xs.length];
+            }
 
-        for (Point p : points) {
-            if (Double.compare(p.getX(), firstX) >= 0) {
-                fillElements.add(new LineTo(p.getX(), p.getY()));
-                strokeElements.add(new LineTo(p.getX(), p.getY()));
+            noOfSubdividedPoints = CatmullRom.getNoOfSubdividedPoints(noOfPoints, subDivisions);
+            if (subdividedXs.length < noOfSubdividedPoints) {
+                subdividedXs = new double[noOfSubdividedPoints];
+                subdividedYs = new double[noOfSubdividedPoints];
+                pathXs       = new double[noOfSubdividedPoints + 3];
+                pathYs       = new double[noOfSubdividedPoints + 3];
             }
+            if (noOfPoints > 0) { CatmullRom.subdivide(xs, ys, noOfPoints, subDivisions, subdividedXs, subdividedYs); }
+            return true;
         }
 
-        fillElements.add(new LineTo(lastX, HEIGHT));
-        fillElements.add(new LineTo(0, HEIGHT));
-        fillElements.add(new ClosePath());
-    }
+        /**
+         * Keeps a copy of the points of the stroke path that is used to look
+         * up the y coordinate of the path at a given x coordinate. The y
+         * envelope (min and max) is used to skip series that are too far away.
+         */
+        void setStroke(final double[] XS, final double[] YS, final int COUNT) {
+            if (strokeXs.length < COUNT) {
+                strokeXs = new double[COUNT];
+                strokeYs = new double[COUNT];
+            }
+            System.arraycopy(XS, 0, strokeXs, 0, COUNT);
+            System.arraycopy(YS, 0, strokeYs, 0, COUNT);
+            noOfStrokePoints = COUNT;
+            strokeSorted     = true;
+            minY             = Double.MAX_VALUE;
+            maxY             = -Double.MAX_VALUE;
+            for (int i = 0 ; i < COUNT ; i++) {
+                if (i > 0 && strokeXs[i] < strokeXs[i - 1]) { strokeSorted = false; }
+                minY = Math.min(minY, strokeYs[i]);
+                maxY = Math.max(maxY, strokeYs[i]);
+            }
+        }
+        void setStroke(final List<PathElement> ELEMENTS) {
+            int count = 0;
+            ensureCapacity(ELEMENTS.size());
+            for (PathElement element : ELEMENTS) {
+                if (element instanceof MoveTo) {
+                    nextXs[count]   = ((MoveTo) element).getX();
+                    nextYs[count++] = ((MoveTo) element).getY();
+                } else if (element instanceof LineTo) {
+                    nextXs[count]   = ((LineTo) element).getX();
+                    nextYs[count++] = ((LineTo) element).getY();
+                }
+            }
+            setStroke(nextXs, nextYs, count);
+        }
 
-    private double[] getXYFromPathElement(final PathElement ELEMENT) {
-        if (ELEMENT instanceof MoveTo) {
-            return new double[]{ ((MoveTo) ELEMENT).getX(), ((MoveTo) ELEMENT).getY() };
-        } else if (ELEMENT instanceof LineTo) {
-            return new double[] { ((LineTo) ELEMENT).getX(), ((LineTo) ELEMENT).getY() };
-        } else {
-            return new double[] { -1, -1 };
+        /**
+         * Returns the y coordinate of the stroke path at the given x coordinate
+         * by looking up the segment with a binary search.
+         * @return the y coordinate of the stroke or NaN if X is outside of the stroke
+         */
+        double getStrokeY(final double X) {
+            final int last = noOfStrokePoints - 1;
+            if (last < 1 || X <= strokeXs[0] || X >= strokeXs[last]) { return Double.NaN; }
+            int index = -1;
+            if (strokeSorted) {
+                int low  = 0;
+                int high = last;
+                while (high - low > 1) {
+                    int mid = (low + high) >>> 1;
+                    if (strokeXs[mid] <= X) { low = mid; } else { high = mid; }
+                }
+                index = low;
+            } else {
+                for (int i = 0 ; i < last ; i++) {
+                    if (X > strokeXs[i] && X < strokeXs[i + 1]) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (-1 == index) { return Double.NaN; }
+            }
+            double deltaX = strokeXs[index + 1] - strokeXs[index];
+            double deltaY = strokeYs[index + 1] - strokeYs[index];
+            return strokeYs[index] + deltaY / deltaX * (X - strokeXs[index]);
+        }
+
+        private void ensureCapacity(final int CAPACITY) {
+            if (nextXs.length >= CAPACITY) { return; }
+            nextXs = Arrays.copyOf(nextXs, CAPACITY);
+            nextYs = Arrays.copyOf(nextYs, CAPACITY);
+        }
+
+        /**
+         * Sorts the added points by their x coordinate like the AreaChart
+         * does, in most cases they are already sorted.
+         */
+        private void sortByX() {
+            for (int i = 1 ; i < noOfNextPoints ; i++) {
+                double x = nextXs[i];
+                double y = nextYs[i];
+                int    j = i - 1;
+                while (j >= 0 && nextXs[j] > x) {
+                    nextXs[j + 1] = nextXs[j];
+                    nextYs[j + 1] = nextYs[j];
+                    j--;
+                }
+                nextXs[j + 1] = x;
+                nextYs[j + 1] = y;
+            }
         }
     }
 }
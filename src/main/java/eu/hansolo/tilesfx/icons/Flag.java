@@ -17,9 +17,12 @@
  */
 package eu.hansolo.tilesfx.icons;
 
+import eu.hansolo.tilesfx.tools.ImageCache;
 import javafx.scene.image.Image;
 
 import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 
 public enum Flag {
@@ -303,7 +306,17 @@ public enum Flag {
         return getImage(30);
     }
     public final Image getImage(final double size) {
-        return new Image(Flag.class.getResourceAsStream(imageFileName), size, size, true, false);
+        return ImageCache.INSTANCE.getImage(Flag.class, imageFileName, size);
+    }
+    /**
+     * Returns the image of the flag in the size bucket of the given size
+     * (see ImageCache.getBucketSize()). The image might be bigger than the
+     * given size and should be scaled e.g. by the fit size of an ImageView.
+     * @param size the requested size of the flag
+     * @return the image of the flag in the size bucket of the given size
+     */
+    public final Image getBucketedImage(final double size) {
+        return ImageCache.INSTANCE.getBucketedImage(Flag.class, imageFileName, size);
     }
 
     public final String getIso2() { return iso2; }
@@ -317,4 +330,14 @@ public enum Flag {
     public static final Flag iso3(final String iso3) {
         return Arrays.asList(values()).stream().filter(flag -> flag.iso3.equals(iso3)).findFirst().orElse(null);
     }
+
+    /**
+     * Decodes the images of all flags in the given sizes on a background
+     * thread and puts them in the shared image cache.
+     * @param sizes the sizes that should be decoded
+     * @return a future that completes when all images have been decoded
+     */
+    public static final Future<?> prewarmImages(final double... sizes) {
+        return ImageCache.INSTANCE.prewarm(Flag.class, Arrays.stream(values()).map(Flag::getImageFileName).collect(Collectors.toList()), sizes);
+    }
 }
@@ -18,6 +18,7 @@
 package eu.hansolo.tilesfx.icons;
 
 import eu.hansolo.tilesfx.tools.Helper;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 
@@ -68,7 +69,7 @@ public class FlagIcon extends Region {
                 setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
             }
         }
-        imageView = new ImageView(flag.getImage(flagSize));
+        imageView = new ImageView(flag.getBucketedImage(flagSize));
         getChildren().setAll(imageView);
     }
 
@@ -121,6 +122,7 @@ public class FlagIcon extends Region {
 
     private void redraw() {
         if (null == flag) { return; }
-        imageView.setImage(flag.getImage(flagSize));
+        Image image = flag.getBucketedImage(flagSize);
+        if (image != imageView.getImage()) { imageView.setImage(image); }
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Flight recorder event that measures how long one frame of an
+ * AnimationTimer (e.g. Fire, Smoke, RotationEffect) took.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+@Name("eu.hansolo.tilesfx.AnimationTimerFrame")
+@Label("Animation Timer Frame")
+@Category({ "TilesFX", "Animation" })
+@Description("One frame of an AnimationTimer has been handled")
+@StackTrace(false)
+public class AnimationTimerFrame extends Event {
+    @Label("Source")
+    public String source;
+
+    @Label("No of Items")
+    @Description("Number of particles or animations that have been handled in the frame")
+    public int    noOfItems;
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns true if this event is enabled in a running recording, can be
+     * used to avoid creating the event if nothing will be recorded.
+     * @return true if this event is enabled in a running recording
+     */
+    public static boolean isRecording() { return Type.EVENT_TYPE.isEnabled(); }
+
+    public void commit(final String SOURCE, final int NO_OF_ITEMS) {
+        end();
+        if (!shouldCommit()) { return; }
+        source    = SOURCE;
+        noOfItems = NO_OF_ITEMS;
+        commit();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    // Looked up lazily so that the event class is initialized before it will be registered
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(AnimationTimerFrame.class);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.jfr;
+
+import eu.hansolo.tilesfx.Tile;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Flight recorder event that measures how long the listeners of a tile
+ * took to handle a TileEvent.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+@Name("eu.hansolo.tilesfx.TileEventDispatched")
+@Label("Tile Event Dispatched")
+@Category({ "TilesFX", "Tile" })
+@Description("A TileEvent has been dispatched to the listeners of a tile")
+@StackTrace(false)
+public class TileEventDispatched extends TileRecordingEvent {
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("No of Listeners")
+    public int    noOfListeners;
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns true if this event is enabled in a running recording, can be
+     * used to avoid creating the event if nothing will be recorded.
+     * @return true if this event is enabled in a running recording
+     */
+    public static boolean isRecording() { return Type.EVENT_TYPE.isEnabled(); }
+
+    public void commit(final Tile TILE, final String EVENT_TYPE, final int NO_OF_LISTENERS) {
+        end();
+        if (!shouldCommit()) { return; }
+        setTile(TILE);
+        eventType     = EVENT_TYPE;
+        noOfListeners = NO_OF_LISTENERS;
+        commit();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    // Looked up lazily so that the event class is initialized before it will be registered
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(TileEventDispatched.class);
+    }
+}
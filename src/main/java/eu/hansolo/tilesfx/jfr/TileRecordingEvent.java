@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.jfr;
+
+import eu.hansolo.tilesfx.Tile;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+
+/**
+ * Base class of the flight recorder events that belong to a tile.
+ * Events will only be recorded if they are enabled in a running recording,
+ * otherwise creating, beginning and committing them costs almost nothing.
+ * The fields should only be filled after shouldCommit() returned true.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public abstract class TileRecordingEvent extends Event {
+    @Label("Tile Id")
+    public String tileId;
+
+    @Label("Tile Title")
+    public String tileTitle;
+
+    @Label("Skin Type")
+    public String skinType;
+
+
+    // ******************** Methods *******************************************
+    protected void setTile(final Tile TILE) {
+        if (null == TILE) { return; }
+        tileId    = TILE.getId();
+        tileTitle = TILE.getTitle();
+        skinType  = null == TILE.getSkinType() ? null : TILE.getSkinType().name();
+    }
+
+    protected static int countNodes(final Node NODE) {
+        if (null == NODE) { return 0; }
+        int count = 1;
+        if (NODE instanceof Parent) {
+            for (Node child : ((Parent) NODE).getChildrenUnmodifiable()) { count += countNodes(child); }
+        }
+        return count;
+    }
+}
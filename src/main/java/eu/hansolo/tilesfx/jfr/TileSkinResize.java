@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.jfr;
+
+import eu.hansolo.tilesfx.Tile;
+import javafx.scene.Node;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Flight recorder event that measures how long the resize of a tile skin took.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+@Name("eu.hansolo.tilesfx.TileSkinResize")
+@Label("Tile Skin Resize")
+@Category({ "TilesFX", "Skin" })
+@Description("A tile skin has been resized")
+@StackTrace(false)
+public class TileSkinResize extends TileRecordingEvent {
+    @Label("Skin Class")
+    public String skinClass;
+
+    @Label("No of Nodes")
+    public int    noOfNodes;
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns true if this event is enabled in a running recording, can be
+     * used to avoid creating the event if nothing will be recorded.
+     * @return true if this event is enabled in a running recording
+     */
+    public static boolean isRecording() { return Type.EVENT_TYPE.isEnabled(); }
+
+    public void commit(final Tile TILE, final Object SKIN, final Node ROOT) {
+        end();
+        if (!shouldCommit()) { return; }
+        setTile(TILE);
+        skinClass = null == SKIN ? null : SKIN.getClass().getSimpleName();
+        noOfNodes = countNodes(ROOT);
+        commit();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    // Looked up lazily so that the event class is initialized before it will be registered
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(TileSkinResize.class);
+    }
+}
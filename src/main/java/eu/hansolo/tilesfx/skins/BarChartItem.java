@@ -109,17 +109,17 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
     }
     public BarChartItem(final String NAME, final double VALUE, final Instant TIMESTAMP, final Duration DURATION, final Color COLOR) {
         nameColor          = new ObjectPropertyBase<Color>(Tile.FOREGROUND) {
-            @Override protected void invalidated() { nameText.setFill(get()); }
+            @Override protected void invalidated() { if (null != nameText) { nameText.setFill(get()); } }
             @Override public Object getBean() { return BarChartItem.this; }
             @Override public String getName() { return "nameColor"; }
         };
         valueColor         = new ObjectPropertyBase<Color>(Tile.FOREGROUND) {
-            @Override protected void invalidated() {  valueText.setFill(get()); }
+            @Override protected void invalidated() { if (null != valueText) { valueText.setFill(get()); } }
             @Override public Object getBean() { return BarChartItem.this; }
             @Override public String getName() { return "valueColor"; }
         };
         barBackgroundColor = new ObjectPropertyBase<Color>(Color.rgb(72, 72, 72)) {
-            @Override protected void invalidated() { barBackground.setFill(get()); }
+            @Override protected void invalidated() { if (null != barBackground) { barBackground.setFill(get()); } }
             @Override public Object getBean() { return BarChartItem.this; }
             @Override public String getName() { return "barBackgroundColor"; }
         };
@@ -130,13 +130,12 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
         stepSize           = PREFERRED_WIDTH * 0.85 / maxValue;
         parentWidth        = 250;
         parentHeight       = 250;
-        initGraphics();
-        registerListeners();
+        initSize();
     }
 
 
     // ******************** Initialization ************************************
-    private void initGraphics() {
+    private void initSize() {
         if (Double.compare(getPrefWidth(), 0.0) <= 0 || Double.compare(getPrefHeight(), 0.0) <= 0 ||
             Double.compare(getWidth(), 0.0) <= 0 || Double.compare(getHeight(), 0.0) <= 0) {
             if (getPrefWidth() > 0 && getPrefHeight() > 0) {
@@ -145,16 +144,27 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
                 setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
             }
         }
+    }
 
+    /**
+     * The nodes will only be created when the item will be shown for the
+     * first time, so items that are only used as data for recycled rows
+     * never create them.
+     */
+    private void initGraphics() {
         nameText = new Text(getName());
         nameText.setTextOrigin(VPos.TOP);
+        nameText.setFill(getNameColor());
 
         valueText = new Text(String.format(locale, formatString, getValue()));
         valueText.setTextOrigin(VPos.TOP);
+        valueText.setFill(getValueColor());
 
         barBackground = new Rectangle();
+        barBackground.setFill(getBarBackgroundColor());
 
         bar = new Rectangle();
+        bar.setFill(getBarColor());
 
         pane = new Pane(nameText, valueText, barBackground, bar);
         pane.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT, CornerRadii.EMPTY, Insets.EMPTY)));
@@ -167,6 +177,13 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
         heightProperty().addListener(o -> resize());
     }
 
+    private void ensureGraphics() {
+        if (null != pane) { return; }
+        initGraphics();
+        registerListeners();
+        resize();
+    }
+
 
     // ******************** Methods *******************************************
     @Override protected double computeMinWidth(final double HEIGHT) { return MINIMUM_WIDTH; }
@@ -176,12 +193,17 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
     @Override protected double computeMaxWidth(final double HEIGHT) { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double WIDTH) { return MAXIMUM_HEIGHT; }
 
+    @Override protected void layoutChildren() {
+        ensureGraphics();
+        super.layoutChildren();
+    }
+
     @Override public ObservableList<Node> getChildren() { return super.getChildren(); }
 
     public String getName() { return chartData.getName(); }
     public void setName(final String NAME) { 
         chartData.setName(NAME); 
-        nameText.setText(NAME);
+        if (null != nameText) { nameText.setText(NAME); }
     }
 
     public double getValue() { return chartData.getValue(); }
@@ -229,13 +251,35 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
 
     public void setLocale(final Locale LOCALE) {
         locale = LOCALE;
-        valueText.setText(String.format(locale, formatString, getValue()));
+        if (null != valueText) { valueText.setText(String.format(locale, formatString, getValue())); }
     }
 
     public String getFormatString() { return formatString; }
     public void setFormatString(final String FORMAT_STRING) {
         formatString = FORMAT_STRING;
-        valueText.setText(String.format(locale, formatString, getValue()));
+        if (null != valueText) { valueText.setText(String.format(locale, formatString, getValue())); }
+    }
+
+    /**
+     * Lets this item render the data and colors of the given item.
+     * Used to recycle a few items as rows for a long list of items.
+     * @param ITEM the item that should be rendered
+     */
+    void showItem(final BarChartItem ITEM) {
+        ensureGraphics();
+        chartData    = ITEM.chartData;
+        formatString = ITEM.formatString;
+        locale       = ITEM.locale;
+        if (Double.compare(maxValue, ITEM.maxValue) != 0) {
+            maxValue = ITEM.maxValue;
+            stepSize = (parentWidth - size * 0.15) / maxValue;
+        }
+        setNameColor(ITEM.getNameColor());
+        setValueColor(ITEM.getValueColor());
+        setBarBackgroundColor(ITEM.getBarBackgroundColor());
+
+        nameText.setText(getName());
+        updateBar(getValue());
     }
 
     protected void setParentSize(final double WIDTH, final double HEIGHT) {
@@ -245,6 +289,7 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
     }
 
     private void updateBar(final double VALUE) {
+        if (null == pane) { return; }
         valueText.setText(String.format(locale, formatString, VALUE));
         valueText.relocate((parentWidth - size * 0.05) - valueText.getLayoutBounds().getWidth(), 0);
         bar.setWidth(clamp(0, (parentWidth - size * 0.15), VALUE * stepSize));
@@ -260,6 +305,7 @@ public class BarChartItem extends Region implements Comparable<BarChartItem>{
 
     // ******************** Resizing ******************************************
     private void resize() {
+        if (null == pane) { return; }
         width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
         height = getHeight() - getInsets().getTop() - getInsets().getBottom();
         size   = parentWidth < parentHeight ? parentWidth : parentHeight;
@@ -18,6 +18,8 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.Tile.ItemSorting;
+import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEvent;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
@@ -25,6 +27,8 @@ import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.PrettyListView;
+import eu.hansolo.tilesfx.tools.RankingIndex;
+import eu.hansolo.tilesfx.tools.RecycledRowCell;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.collections.WeakListChangeListener;
@@ -35,9 +39,9 @@ import javafx.scene.layout.Pane;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -47,12 +51,16 @@ import java.util.stream.Collectors;
  * Created by hansolo on 19.12.16.
  */
 public class BarChartTileSkin extends TileSkin {
-    private Text                                        titleText;
-    private Text                                        text;
-    private PrettyListView<BarChartItem>                barChartPane;
-    private ChartDataEventListener                      updateHandler;
-    private InvalidationListener                        paneSizeListener;
-    private Map<BarChartItem, EventHandler<MouseEvent>> handlerMap;
+    private Text                                                           titleText;
+    private Text                                                           text;
+    private PrettyListView<BarChartItem>                                   barChartPane;
+    private ChartDataEventListener                                         updateHandler;
+    private InvalidationListener                                           paneSizeListener;
+    private Map<BarChartItem, EventHandler<MouseEvent>>                    handlerMap;
+    private Map<ChartData, BarChartItem>                                   itemMap;
+    private RankingIndex<BarChartItem>                                     ranking;
+    private Map<BarChartItem, RecycledRowCell<BarChartItem, BarChartItem>> visibleRows;
+    private List<BarChartItem>                                             rows;
 
 
     // ******************** Constructors **************************************
@@ -68,15 +76,24 @@ public class BarChartTileSkin extends TileSkin {
         updateHandler    = e -> {
             final ChartDataEvent.EventType TYPE = e.getType();
             switch (TYPE) {
-                case UPDATE  : updateChart(); break;
-                case FINISHED: sortItems(); break;
+                case UPDATE  :
+                case FINISHED:
+                    BarChartItem item = itemMap.get(e.getData());
+                    updateRank(item);
+                    RecycledRowCell.rebind(visibleRows, item);
+                    break;
             }
         };
         paneSizeListener = o -> resizeItems();
         handlerMap       = new HashMap<>();
-        
+        itemMap          = new IdentityHashMap<>();
+        ranking          = new RankingIndex<>(BarChartItem::getValue, isDescending());
+        visibleRows      = new IdentityHashMap<>();
+        rows             = new ArrayList<>();
+
         tile.getBarChartItems().forEach(item -> {
             item.addChartDataEventListener(updateHandler);
+            itemMap.put(item.getChartData(), item);
             EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, item.getChartData()));
             handlerMap.put(item, clickHandler);
             item.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
@@ -85,8 +102,9 @@ public class BarChartTileSkin extends TileSkin {
                 item.setFormatString(formatString);
             }
         });
+        // Only the visible rows will be rendered by a few recycled items
         barChartPane = new PrettyListView<>();
-        barChartPane.getItems().addAll(tile.getBarChartItems());
+        barChartPane.setCellFactory(listView -> new RecycledRowCell<>(this::createRow, BarChartItem::showItem, visibleRows));
 
         sortItems();
 
@@ -107,20 +125,21 @@ public class BarChartTileSkin extends TileSkin {
             while (change.next()) {
                 if (change.wasAdded()) {
                     change.getAddedSubList().forEach(addedItem -> {
-                        barChartPane.getItems().add(addedItem);
+                        barChartPane.getItems().add(ranking.add(addedItem), addedItem);
                         addedItem.addChartDataEventListener(updateHandler);
+                        itemMap.put(addedItem.getChartData(), addedItem);
                         EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, addedItem.getChartData()));
                         handlerMap.put(addedItem, clickHandler);
                         addedItem.setOnMousePressed(clickHandler);
                     });
-                    updateChart();
                 } else if (change.wasRemoved()) {
                     change.getRemoved().forEach(removedItem -> {
                         removedItem.removeChartDataEventListener(updateHandler);
-                        removedItem.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(removedItem));
-                        barChartPane.getItems().remove(removedItem);
+                        removedItem.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.remove(removedItem));
+                        itemMap.remove(removedItem.getChartData());
+                        int rank = ranking.remove(removedItem);
+                        if (rank > -1) { barChartPane.getItems().remove(rank); }
                     });
-                    updateChart();
                 }
             }
         }));
@@ -146,17 +165,39 @@ public class BarChartTileSkin extends TileSkin {
         }
     }
 
+    /**
+     * Ranks all items again, only needed if the items or the sorting changed.
+     * Changed values will only reposition the changed item (see updateRank()).
+     */
     private void sortItems() {
-        switch (tile.getItemSorting()) {
-            case ASCENDING : tile.getBarChartItems().sort(Comparator.comparing(BarChartItem::getValue)); break;
-            case DESCENDING: tile.getBarChartItems().sort(Comparator.comparing(BarChartItem::getValue).reversed());break;
-            case NONE:
-            default:
-                break;
-        }
-        updateChart();
+        ranking.setOrder(BarChartItem::getValue, isDescending());
+        ranking.setAll(tile.getBarChartItems());
+        barChartPane.getItems().setAll(ranking.toList());
+        visibleRows.values().forEach(RecycledRowCell::rebind);
+    }
+
+    /**
+     * Moves the given item to its new rank in the list without sorting all items.
+     * @param ITEM
+     */
+    private void updateRank(final BarChartItem ITEM) {
+        if (null == ITEM) { return; }
+        int[] ranks = ranking.update(ITEM);
+        if (ranks[0] == ranks[1]) { return; }
+        List<BarChartItem> items = barChartPane.getItems();
+        if (ranks[0] > -1) { items.remove(ranks[0]); }
+        items.add(ranks[1], ITEM);
+    }
+
+    private BarChartItem createRow() {
+        BarChartItem row = new BarChartItem();
+        resizeRow(row, Helper.clamp(30, 72, height * 0.14));
+        rows.add(row);
+        return row;
     }
 
+    private boolean isDescending() { return ItemSorting.ASCENDING != tile.getItemSorting(); }
+
     @Override public void dispose() {
         pane.widthProperty().removeListener(paneSizeListener);
         pane.heightProperty().removeListener(paneSizeListener);
@@ -165,15 +206,15 @@ public class BarChartTileSkin extends TileSkin {
             item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(item));
         });
         handlerMap.clear();
+        itemMap.clear();
+        ranking.clear();
+        visibleRows.clear();
+        rows.clear();
         super.dispose();
     }
 
 
     // ******************** Resizing ******************************************
-    private void updateChart() {
-        Collections.sort(barChartPane.getItems(), Comparator.comparing(BarChartItem::getValue).reversed());
-    }
-
     @Override protected void resizeStaticText() {
         double maxWidth = width - size * 0.1;
         double fontSize = size * textSize.factor;
@@ -205,11 +246,14 @@ public class BarChartTileSkin extends TileSkin {
 
     private void resizeItems() {
         double itemHeight = Helper.clamp(30, 72, height * 0.14);
-        barChartPane.getItems().forEach(item -> {
-            item.setParentSize(width, height);
-            item.setPrefSize(width, itemHeight);
-            item.setMaxSize(width, itemHeight);
-        });
+        barChartPane.setFixedCellSize(itemHeight);
+        rows.forEach(row -> resizeRow(row, itemHeight));
+    }
+
+    private void resizeRow(final BarChartItem ROW, final double ITEM_HEIGHT) {
+        ROW.setParentSize(width, height);
+        ROW.setPrefSize(width, ITEM_HEIGHT);
+        ROW.setMaxSize(width, ITEM_HEIGHT);
     }
 
     @Override protected void resize() {
@@ -218,7 +262,6 @@ public class BarChartTileSkin extends TileSkin {
         barChartPane.setPrefSize(width, contentBounds.getHeight());
         barChartPane.relocate(0, contentBounds.getY());
         resizeItems();
-        updateChart();
     }
 
     @Override protected void redraw() {
@@ -230,6 +273,7 @@ public class BarChartTileSkin extends TileSkin {
             item.setNameColor(tile.getTextColor());
             item.setValueColor(tile.getValueColor());
         });
+        visibleRows.values().forEach(RecycledRowCell::rebind);
 
         resizeDynamicText();
         resizeStaticText();
@@ -19,6 +19,7 @@ package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.chart.ChartDataDayIndex;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
@@ -48,7 +49,6 @@ import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 
 import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 
@@ -65,6 +65,7 @@ public class CalendarTileSkin extends TileSkin {
     private              double                   cellHeight;
     private              List<Label>              labels;
     private              EventHandler<MouseEvent> clickHandler;
+    private              ChartDataDayIndex        dayIndex;
 
 
     // ******************** Constructors **************************************
@@ -84,6 +85,8 @@ public class CalendarTileSkin extends TileSkin {
 
         clickHandler = e -> checkClick(e);
 
+        dayIndex = new ChartDataDayIndex(tile.getChartData(), TIME.getZone());
+
         labels = new ArrayList<>(56);
         for (int i = 0 ; i < 56 ; i++) {
             Label label = new Label();
@@ -130,12 +133,13 @@ public class CalendarTileSkin extends TileSkin {
 
     @Override public void dispose() {
         labels.forEach(label -> label.removeEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler));
+        dayIndex.dispose();
         super.dispose();
     }
 
     private void drawCells() {
-        List<ChartData> dataList   = tile.getChartData();
         ZonedDateTime   time       = tile.getTime();
+        LocalDate       firstDay   = time.toLocalDate().withDayOfMonth(1);
         Locale          locale     = tile.getLocale();
         int             day        = time.getDayOfMonth();
         int             startDay   = time.withDayOfMonth(1).getDayOfWeek().getValue();
@@ -155,6 +159,7 @@ public class CalendarTileSkin extends TileSkin {
                                                                    BorderStrokeStyle.SOLID,
                                                                    new CornerRadii(size * 0.0125), BorderWidths.DEFAULT,
                                                                    new Insets(1)));
+        dayIndex.setZoneId(time.getZone());
         boolean counting = false;
         int dayCounter = 1;
         for (int y = 0 ; y < 7 ; y++) {
@@ -182,8 +187,8 @@ public class CalendarTileSkin extends TileSkin {
                         counting = true;
                         text = Integer.toString(dayCounter);
 
-                        LocalDate currentDay = time.toLocalDate().plusDays(dayCounter - 1);
-                        long appointments    = dataList.stream().filter(data -> data.getTimestampAsLocalDate().isEqual(currentDay)).count();
+                        LocalDate currentDay = firstDay.plusDays(dayCounter - 1);
+                        int appointments     = dayIndex.getCount(currentDay);
 
                         if (x == 7) {
                             if (appointments > 0) { label.setBorder(appmntBorder); } else { label.setBorder(null); }
@@ -195,8 +200,7 @@ public class CalendarTileSkin extends TileSkin {
                             label.setTextFill(bkgColor);
                             label.setFont(bldFont);
                         } else {
-                            int currentDayCounter = dayCounter;
-                            if (dataList.stream().filter(data -> data.getTimestampAsLocalDate().getDayOfMonth() == currentDayCounter).count() > 0) { label.setBorder(appmntBorder); } else { label.setBorder(null); }
+                            if (appointments > 0) { label.setBorder(appmntBorder); } else { label.setBorder(null); }
                             label.setTextFill(textColor);
                             label.setFont(regFont);
                         }
@@ -232,12 +236,11 @@ public class CalendarTileSkin extends TileSkin {
         int selectedNo = Integer.parseInt(selectedText);
         if (selectedNo > 31) { return; }
 
-        List<ChartData>     dataList          = tile.getChartData();
-        ZonedDateTime       time              = tile.getTime();
-        LocalDate           selectedDate      = LocalDate.of(time.getYear(), time.getMonth(), selectedNo);
-        Optional<ChartData> selectedChartData = dataList.stream().filter(data -> data.getTimestampAsLocalDate().isEqual(selectedDate)).findAny();
+        ZonedDateTime   time              = tile.getTime();
+        LocalDate       selectedDate      = LocalDate.of(time.getYear(), time.getMonth(), selectedNo);
+        List<ChartData> selectedChartData = dayIndex.getData(selectedDate);
 
-        if (selectedChartData.isPresent()) { tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, selectedChartData.get())); }
+        if (!selectedChartData.isEmpty()) { tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, selectedChartData.get(0))); }
     }
 
 
@@ -18,6 +18,7 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.Tile.RenderMode;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
@@ -28,8 +29,13 @@ import eu.hansolo.tilesfx.tools.Helper;
 import javafx.beans.InvalidationListener;
 import javafx.collections.WeakListChangeListener;
 import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Background;
@@ -42,10 +48,12 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.SVGPath;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -57,6 +65,8 @@ import java.util.Map;
  */
 public class ClusterMonitorTileSkin extends TileSkin {
     private static final double                    MIN_HEIGHT        = 100;
+    private static final Color                     SCALE_COLOR       = Color.rgb(90, 90, 90);
+    private static final String                    FORMAT_STRING     = "%.0f%%";
     private        final TileEvent                 SVG_PRESSED_EVENT = new TileEvent(EventType.SVG_PATH_PRESSED);
     private              Text                      titleText;
     private              Text                      text;
@@ -66,6 +76,9 @@ public class ClusterMonitorTileSkin extends TileSkin {
     private              Map<ChartData, ChartItem> dataItemMap;
     private              Region                    graphicRegion;
     private              EventHandler<MouseEvent>  svgPathPressedHandler;
+    private              Canvas                    chartCanvas;
+    private              GraphicsContext           chartCtx;
+    private              EventHandler<MouseEvent>  chartPressedHandler;
 
 
     // ******************** Constructors **************************************
@@ -87,14 +100,25 @@ public class ClusterMonitorTileSkin extends TileSkin {
         paneSizeListener = e -> updateChart();
         dataItemMap      = new HashMap<>();
 
-        chartPane = new VBox();
-
         Collections.sort(tile.getChartData(), Comparator.comparing(ChartData::getName));
-        tile.getChartData().forEach(data -> {
-            data.addChartDataEventListener(updateHandler);
-            dataItemMap.put(data, new ChartItem(data, contentBounds, data.getFormatString()));
-            chartPane.getChildren().add(dataItemMap.get(data));
-        });
+        if (RenderMode.CANVAS == tile.getRenderMode()) {
+            // All items will be drawn into one canvas instead of creating nodes for each item
+            chartCanvas = new Canvas();
+            chartCtx    = chartCanvas.getGraphicsContext2D();
+            tile.getChartData().forEach(data -> data.addChartDataEventListener(updateHandler));
+        } else {
+            chartPane = new VBox();
+            tile.getChartData().forEach(data -> {
+                data.addChartDataEventListener(updateHandler);
+                dataItemMap.put(data, new ChartItem(data, contentBounds, data.getFormatString()));
+                chartPane.getChildren().add(dataItemMap.get(data));
+            });
+        }
+        Node chart = null == chartCanvas ? chartPane : chartCanvas;
+        chartPressedHandler = e -> {
+            ChartData data = getChartDataAt(e.getY());
+            if (null != data) { tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, data)); }
+        };
 
         titleText = new Text(tile.getTitle());
         titleText.setFill(tile.getTitleColor());
@@ -109,15 +133,26 @@ public class ClusterMonitorTileSkin extends TileSkin {
             svgPathPressedHandler = e -> tile.fireTileEvent(SVG_PRESSED_EVENT);
             graphicRegion = new Region();
             graphicRegion.setShape(svgPath);
-            getPane().getChildren().addAll(titleText, text, chartPane, graphicRegion);
+            getPane().getChildren().addAll(titleText, text, chart, graphicRegion);
         } else {
-            getPane().getChildren().addAll(titleText, text, chartPane);
+            getPane().getChildren().addAll(titleText, text, chart);
         }
     }
 
     @Override protected void registerListeners() {
         super.registerListeners();
         tile.getChartData().addListener(new WeakListChangeListener<>(change -> {
+            if (null != chartCanvas) {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        change.getAddedSubList().forEach(addedData -> addedData.addChartDataEventListener(updateHandler));
+                    } else if (change.wasRemoved()) {
+                        change.getRemoved().forEach(removedData -> removedData.removeChartDataEventListener(updateHandler));
+                    }
+                }
+                drawChart();
+                return;
+            }
             while (change.next()) {
                 if (change.wasAdded()) {
                     change.getAddedSubList().forEach(addedData -> {
@@ -136,6 +171,11 @@ public class ClusterMonitorTileSkin extends TileSkin {
             updateChart();
         }));
         if (null != tile.getSVGPath()) { graphicRegion.addEventHandler(MouseEvent.MOUSE_PRESSED, svgPathPressedHandler); }
+        if (null != chartCanvas) {
+            chartCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        } else {
+            chartPane.addEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        }
 
         pane.widthProperty().addListener(paneSizeListener);
         pane.heightProperty().addListener(paneSizeListener);
@@ -155,11 +195,18 @@ public class ClusterMonitorTileSkin extends TileSkin {
         }
     }
 
+    @Override public boolean isCanvasRenderModeSupported() { return true; }
+
     @Override public void dispose() {
         pane.widthProperty().removeListener(paneSizeListener);
         pane.heightProperty().removeListener(paneSizeListener);
-        tile.getBarChartItems().forEach(item -> item.removeChartDataEventListener(updateHandler));
+        tile.getChartData().forEach(data -> data.removeChartDataEventListener(updateHandler));
         if (null != tile.getSVGPath()) { graphicRegion.removeEventHandler(MouseEvent.MOUSE_PRESSED, svgPathPressedHandler); }
+        if (null != chartCanvas) {
+            chartCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        } else {
+            chartPane.removeEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        }
         dataItemMap.clear();
         super.dispose();
     }
@@ -198,23 +245,29 @@ public class ClusterMonitorTileSkin extends TileSkin {
     @Override protected void resize() {
         super.resize();
 
-        chartPane.setPrefSize(width * 0.8, contentBounds.getHeight());
-        chartPane.relocate(contentBounds.getX(), contentBounds.getY());
-        chartPane.setSpacing(contentBounds.getHeight() * 0.25);
+        if (null != chartCanvas) {
+            chartCanvas.setWidth(contentBounds.getWidth());
+            chartCanvas.setHeight(contentBounds.getHeight());
+            chartCanvas.relocate(contentBounds.getX(), contentBounds.getY());
+        } else {
+            chartPane.setPrefSize(width * 0.8, contentBounds.getHeight());
+            chartPane.relocate(contentBounds.getX(), contentBounds.getY());
+            chartPane.setSpacing(contentBounds.getHeight() * 0.25);
 
-        double itemHeight = contentBounds.getHeight() / (dataItemMap.size());
+            double itemHeight = contentBounds.getHeight() / (dataItemMap.size());
 
-        dataItemMap.values().forEach(item -> {
-            item.setCompressed(height < MIN_HEIGHT);
-            item.setPrefSize(contentBounds.getWidth(), itemHeight);
-            item.setLayoutX(contentBounds.getX());
-        });
+            dataItemMap.values().forEach(item -> {
+                item.setCompressed(height < MIN_HEIGHT);
+                item.setPrefSize(contentBounds.getWidth(), itemHeight);
+                item.setLayoutX(contentBounds.getX());
+            });
 
-        int noOfChartData = tile.getChartData().size();
-        if (titleText.getText().isEmpty()) {
-            chartPane.setSpacing((contentBounds.getHeight() - (noOfChartData * itemHeight)));
-        } else {
-            chartPane.setSpacing((contentBounds.getHeight() - (noOfChartData * itemHeight)) / 1.5);
+            int noOfChartData = tile.getChartData().size();
+            if (titleText.getText().isEmpty()) {
+                chartPane.setSpacing((contentBounds.getHeight() - (noOfChartData * itemHeight)));
+            } else {
+                chartPane.setSpacing((contentBounds.getHeight() - (noOfChartData * itemHeight)) / 1.5);
+            }
         }
 
         if (null != graphicRegion) {
@@ -247,9 +300,15 @@ public class ClusterMonitorTileSkin extends TileSkin {
         if (null != graphicRegion) {
             graphicRegion.setBackground(new Background(new BackgroundFill(tile.getSVGPath().getFill(), CornerRadii.EMPTY, Insets.EMPTY)));
         }
+
+        if (null != chartCanvas) { updateChart(); }
     }
 
     private void updateChart() {
+        if (null != chartCanvas) {
+            drawChart();
+            return;
+        }
         int noOfItems = dataItemMap.size();
         if (noOfItems == 0) return;
         for (int i = 0 ; i < noOfItems ; i++) {
@@ -260,6 +319,84 @@ public class ClusterMonitorTileSkin extends TileSkin {
         }
     }
 
+    /**
+     * Draws all items in one pass into the chart canvas. Each item gets the
+     * same share of the canvas height and looks like a ChartItem node.
+     */
+    private void drawChart() {
+        double canvasWidth  = chartCanvas.getWidth();
+        double canvasHeight = chartCanvas.getHeight();
+        chartCtx.clearRect(0, 0, canvasWidth, canvasHeight);
+
+        List<ChartData> chartData = tile.getChartData();
+        int             noOfItems = chartData.size();
+        if (0 == noOfItems || canvasWidth <= 0 || canvasHeight <= 0) { return; }
+
+        double  itemHeight = canvasHeight / noOfItems;
+        boolean compressed = height < MIN_HEIGHT;
+        Font    font       = Fonts.latoRegular(Helper.clamp(1, 48, itemHeight * (compressed ? 0.5 : 0.35)));
+        chartCtx.setFont(font);
+        chartCtx.setTextBaseline(compressed ? VPos.CENTER : VPos.TOP);
+
+        for (int i = 0 ; i < noOfItems ; i++) {
+            ChartData data      = chartData.get(i);
+            double    value     = data.getValue();
+            double    itemY     = i * itemHeight;
+            double    barWidth  = value * canvasWidth / (data.getMaxValue() - data.getMinValue());
+            double    barY;
+            double    barHeight;
+            double    textY;
+            if (compressed) {
+                barY      = itemY + itemHeight * 0.05;
+                barHeight = itemHeight * 0.9;
+                textY     = itemY + itemHeight * 0.5;
+            } else {
+                barY      = itemY + font.getSize() + itemHeight * 0.12;
+                barHeight = itemHeight * 0.35;
+                textY     = itemY;
+                double scaleHeight = itemHeight * 0.05263158;
+                chartCtx.setFill(SCALE_COLOR);
+                chartCtx.fillRect(0, barY + (barHeight - scaleHeight) * 0.5, canvasWidth, scaleHeight);
+            }
+
+            if (tile.isFillWithGradient() && null != data.getGradientLookup()) {
+                chartCtx.setFill(data.getGradientLookup().getColorAt(value / (data.getMaxValue() - data.getMinValue())));
+            } else {
+                chartCtx.setFill(data.getFillColor());
+            }
+            chartCtx.fillRect(0, barY, barWidth, barHeight);
+
+            String formatString = null == data.getFormatString() || data.getFormatString().isEmpty() ? FORMAT_STRING : data.getFormatString();
+            chartCtx.setTextAlign(TextAlignment.LEFT);
+            chartCtx.setFill(compressed && barWidth > width * 0.2 ? tile.getBackgroundColor() : data.getTextColor());
+            chartCtx.fillText(data.getName(), 0, textY);
+            chartCtx.setTextAlign(TextAlignment.RIGHT);
+            chartCtx.setFill(compressed && barWidth > width * 0.8 ? tile.getBackgroundColor() : data.getTextColor());
+            chartCtx.fillText(String.format(Locale.US, formatString, value), canvasWidth, textY);
+        }
+    }
+
+    /**
+     * Returns the ChartData of the item at the given y position of the
+     * chart, works for the chart canvas and for the chart pane.
+     * @param Y
+     * @return the ChartData of the item at the given y position or null
+     */
+    private ChartData getChartDataAt(final double Y) {
+        if (null == chartCanvas) {
+            for (Node node : chartPane.getChildren()) {
+                Bounds bounds = node.getBoundsInParent();
+                if (Y >= bounds.getMinY() && Y < bounds.getMaxY()) { return ((ChartItem) node).chartData; }
+            }
+            return null;
+        }
+        List<ChartData> chartData = tile.getChartData();
+        int             noOfItems = chartData.size();
+        if (0 == noOfItems || Y < 0 || Y >= chartCanvas.getHeight()) { return null; }
+        int index = (int) (Y / (chartCanvas.getHeight() / noOfItems));
+        return index < noOfItems ? chartData.get(index) : null;
+    }
+
 
     // ******************** Internal Classes **********************************
     private class ChartItem extends Region {
@@ -33,6 +33,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Line;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
@@ -188,6 +189,10 @@ public class CountryTileSkin extends TileSkin {
 
             resize();
             redraw();
+        } else if ("CHOROPLETH".equals(EVENT_TYPE)) {
+            tile.getChoropleth().applyChanges((changedCountry, color) -> {
+                if (changedCountry == country) { setCountryFill(); }
+            });
         }
     }
 
@@ -335,6 +340,12 @@ public class CountryTileSkin extends TileSkin {
         upperUnitText.setFill(tile.getUnitColor());
         fractionLine.setStroke(tile.getUnitColor());
         unitText.setFill(tile.getUnitColor());
-        countryPaths.forEach(path -> path.setFill(Helper.getColorWithOpacity(tile.getBarColor(), 0.5)));
+        setCountryFill();
+    }
+
+    private void setCountryFill() {
+        Color color = tile.getChoropleth().getColor(country);
+        Color fill  = null == color ? Helper.getColorWithOpacity(tile.getBarColor(), 0.5) : color;
+        countryPaths.forEach(path -> path.setFill(fill));
     }
 }
@@ -18,17 +18,23 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.Tile.RenderMode;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEvent;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
+import eu.hansolo.tilesfx.events.TileEvent;
+import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.application.Platform;
 import javafx.collections.WeakListChangeListener;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
 import javafx.geometry.VPos;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
@@ -37,13 +43,19 @@ import javafx.scene.text.TextAlignment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 public class CycleStepTileSkin extends TileSkin {
-    private Text            titleText;
-    private Text            text;
-    private List<ChartItem> chartItems;
-    private VBox            chartBox;
+    private Text                     titleText;
+    private Text                     text;
+    private List<ChartItem>          chartItems;
+    private VBox                     chartBox;
+    private Canvas                   chartCanvas;
+    private GraphicsContext          chartCtx;
+    private ChartDataEventListener   chartDataListener;
+    private EventHandler<MouseEvent> chartPressedHandler;
+    private AtomicBoolean            updatePending;
 
 
     // ******************** Constructors **************************************
@@ -56,13 +68,29 @@ public class CycleStepTileSkin extends TileSkin {
     @Override protected void initGraphics() {
         super.initGraphics();
 
-        chartItems = new ArrayList<>();
-        double sum = tile.getChartData().stream().mapToDouble(chartData -> chartData.getValue()).sum();
-        tile.getChartData().forEach(chartData -> chartItems.add(new ChartItem(chartData, sum)));
-
-        chartBox = new VBox(0);
-        chartBox.setFillWidth(true);
-        chartBox.getChildren().addAll(chartItems);
+        chartItems          = new ArrayList<>();
+        updatePending       = new AtomicBoolean(false);
+        chartPressedHandler = e -> {
+            ChartData chartData = getChartDataAt(e.getY());
+            if (null != chartData) { tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, chartData)); }
+        };
+        Node chart;
+        if (RenderMode.CANVAS == tile.getRenderMode()) {
+            // All items will be drawn into one canvas instead of creating a canvas for each item
+            chartCanvas       = new Canvas();
+            chartCtx          = chartCanvas.getGraphicsContext2D();
+            chartDataListener = e -> updateChart();
+            tile.getChartData().forEach(chartData -> chartData.addChartDataEventListener(chartDataListener));
+            chart = chartCanvas;
+        } else {
+            double sum = tile.getChartDataAggregate().getSum();
+            tile.getChartData().forEach(chartData -> chartItems.add(new ChartItem(chartData, sum)));
+
+            chartBox = new VBox(0);
+            chartBox.setFillWidth(true);
+            chartBox.getChildren().addAll(chartItems);
+            chart = chartBox;
+        }
 
         titleText = new Text();
         titleText.setFill(tile.getTitleColor());
@@ -72,15 +100,26 @@ public class CycleStepTileSkin extends TileSkin {
         text.setFill(tile.getUnitColor());
         Helper.enableNode(text, tile.isTextVisible());
 
-        getPane().getChildren().addAll(titleText, text, chartBox);
+        getPane().getChildren().addAll(titleText, text, chart);
     }
 
     @Override protected void registerListeners() {
         super.registerListeners();
         tile.getChartData().addListener(new WeakListChangeListener<>(change -> {
+            if (null != chartCanvas) {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        change.getAddedSubList().forEach(chartData -> chartData.addChartDataEventListener(chartDataListener));
+                    } else if (change.wasRemoved()) {
+                        change.getRemoved().forEach(chartData -> chartData.removeChartDataEventListener(chartDataListener));
+                    }
+                }
+                updateChart();
+                return;
+            }
             while (change.next()) {
                 if (change.wasAdded()) {
-                    double sum = tile.getChartData().stream().mapToDouble(chartData -> chartData.getValue()).sum();
+                    double sum = tile.getChartDataAggregate().getSum();
                     change.getAddedSubList().forEach(chartData -> chartBox.getChildren().add(new ChartItem(chartData, sum)));
                     updateChart();
                 } else if (change.wasRemoved()) {
@@ -94,6 +133,11 @@ public class CycleStepTileSkin extends TileSkin {
                 }
             }
         }));
+        if (null != chartCanvas) {
+            chartCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        } else {
+            chartBox.addEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        }
     }
 
 
@@ -109,22 +153,115 @@ public class CycleStepTileSkin extends TileSkin {
         }
     }
 
+    @Override public boolean isCanvasRenderModeSupported() { return true; }
+
     @Override public void dispose() {
+        if (null != chartCanvas) {
+            chartCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+            tile.getChartData().forEach(chartData -> chartData.removeChartDataEventListener(chartDataListener));
+        } else {
+            chartBox.removeEventHandler(MouseEvent.MOUSE_PRESSED, chartPressedHandler);
+        }
         super.dispose();
     }
 
 
     // ******************** Resizing ******************************************
+    /**
+     * Schedules an update of the chart, all calls until the update will be
+     * executed on the FX application thread are coalesced into this update.
+     */
     private void updateChart() {
-        Platform.runLater(() -> {
-            double sum = tile.getChartData().stream().mapToDouble(chartData -> chartData.getValue()).sum();
-            double lastFactor = 0;
-            for (int i = 0 ; i < chartBox.getChildren().size() ; i++) {
-                ChartItem item = (ChartItem) chartBox.getChildren().get(i);
-                item.update(sum, lastFactor);
-                lastFactor += item.getChartData().getValue() / sum;
+        if (updatePending.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                updatePending.set(false);
+                if (null != chartCanvas) {
+                    drawChart();
+                } else {
+                    updateItems();
+                }
+            });
+        }
+    }
+
+    private void updateItems() {
+        double sum = tile.getChartDataAggregate().getSum();
+        double lastFactor = 0;
+        for (int i = 0 ; i < chartBox.getChildren().size() ; i++) {
+            ChartItem item = (ChartItem) chartBox.getChildren().get(i);
+            item.update(sum, lastFactor);
+            lastFactor += item.getChartData().getValue() / sum;
+        }
+    }
+
+    /**
+     * Draws all items in one pass into the chart canvas, each item gets the
+     * same share of the canvas height.
+     */
+    private void drawChart() {
+        double canvasWidth  = chartCanvas.getWidth();
+        double canvasHeight = chartCanvas.getHeight();
+        chartCtx.clearRect(0, 0, canvasWidth, canvasHeight);
+
+        List<ChartData> chartData = tile.getChartData();
+        int             noOfItems = chartData.size();
+        if (0 == noOfItems || canvasWidth <= 0 || canvasHeight <= 0) { return; }
+
+        double sum        = tile.getChartDataAggregate().getSum();
+        double itemHeight = canvasHeight / noOfItems;
+        double lastFactor = 0;
+        for (int i = 0 ; i < noOfItems ; i++) {
+            ChartData data = chartData.get(i);
+            drawItem(chartCtx, data, i * itemHeight, canvasWidth, itemHeight, sum, lastFactor);
+            lastFactor += data.getValue() / sum;
+        }
+    }
+
+    private void drawItem(final GraphicsContext CTX, final ChartData CHART_DATA, final double Y, final double WIDTH, final double HEIGHT, final double SUM, final double FACTOR_X) {
+        double value        = CHART_DATA.getValue();
+        String formatString = "%." + tile.getDecimals() + "f";
+        double maxTextWidth = WIDTH * 0.4;
+        double barStartX    = maxTextWidth + 5;
+        double barStartY    = Y + HEIGHT * 0.2;
+        double maxBarWidth  = WIDTH - barStartX;
+        double barWidth     = value / SUM * maxBarWidth;
+        double barHeight    = HEIGHT * 0.6;
+        double centerY      = Y + HEIGHT * 0.5;
+
+        CTX.setTextBaseline(VPos.CENTER);
+        CTX.setFont(Fonts.latoRegular(HEIGHT * 0.4));
+        CTX.setTextAlign(TextAlignment.LEFT);
+        CTX.setFill(tile.getForegroundColor());
+        CTX.fillText(CHART_DATA.getName(), 0, centerY, maxTextWidth);
+        CTX.setFill(Helper.getColorWithOpacity(tile.getForegroundColor(), 0.1));
+        CTX.fillRect(barStartX, barStartY, maxBarWidth, barHeight);
+        CTX.setFill(CHART_DATA.getFillColor());
+        CTX.fillRect(barStartX + FACTOR_X * maxBarWidth, barStartY, barWidth, barHeight);
+        CTX.setFill(tile.getForegroundColor());
+        CTX.setFont(Fonts.latoRegular(HEIGHT * 0.3));
+        CTX.setTextAlign(TextAlignment.CENTER);
+        CTX.fillText(String.format(tile.getLocale(), formatString, value), barStartX + FACTOR_X * maxBarWidth + barWidth * 0.5, centerY, maxTextWidth);
+    }
+
+    /**
+     * Returns the ChartData of the item at the given y position of the
+     * chart, works for the chart canvas and for the chart box.
+     * @param Y
+     * @return the ChartData of the item at the given y position or null
+     */
+    private ChartData getChartDataAt(final double Y) {
+        if (null == chartCanvas) {
+            for (Node node : chartBox.getChildren()) {
+                Bounds bounds = node.getBoundsInParent();
+                if (Y >= bounds.getMinY() && Y < bounds.getMaxY()) { return ((ChartItem) node).getChartData(); }
             }
-        });
+            return null;
+        }
+        List<ChartData> chartData = tile.getChartData();
+        int             noOfItems = chartData.size();
+        if (0 == noOfItems || Y < 0 || Y >= chartCanvas.getHeight()) { return null; }
+        int index = (int) (Y / (chartCanvas.getHeight() / noOfItems));
+        return index < noOfItems ? chartData.get(index) : null;
     }
 
     @Override protected void resizeStaticText() {
@@ -158,8 +295,14 @@ public class CycleStepTileSkin extends TileSkin {
 
     @Override protected void resize() {
         super.resize();
-        chartBox.relocate(contentBounds.getMinX(), contentBounds.getMinY());
-        chartBox.setPrefSize(contentBounds.getWidth(), contentBounds.getHeight());
+        if (null != chartCanvas) {
+            chartCanvas.setWidth(contentBounds.getWidth());
+            chartCanvas.setHeight(contentBounds.getHeight());
+            chartCanvas.relocate(contentBounds.getMinX(), contentBounds.getMinY());
+        } else {
+            chartBox.relocate(contentBounds.getMinX(), contentBounds.getMinY());
+            chartBox.setPrefSize(contentBounds.getWidth(), contentBounds.getHeight());
+        }
         updateChart();
     }
 
@@ -178,6 +321,8 @@ public class CycleStepTileSkin extends TileSkin {
 
         titleText.setFill(tile.getTitleColor());
         text.setFill(tile.getTextColor());
+
+        if (null != chartCanvas) { updateChart(); }
     }
 
 
@@ -267,33 +412,12 @@ public class CycleStepTileSkin extends TileSkin {
         }
 
         private void redraw() {
-            double value        = chartData.getValue();
-            String formatString = "%." + tile.getDecimals() + "f";
-            double maxTextWidth = width * 0.4;
-            double barStartX    = maxTextWidth + 5;
-            double barStartY    = height * 0.2;
-            double maxBarWidth  = width - barStartX;
-            double barWidth     = value / sum * maxBarWidth;
-            double barHeight    = height * 0.6;
-
-            ctx.setTextBaseline(VPos.CENTER);
-            ctx.setFont(Fonts.latoRegular(height * 0.4));
-            ctx.setTextAlign(TextAlignment.LEFT);
             ctx.clearRect(0, 0, width, height);
-            ctx.setFill(tile.getForegroundColor());
-            ctx.fillText(chartData.getName(), 0, height / 2, maxTextWidth);
-            ctx.setFill(Helper.getColorWithOpacity(tile.getForegroundColor(), 0.1));
-            ctx.fillRect(barStartX, barStartY, maxBarWidth, barHeight);
-            ctx.setFill(chartData.getFillColor());
-            ctx.fillRect(barStartX + factorX * maxBarWidth, barStartY, barWidth, barHeight);
-            ctx.setFill(tile.getForegroundColor());
-            ctx.setFont(Fonts.latoRegular(height * 0.3));
-            ctx.setTextAlign(TextAlignment.CENTER);
-            ctx.fillText(String.format(tile.getLocale(), formatString, value), barStartX + factorX * maxBarWidth + barWidth * 0.5, height * 0.5, maxTextWidth);
+            drawItem(ctx, chartData, 0, width, height, sum, factorX);
         }
 
         @Override public void onChartDataEvent(final ChartDataEvent EVENT) {
-            double sum = tile.getChartData().stream().mapToDouble(chartData -> chartData.getValue()).sum();
+            double sum = tile.getChartDataAggregate().getSum();
             double lastFactor = 0;
             for (int i = 0 ; i < chartBox.getChildren().size() ; i++) {
                 ChartItem item = (ChartItem) chartBox.getChildren().get(i);
@@ -23,6 +23,7 @@ import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.chart.ChartData;
+import eu.hansolo.tilesfx.chart.ChartDataAggregate;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.collections.ListChangeListener;
 import javafx.event.EventHandler;
@@ -39,10 +40,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 
 /**
@@ -56,6 +55,7 @@ public class DonutChartTileSkin extends TileSkin {
     private Canvas                        legendCanvas;
     private GraphicsContext               legendCtx;
     private ListChangeListener<ChartData> chartDataListener;
+    private ChartDataAggregate            aggregate;
     private ChartDataEventListener        chartEventListener;
     private double                        centerX;
     private double                        centerY;
@@ -76,6 +76,7 @@ public class DonutChartTileSkin extends TileSkin {
     @Override protected void initGraphics() {
         super.initGraphics();
 
+        aggregate          = tile.getChartDataAggregate();
         chartEventListener = e -> redraw();
         tile.getChartData().forEach(chartData -> chartData.addChartDataEventListener(chartEventListener));
 
@@ -98,13 +99,13 @@ public class DonutChartTileSkin extends TileSkin {
             double          angle      = 0;
             List<ChartData> dataList;
             switch(tile.getItemSorting()) {
-                case ASCENDING : dataList = tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue)).collect(Collectors.toList()); break;
-                case DESCENDING: dataList = tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue).reversed()).collect(Collectors.toList()); break;
+                case ASCENDING : dataList = aggregate.getSortedAscending(); break;
+                case DESCENDING: dataList = aggregate.getSortedDescending(); break;
                 case NONE      :
                 default        : dataList = tile.getChartData(); break;
             }
             int             noOfItems  = dataList.size();
-            double          sum        = dataList.stream().mapToDouble(ChartData::getValue).sum();
+            double          sum        = aggregate.getSum();
             double          stepSize   = 360.0 / sum;
             double          barWidth   = chartCanvas.getWidth() * 0.1;
             double          ri         = outerRadius - barWidth * 0.5;
@@ -193,8 +194,8 @@ public class DonutChartTileSkin extends TileSkin {
     private void drawChart() {
         List<ChartData> dataList;
         switch(tile.getItemSorting()) {
-            case ASCENDING : dataList = tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue)).collect(Collectors.toList()); break;
-            case DESCENDING: dataList = tile.getChartData().stream().sorted(Comparator.comparingDouble(ChartData::getValue).reversed()).collect(Collectors.toList()); break;
+            case ASCENDING : dataList = aggregate.getSortedAscending(); break;
+            case DESCENDING: dataList = aggregate.getSortedDescending(); break;
             case NONE      :
             default        : dataList = tile.getChartData(); break;
         }
@@ -203,7 +204,7 @@ public class DonutChartTileSkin extends TileSkin {
         int             noOfItems      = dataList.size();
         double          center         = canvasSize * 0.5;
         double          barWidth       = canvasSize * 0.09;
-        double          sum            = dataList.stream().mapToDouble(ChartData::getValue).sum();
+        double          sum            = aggregate.getSum();
         double          stepSize       = 360.0 / sum;
         double          angle          = 0;
         double          startAngle     = 90;
@@ -22,6 +22,7 @@ import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.colors.ColorSkin;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.jfr.AnimationTimerFrame;
 import eu.hansolo.tilesfx.tools.GradientLookup;
 import eu.hansolo.tilesfx.tools.Helper;
 import javafx.animation.AnimationTimer;
@@ -86,6 +87,8 @@ public class FluidTileSkin extends TileSkin {
         lastImpulseCall = System.nanoTime();
         timer           = new AnimationTimer() {
             @Override public void handle(long now) {
+                AnimationTimerFrame frame = AnimationTimerFrame.isRecording() ? new AnimationTimerFrame() : null;
+                if (null != frame) { frame.begin(); }
                 if (now > lastUpdateCall + updateInterval) {
                     update();
                     lastUpdateCall = now;
@@ -94,6 +97,7 @@ public class FluidTileSkin extends TileSkin {
                     impulse();
                     lastImpulseCall = now;
                 }
+                if (null != frame) { frame.commit("Fluid", 1); }
             }
         };
 
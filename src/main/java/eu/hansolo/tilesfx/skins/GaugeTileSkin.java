@@ -21,6 +21,7 @@ import eu.hansolo.tilesfx.Section;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.NodePool;
 import javafx.geometry.Pos;
 import javafx.geometry.VPos;
 import javafx.scene.CacheHint;
@@ -77,6 +78,10 @@ public class GaugeTileSkin extends TileSkin {
     private Path              alertIcon;
     private Tooltip           alertTooltip;
     private Map<Section, Arc> sectionMap;
+    private List<Line>        sectionLines;
+    private NodePool<Line>    sectionLinePool;
+    private NodePool<Arc>     sectionArcPool;
+    private boolean           sectionsDirty;
     private Color             barColor;
     private Color             thresholdColor;
 
@@ -95,7 +100,20 @@ public class GaugeTileSkin extends TileSkin {
         if (tile.isAutoScale()) tile.calcAutoScale();
         oldValue          = tile.getValue();
         sectionMap        = new HashMap<>(sections.size());
-        for(Section section : sections) { sectionMap.put(section, new Arc()); }
+        sectionLines      = new ArrayList<>(sections.size());
+        sectionLinePool   = new NodePool<>(() -> new Line());
+        sectionArcPool    = new NodePool<>(() -> {
+            Arc sectionArc = new Arc();
+            sectionArc.setType(ArcType.OPEN);
+            sectionArc.setStrokeLineCap(StrokeLineCap.BUTT);
+            sectionArc.setFill(null);
+            Tooltip sectionTooltip = new Tooltip();
+            sectionTooltip.setTextAlignment(TextAlignment.CENTER);
+            Tooltip.install(sectionArc, sectionTooltip);
+            sectionArc.getProperties().put(Tooltip.class, sectionTooltip);
+            return sectionArc;
+        });
+        sectionsDirty     = true;
 
         barColor       = tile.getBarColor();
         thresholdColor = tile.getThresholdColor();
@@ -182,7 +200,8 @@ public class GaugeTileSkin extends TileSkin {
         thresholdText.setFill(sectionsVisible ? Color.TRANSPARENT : Tile.GRAY);
         Helper.enableNode(thresholdText, tile.isThresholdVisible());
 
-        getPane().getChildren().addAll(barBackground, thresholdBar, sectionPane, alertIcon, needleRect, needle, titleText, valueUnitFlow, fractionLine, minValueText, maxValueText, thresholdRect, thresholdText);
+        getStaticLayer().getChildren().addAll(barBackground, thresholdBar, sectionPane, titleText, fractionLine, minValueText, maxValueText);
+        getPane().getChildren().addAll(alertIcon, needleRect, needle, valueUnitFlow, thresholdRect, thresholdText);
     }
 
     @Override protected void registerListeners() {
@@ -203,9 +222,10 @@ public class GaugeTileSkin extends TileSkin {
             Helper.enableNode(unitFlow, !tile.getUnit().isEmpty());
             sectionsVisible = tile.getSectionsVisible();
         } else if ("SECTION".equals(EVENT_TYPE)) {
-            sections = tile.getSections();
-            sectionMap.clear();
-            for(Section section : sections) { sectionMap.put(section, new Arc()); }
+            sections      = tile.getSections();
+            sectionsDirty = true;
+            drawSections();
+            highlightSections(tile.getValue());
         } else if ("ALERT".equals(EVENT_TYPE)) {
             Helper.enableNode(valueText, tile.isValueVisible() && !tile.isAlert());
             Helper.enableNode(unitText, tile.isValueVisible() && !tile.isAlert());
@@ -232,32 +252,69 @@ public class GaugeTileSkin extends TileSkin {
 
     private void highlightSections(final double VALUE) {
         if (!sectionsVisible || sections.isEmpty()) return;
+        // Only changed properties will invalidate the cached static layer
         if (highlightSections) {
-            sections.forEach(section -> sectionMap.get(section).setVisible(section.contains(VALUE)));
+            sections.forEach(section -> {
+                Arc sectionArc = sectionMap.get(section);
+                sectionArc.setVisible(section.contains(VALUE));
+                sectionArc.setOpacity(1.0);
+            });
         } else {
-            sections.forEach(section -> sectionMap.get(section).setOpacity(section.contains(VALUE) ? 1.0 : 0.25));
+            sections.forEach(section -> {
+                Arc sectionArc = sectionMap.get(section);
+                sectionArc.setVisible(true);
+                sectionArc.setOpacity(section.contains(VALUE) ? 1.0 : 0.25);
+            });
+        }
+    }
+
+    /**
+     * Assigns the section lines and arcs, will only be called if the
+     * sections changed, on resize the assigned nodes will be reused. The
+     * nodes of the former sections will be taken from the pools.
+     */
+    private void createSections() {
+        sectionLinePool.releaseAll(sectionLines);
+        sectionArcPool.releaseAll(sectionMap.values());
+        sectionLines.clear();
+        sectionMap.clear();
+        int noOfSections = sections.size();
+        for (int i = 0 ; i < noOfSections - 1 ; i++) { sectionLines.add(sectionLinePool.acquire()); }
+
+        for (Section section : sections) {
+            Arc sectionArc = sectionArcPool.acquire();
+            sectionArc.setVisible(!highlightSections);
+            sectionArc.setOpacity(highlightSections ? 1.0 : 0.25);
+            sectionMap.put(section, sectionArc);
         }
+        sectionPane.getChildren().setAll(sectionLines);
+        sectionPane.getChildren().addAll(sectionMap.values());
+        sectionsDirty = false;
     }
 
     private void drawSections() {
-        sectionPane.getChildren().clear();
-        if (!sectionsVisible || sections.isEmpty()) return;
+        if (!sectionsVisible || sections.isEmpty()) {
+            sectionPane.getChildren().clear();
+            sectionsDirty = true;
+            return;
+        }
+        if (sectionsDirty) { createSections(); }
 
-        double     centerX      = width * 0.5;
-        double     centerY      = height * 0.5;
-        double     innerRadius  = size * 0.2775;
-        double     outerRadius  = size * 0.3225;
-        int        noOfSections = sections.size();
-        List<Line> sectionLines = new ArrayList<>(noOfSections);
+        double centerX      = width * 0.5;
+        double centerY      = height * 0.5;
+        double innerRadius  = size * 0.2775;
+        double outerRadius  = size * 0.3225;
+        int    noOfSections = sections.size();
         for (int i = 0 ; i < noOfSections - 1 ; i++) {
             Section section = sections.get(i);
             double  angle   = Helper.clamp(90.0, 270.0, (section.getStop() - minValue) * angleStep + 90.0);
-            Line    line    = new Line(centerX + innerRadius * Math.sin(-Math.toRadians(angle)), centerY + innerRadius * Math.cos(-Math.toRadians(angle)),
-                                       centerX + outerRadius * Math.sin(-Math.toRadians(angle)), centerY + outerRadius * Math.cos(-Math.toRadians(angle)));
+            Line    line    = sectionLines.get(i);
+            line.setStartX(centerX + innerRadius * Math.sin(-Math.toRadians(angle)));
+            line.setStartY(centerY + innerRadius * Math.cos(-Math.toRadians(angle)));
+            line.setEndX(centerX + outerRadius * Math.sin(-Math.toRadians(angle)));
+            line.setEndY(centerY + outerRadius * Math.cos(-Math.toRadians(angle)));
             line.setStroke(tile.getBackgroundColor());
-            sectionLines.add(line);
         }
-        sectionPane.getChildren().addAll(sectionLines);
 
         double barRadius = size * 0.3;
         double barWidth  = size * 0.045;
@@ -272,21 +329,17 @@ public class GaugeTileSkin extends TileSkin {
             } else {
                 length = (section.getStop() - section.getStart()) * angleStep;
             }
-            Arc sectionArc = new Arc(centerX, centerY + size * 0.2825, barRadius, barRadius, -startAngle, -length);
-
-            sectionArc.setType(ArcType.OPEN);
+            Arc sectionArc = sectionMap.get(section);
+            sectionArc.setCenterX(centerX);
+            sectionArc.setCenterY(centerY + size * 0.2825);
+            sectionArc.setRadiusX(barRadius);
+            sectionArc.setRadiusY(barRadius);
+            sectionArc.setStartAngle(-startAngle);
+            sectionArc.setLength(-length);
             sectionArc.setStroke(section.getColor());
             sectionArc.setStrokeWidth(barWidth);
-            sectionArc.setStrokeLineCap(StrokeLineCap.BUTT);
-            sectionArc.setFill(null);
-            sectionArc.setVisible(!highlightSections);
-            sectionArc.setOpacity(highlightSections ? 1.0 : 0.25);
-            Tooltip sectionTooltip = new Tooltip(section.getText());
-            sectionTooltip.setTextAlignment(TextAlignment.CENTER);
-            Tooltip.install(sectionArc, sectionTooltip);
-            sectionMap.put(section, sectionArc);
+            ((Tooltip) sectionArc.getProperties().get(Tooltip.class)).setText(section.getText());
         }
-        sectionPane.getChildren().addAll(sectionMap.values());
     }
 
     private void drawNeedle() {
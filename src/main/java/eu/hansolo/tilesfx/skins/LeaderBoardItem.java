@@ -24,7 +24,9 @@ import eu.hansolo.tilesfx.events.ChartDataEvent;
 import eu.hansolo.tilesfx.events.ChartDataEvent.EventType;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.icons.Flag;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.SpriteAtlas;
 import javafx.beans.DefaultProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -32,6 +34,7 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
 import javafx.scene.Node;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
@@ -86,6 +89,8 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
     private              double                parentWidth;
     private              double                parentHeight;
     private              Text                  nameText;
+    private              ImageView             flagView;
+    private              Flag                  flag;
     private              Text                  valueText;
     private              Path                  triangle;
     private              Line                  separator;
@@ -130,17 +135,17 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
     public LeaderBoardItem(final String NAME, final double VALUE, final Instant TIMESTAMP, final Duration DURATION) {
         chartData            = new ChartData(NAME, VALUE, TIMESTAMP, DURATION);
         nameColor            = new ObjectPropertyBase<>(Tile.FOREGROUND) {
-            @Override protected void invalidated() { nameText.setFill(get()); }
+            @Override protected void invalidated() { if (null != nameText) { nameText.setFill(get()); } }
             @Override public Object getBean() { return LeaderBoardItem.this; }
             @Override public String getName() { return "nameColor"; }
         };
         valueColor           = new ObjectPropertyBase<>(Tile.FOREGROUND) {
-            @Override protected void invalidated() {  valueText.setFill(get()); }
+            @Override protected void invalidated() { if (null != valueText) { valueText.setFill(get()); } }
             @Override public Object getBean() { return LeaderBoardItem.this; }
             @Override public String getName() { return "valueColor"; }
         };
         separatorColor       = new ObjectPropertyBase<>(Color.rgb(72, 72, 72)) {
-            @Override protected void invalidated() { separator.setStroke(get()); }
+            @Override protected void invalidated() { if (null != separator) { separator.setStroke(get()); } }
             @Override public Object getBean() { return LeaderBoardItem.this; }
             @Override public String getName() { return "separatorColor"; }
         };
@@ -153,14 +158,14 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
         lastIndex            = 1024;
         parentWidth          = 250;
         parentHeight         = 250;
+        state                = State.CONSTANT;
 
-        initGraphics();
-        registerListeners();
+        initSize();
     }
 
 
     // ******************** Initialization ************************************
-    private void initGraphics() {
+    private void initSize() {
         if (Double.compare(getPrefWidth(), 0.0) <= 0 || Double.compare(getPrefHeight(), 0.0) <= 0 ||
             Double.compare(getWidth(), 0.0) <= 0 || Double.compare(getHeight(), 0.0) <= 0) {
             if (getPrefWidth() > 0 && getPrefHeight() > 0) {
@@ -169,9 +174,14 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
                 setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT); // 11x7
             }
         }
+    }
 
-        state = State.CONSTANT;
-
+    /**
+     * The nodes will only be created when the item will be shown for the
+     * first time, so items that are only used as data for recycled rows
+     * never create them.
+     */
+    private void initGraphics() {
         triangle = new Path();
         triangle.setStroke(null);
         triangle.setFill(state.color);
@@ -179,17 +189,25 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
 
         nameText = new Text(getName());
         nameText.setTextOrigin(VPos.TOP);
+        nameText.setFill(getNameColor());
+
+        flagView = new ImageView();
+        flagView.setPreserveRatio(true);
+        Helper.enableNode(flagView, null != flag);
 
         valueText = new Text();
         valueText.setTextOrigin(VPos.TOP);
-        updateValueText();
+        valueText.setFill(getValueColor());
 
         separator = new Line();
+        separator.setStroke(getSeparatorColor());
 
-        pane = new Pane(triangle, nameText, valueText, separator);
+        pane = new Pane(triangle, flagView, nameText, valueText, separator);
         pane.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT, CornerRadii.EMPTY, Insets.EMPTY)));
 
         getChildren().setAll(pane);
+
+        updateValueText();
     }
 
     private void registerListeners() {
@@ -197,6 +215,13 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
         heightProperty().addListener(o -> resize());
     }
 
+    private void ensureGraphics() {
+        if (null != pane) { return; }
+        initGraphics();
+        registerListeners();
+        resize();
+    }
+
 
     // ******************** Methods *******************************************
     @Override protected double computeMinWidth(final double HEIGHT) { return MINIMUM_WIDTH; }
@@ -206,6 +231,11 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
     @Override protected double computeMaxWidth(final double HEIGHT) { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double WIDTH) { return MAXIMUM_HEIGHT; }
 
+    @Override protected void layoutChildren() {
+        ensureGraphics();
+        super.layoutChildren();
+    }
+
     @Override public ObservableList<Node> getChildren() { return super.getChildren(); }
 
     public String getName() { return chartData.getName(); }
@@ -224,6 +254,19 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
     public Duration getDuration() { return chartData.getDuration(); }
     public void setDuration(final Duration DURATION) { chartData.setDuration(DURATION); }
 
+    public Flag getFlag() { return flag; }
+    /**
+     * Shows the given flag in front of the name. All flags are taken from
+     * a shared sprite atlas so that all items use the same image.
+     * @param FLAG the flag to show or null to hide the flag
+     */
+    public void setFlag(final Flag FLAG) {
+        flag = FLAG;
+        if (null == pane) { return; }
+        Helper.enableNode(flagView, null != flag);
+        resize();
+    }
+
     public Color getNameColor() { return nameColor.get(); }
     public void setNameColor(final Color COLOR) { nameColor.set(COLOR); }
     public ObjectProperty<Color> nameColorProperty() { return nameColor; }
@@ -253,6 +296,7 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
         } else {
             state = State.CONSTANT;
         }
+        if (null == pane) { return; }
         triangle.setFill(state.color);
         triangle.setRotate(state.angle);
 
@@ -298,6 +342,38 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
         updateValueText();
     }
 
+    /**
+     * Lets this item render the data, colors and state of the given item.
+     * Used to recycle a few items as rows for a long list of items.
+     * @param ITEM the item that should be rendered
+     */
+    void showItem(final LeaderBoardItem ITEM) {
+        ensureGraphics();
+        final boolean FLAG_CHANGED = flag != ITEM.flag;
+        chartData            = ITEM.chartData;
+        flag                 = ITEM.flag;
+        index                = ITEM.index;
+        lastIndex            = ITEM.lastIndex;
+        state                = ITEM.state;
+        itemSortingTopic     = ITEM.itemSortingTopic;
+        formatString         = ITEM.formatString;
+        durationFormatString = ITEM.durationFormatString;
+        timestampFormatter   = ITEM.timestampFormatter;
+        locale               = ITEM.locale;
+        setNameColor(ITEM.getNameColor());
+        setValueColor(ITEM.getValueColor());
+        setSeparatorColor(ITEM.getSeparatorColor());
+
+        nameText.setText(getName());
+        triangle.setFill(state.color);
+        triangle.setRotate(state.angle);
+        if (FLAG_CHANGED) {
+            Helper.enableNode(flagView, null != flag);
+            resize();
+        }
+        updateValueText();
+    }
+
     public void setParentSize(final double WIDTH, final double HEIGHT) {
         parentWidth  = WIDTH;
         parentHeight = HEIGHT;
@@ -314,6 +390,7 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
     }
 
     private void updateValueText() {
+        if (null == valueText) { return; }
         switch (itemSortingTopic) {
             case DURATION:
                 long seconds = chartData.getDuration().getSeconds();
@@ -336,6 +413,7 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
 
     // ******************** Resizing ******************************************
     private void resize() {
+        if (null == pane) { return; }
         width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
         height = getHeight() - getInsets().getTop() - getInsets().getBottom();
         size   = parentWidth < parentHeight ? parentWidth : parentHeight;
@@ -359,8 +437,17 @@ public class LeaderBoardItem extends Region implements Comparable<LeaderBoardIte
 
             double fontSize = Helper.clamp(12, MAXIMUM_HEIGHT * 0.5, size * 0.06);
 
+            if (null == flag) {
+                nameText.setX(size * 0.12);
+            } else {
+                double flagSize = fontSize * 1.2;
+                SpriteAtlas.getFlagAtlas(flagSize).updateImageView(flagView, flag.name());
+                flagView.setFitWidth(flagSize);
+                flagView.setFitHeight(flagSize);
+                flagView.relocate(size * 0.12, (fontSize * 1.5 - flagSize) * 0.5);
+                nameText.setX(size * 0.12 + flagSize + size * 0.02);
+            }
             nameText.setFont(Fonts.latoRegular(fontSize));
-            nameText.setX(size * 0.12);
             nameText.setY(0);
 
             valueText.setFont(Fonts.latoRegular(fontSize));
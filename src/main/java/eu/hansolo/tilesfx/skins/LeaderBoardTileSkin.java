@@ -18,12 +18,17 @@
 package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.Tile.ItemSorting;
+import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.ChartDataEvent.EventType;
 import eu.hansolo.tilesfx.events.ChartDataEventListener;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.skins.LeaderBoardItem.State;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.PrettyListView;
+import eu.hansolo.tilesfx.tools.RankingIndex;
+import eu.hansolo.tilesfx.tools.RecycledRowCell;
 import javafx.beans.InvalidationListener;
 import javafx.collections.WeakListChangeListener;
 import javafx.event.EventHandler;
@@ -31,23 +36,31 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 
 /**
  * Created by hansolo on 19.12.16.
  */
 public class LeaderBoardTileSkin extends TileSkin {
-    private Text                                           titleText;
-    private Text                                           text;
-    private PrettyListView<LeaderBoardItem>                leaderBoardPane;
-    private ChartDataEventListener                         updateHandler;
-    private InvalidationListener                           paneSizeListener;
-    private Map<LeaderBoardItem, EventHandler<MouseEvent>> handlerMap;
+    private Text                                                                    titleText;
+    private Text                                                                    text;
+    private PrettyListView<LeaderBoardItem>                                         leaderBoardPane;
+    private ChartDataEventListener                                                  updateHandler;
+    private InvalidationListener                                                    paneSizeListener;
+    private Map<LeaderBoardItem, EventHandler<MouseEvent>>                          handlerMap;
+    private Map<ChartData, LeaderBoardItem>                                         itemMap;
+    private RankingIndex<LeaderBoardItem>                                           ranking;
+    private Set<LeaderBoardItem>                                                    movedItems;
+    private Map<LeaderBoardItem, RecycledRowCell<LeaderBoardItem, LeaderBoardItem>> visibleRows;
+    private List<LeaderBoardItem>                                                   rows;
 
 
     // ******************** Constructors **************************************
@@ -63,19 +76,29 @@ public class LeaderBoardTileSkin extends TileSkin {
         updateHandler    = e -> {
             final EventType TYPE = e.getType();
             switch (TYPE) {
-                case UPDATE  : updateChart(); break;
-                case FINISHED: sortItems(); break;
+                case UPDATE  :
+                    LeaderBoardItem item = itemMap.get(e.getData());
+                    updateRank(item);
+                    RecycledRowCell.rebind(visibleRows, item);
+                    break;
+                case FINISHED: publishRank(itemMap.get(e.getData())); break;
             }
         };
         paneSizeListener = o -> resizeItems();
         handlerMap       = new HashMap<>();
+        itemMap          = new IdentityHashMap<>();
+        ranking          = new RankingIndex<>(getKeyFunction(), isDescending());
+        movedItems       = Collections.newSetFromMap(new IdentityHashMap<>());
+        visibleRows      = new IdentityHashMap<>();
+        rows             = new ArrayList<>();
 
         registerItemListeners();
 
         tile.getLeaderBoardItems().forEach(item -> item.setItemSortingTopic(tile.getItemSortingTopic()));
 
+        // Only the visible rows will be rendered by a few recycled items
         leaderBoardPane = new PrettyListView();
-        leaderBoardPane.getItems().addAll(tile.getLeaderBoardItems());
+        leaderBoardPane.setCellFactory(listView -> new RecycledRowCell<>(this::createRow, LeaderBoardItem::showItem, visibleRows));
 
         sortItems();
 
@@ -106,13 +129,17 @@ public class LeaderBoardTileSkin extends TileSkin {
             Helper.enableNode(text, tile.isTextVisible());
         } else if (TileEvent.EventType.DATA.name().equals(EVENT_TYPE)) {
             registerItemListeners();
+            sortItems();
         }
     }
 
     private void registerItemListeners() {
         tile.getLeaderBoardItems().forEach(item -> {
             item.setFormatString(formatString);
+            item.removeChartDataEventListener(updateHandler);
             item.addChartDataEventListener(updateHandler);
+            itemMap.put(item.getChartData(), item);
+            if (handlerMap.containsKey(item)) { item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(item)); }
             EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(TileEvent.EventType.SELECTED_CHART_DATA, item.getChartData()));
             handlerMap.put(item, clickHandler);
             item.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
@@ -127,50 +154,104 @@ public class LeaderBoardTileSkin extends TileSkin {
                         addedItem.setFormatString(formatString);
                         addedItem.addChartDataEventListener(updateHandler);
                         addedItem.setItemSortingTopic(tile.getItemSortingTopic());
+                        itemMap.put(addedItem.getChartData(), addedItem);
                         EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(TileEvent.EventType.SELECTED_CHART_DATA, addedItem.getChartData()));
                         handlerMap.put(addedItem, clickHandler);
                         addedItem.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
-                        leaderBoardPane.getItems().add(addedItem);
+                        if (!ranking.contains(addedItem)) {
+                            leaderBoardPane.getItems().add(ranking.add(addedItem), addedItem);
+                            publishRank(addedItem);
+                        }
                     });
                 } else if (change.wasRemoved()) {
                     change.getRemoved().forEach(removedItem -> {
                         removedItem.removeChartDataEventListener(updateHandler);
-                        removedItem.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(removedItem));
-                        leaderBoardPane.getItems().remove(removedItem);
+                        removedItem.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.remove(removedItem));
+                        itemMap.remove(removedItem.getChartData());
+                        movedItems.remove(removedItem);
+                        int rank = ranking.remove(removedItem);
+                        if (rank > -1) { leaderBoardPane.getItems().remove(rank); }
                     });
                 }
             }
-            updateChart();
             resizeItems();
         }));
     }
 
+    /**
+     * Ranks all items again, only needed if the items or the sorting changed.
+     * Changed values will only reposition the changed item (see updateRank()).
+     */
     private void sortItems() {
-        List<LeaderBoardItem> items = tile.getLeaderBoardItems();
-        switch(tile.getItemSorting()) {
-            case ASCENDING :
-                switch(tile.getItemSortingTopic()) {
-                    case TIMESTAMP: items.sort(Comparator.comparing(LeaderBoardItem::getTimestamp)); break;
-                    case DURATION : items.sort(Comparator.comparing(LeaderBoardItem::getDuration)); break;
-                    case VALUE    :
-                    default       : items.sort(Comparator.comparing(LeaderBoardItem::getValue)); break;
-                }
-                break;
-            case DESCENDING:
-                switch(tile.getItemSortingTopic()) {
-                    case TIMESTAMP: items.sort(Comparator.comparing(LeaderBoardItem::getTimestamp).reversed()); break;
-                    case DURATION : items.sort(Comparator.comparing(LeaderBoardItem::getDuration).reversed()); break;
-                    case VALUE    :
-                    default       : items.sort(Comparator.comparing(LeaderBoardItem::getValue).reversed()); break;
-                }
-                break;
-            case NONE:
-            default: break;
+        ranking.setOrder(getKeyFunction(), isDescending());
+        ranking.setAll(tile.getLeaderBoardItems());
+        List<LeaderBoardItem> rankedItems = ranking.toList();
+        leaderBoardPane.getItems().setAll(rankedItems);
+        movedItems.clear();
+        for (int i = 0 ; i < rankedItems.size() ; i++) { rankedItems.get(i).setIndex(i); }
+        visibleRows.values().forEach(RecycledRowCell::rebind);
+    }
+
+    /**
+     * Moves the given item to its new rank in the list without sorting all items.
+     * @param ITEM
+     */
+    private void updateRank(final LeaderBoardItem ITEM) {
+        if (null == ITEM) { return; }
+        int[] ranks = ranking.update(ITEM);
+        if (ranks[0] == ranks[1]) { return; }
+        List<LeaderBoardItem> items = leaderBoardPane.getItems();
+        if (ranks[0] > -1) { items.remove(ranks[0]); }
+        items.add(ranks[1], ITEM);
+    }
+
+    /**
+     * Updates the rank of the given item and sets the index of all items that
+     * have been passed by it, so that their RISE/FALL state will be updated.
+     * Items that moved in the last round but not in this one will become CONSTANT.
+     * @param ITEM
+     */
+    private void publishRank(final LeaderBoardItem ITEM) {
+        if (null == ITEM) { return; }
+        updateRank(ITEM);
+        int rank = ranking.getRank(ITEM);
+        int from = Math.max(0, Math.min(rank, ITEM.getIndex()));
+        int to   = Math.min(ranking.size() - 1, Math.max(rank, ITEM.getIndex()));
+
+        List<LeaderBoardItem> previouslyMoved = new ArrayList<>(movedItems);
+        movedItems.clear();
+        for (int i = from ; i <= to ; i++) {
+            LeaderBoardItem item = ranking.get(i);
+            item.setIndex(i);
+            if (State.CONSTANT != item.getState()) { movedItems.add(item); }
+        }
+        for (LeaderBoardItem item : previouslyMoved) {
+            if (movedItems.contains(item) || !ranking.contains(item)) { continue; }
+            item.setIndex(ranking.getRank(item));
+            if (State.CONSTANT != item.getState()) { movedItems.add(item); }
         }
-        items.forEach(i -> i.setIndex(items.indexOf(i)));
-        updateChart();
+        visibleRows.values().forEach(RecycledRowCell::rebind);
+    }
+
+    private LeaderBoardItem createRow() {
+        LeaderBoardItem row = new LeaderBoardItem();
+        resizeRow(row, Helper.clamp(30, 72, height * 0.14));
+        rows.add(row);
+        return row;
     }
 
+    private ToDoubleFunction<LeaderBoardItem> getKeyFunction() {
+        if (ItemSorting.NONE == tile.getItemSorting()) { return LeaderBoardItem::getValue; }
+        switch(tile.getItemSortingTopic()) {
+            case TIMESTAMP: return item -> null == item.getTimestamp() ? 0 : item.getTimestamp().toEpochMilli();
+            case DURATION : return item -> null == item.getDuration() ? 0 : item.getDuration().toMillis();
+            case VALUE    :
+            default       : return LeaderBoardItem::getValue;
+        }
+    }
+
+    private boolean isDescending() { return ItemSorting.ASCENDING != tile.getItemSorting(); }
+
     @Override public void dispose() {
         pane.widthProperty().removeListener(paneSizeListener);
         pane.heightProperty().removeListener(paneSizeListener);
@@ -179,15 +260,16 @@ public class LeaderBoardTileSkin extends TileSkin {
             item.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(item));
         });
         handlerMap.clear();
+        itemMap.clear();
+        movedItems.clear();
+        ranking.clear();
+        visibleRows.clear();
+        rows.clear();
         super.dispose();
     }
 
 
     // ******************** Resizing ******************************************
-    private void updateChart() {
-        Collections.sort(leaderBoardPane.getItems(), Comparator.comparing(LeaderBoardItem::getValue).reversed());
-    }
-
     @Override protected void resizeStaticText() {
         double maxWidth = width - size * 0.1;
         double fontSize = size * textSize.factor;
@@ -219,11 +301,14 @@ public class LeaderBoardTileSkin extends TileSkin {
 
     private void resizeItems() {
         double itemHeight = Helper.clamp(30, 72, height * 0.14);
-        leaderBoardPane.getItems().forEach(item -> {
-            item.setParentSize(width, height);
-            item.setPrefSize(width, itemHeight);
-            item.setMaxSize(width, itemHeight);
-        });
+        leaderBoardPane.setFixedCellSize(itemHeight);
+        rows.forEach(row -> resizeRow(row, itemHeight));
+    }
+
+    private void resizeRow(final LeaderBoardItem ROW, final double ITEM_HEIGHT) {
+        ROW.setParentSize(width, height);
+        ROW.setPrefSize(width, ITEM_HEIGHT);
+        ROW.setMaxSize(width, ITEM_HEIGHT);
     }
 
     @Override protected void resize() {
@@ -232,7 +317,6 @@ public class LeaderBoardTileSkin extends TileSkin {
         leaderBoardPane.setPrefSize(width, contentBounds.getHeight());
         leaderBoardPane.relocate(0, contentBounds.getY());
         resizeItems();
-        updateChart();
     }
 
     @Override protected void redraw() {
@@ -244,6 +328,7 @@ public class LeaderBoardTileSkin extends TileSkin {
             item.setNameColor(tile.getTextColor());
             item.setValueColor(tile.getValueColor());
         });
+        visibleRows.values().forEach(RecycledRowCell::rebind);
 
         resizeDynamicText();
         resizeStaticText();
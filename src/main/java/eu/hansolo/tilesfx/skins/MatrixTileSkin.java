@@ -38,6 +38,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -53,6 +54,9 @@ public class MatrixTileSkin extends TileSkin {
     private Tooltip                       selectionTooltip;
     private PixelMatrixEventListener      matrixListener;
     private EventHandler<MouseEvent>      mouseHandler;
+    private int[]                         firstOnRows;
+    private int[]                         columnColors;
+    private int[][]                       renderedMatrix;
 
 
     // ******************** Constructors **************************************
@@ -172,21 +176,46 @@ public class MatrixTileSkin extends TileSkin {
         super.dispose();
     }
 
+    /**
+     * Calculates the height of each column once and only updates the columns
+     * that changed since the last call. Only the pixels that changed will be
+     * drawn.
+     */
     private void updateMatrixWithChartData() {
         List<ChartData> dataList = tile.getChartData();
-        int             cols     = dataList.size();
+        int             cols     = matrix.getCols();
         int             rows     = matrix.getRows();
+        int             noOfData = Math.min(cols, dataList.size());
         double          factor   = rows / tile.getRange();
-        Color           offColor = matrix.getPixelOffColor();
-
-        matrix.setAllPixelsOff();
-        for (int y = rows ; y >= 0 ; y--) {
-            for (int x = 0 ; x < cols; x++) {
-                int noOfActivePixels = Helper.roundDoubleToInt((maxValue - dataList.get(x).getValue()) * factor);
-                matrix.setPixel(x, y, noOfActivePixels <= y ? dataList.get(x).getFillColor() : offColor);
+        int             offColor = PixelMatrix.convertToInt(matrix.getPixelOffColor());
+
+        // The pixels of a new matrix are all off, so all columns have to be updated
+        if (null == firstOnRows || firstOnRows.length != cols || renderedMatrix != matrix.getMatrix()) { invalidateColumns(); }
+
+        for (int x = 0 ; x < cols ; x++) {
+            int firstOnRow;
+            int color;
+            if (x < noOfData) {
+                ChartData data = dataList.get(x);
+                firstOnRow = Helper.clamp(0, rows, Helper.roundDoubleToInt((maxValue - data.getValue()) * factor));
+                color      = PixelMatrix.convertToInt(data.getFillColor());
+            } else {
+                firstOnRow = rows;
+                color      = offColor;
             }
+            if (firstOnRows[x] == firstOnRow && columnColors[x] == color) { continue; }
+            matrix.setColumn(x, firstOnRow, color, offColor);
+            firstOnRows[x]  = firstOnRow;
+            columnColors[x] = color;
         }
-        matrix.drawMatrix();
+        matrix.drawChangedPixels();
+    }
+
+    private void invalidateColumns() {
+        firstOnRows    = new int[matrix.getCols()];
+        columnColors   = new int[matrix.getCols()];
+        renderedMatrix = matrix.getMatrix();
+        Arrays.fill(firstOnRows, -1);
     }
 
 
@@ -251,6 +280,7 @@ public class MatrixTileSkin extends TileSkin {
 
         matrix.setPixelOnColor(tile.getBarColor());
         matrix.setPixelOffColor(Helper.isDark(tile.getBackgroundColor()) ? tile.getBackgroundColor().brighter() : tile.getBackgroundColor().darker());
+        invalidateColumns();
         updateMatrixWithChartData();
     }
 }
@@ -92,7 +92,7 @@ public class RadialPercentageTileSkin extends TileSkin {
         formatString         = new StringBuilder("%.").append(Integer.toString(tile.getDecimals())).append("f").toString();
         locale               = tile.getLocale();
         dataList             = tile.getChartData();
-        sum                  = dataList.stream().mapToDouble(ChartData::getValue).sum();
+        sum                  = tile.getChartDataAggregate().getSum();
         angleStep            = ANGLE_RANGE / sum;
         referenceValue       = tile.getReferenceValue() < maxValue ? maxValue : tile.getReferenceValue();
 
@@ -101,7 +101,7 @@ public class RadialPercentageTileSkin extends TileSkin {
 
         chartDataListener = c -> {
             dataList = tile.getChartData();
-            sum      = dataList.stream().mapToDouble(ChartData::getValue).sum();
+            sum      = tile.getChartDataAggregate().getSum();
             setProportionBar();
         };
         currentValueListener = o -> setBar(tile.getCurrentValue());
@@ -183,7 +183,7 @@ public class RadialPercentageTileSkin extends TileSkin {
         if ("RECALC".equals(EVENT_TYPE)) {
             referenceValue = tile.getReferenceValue() < maxValue ? maxValue : tile.getReferenceValue();
             angleStep      = ANGLE_RANGE / range;
-            sum            = dataList.stream().mapToDouble(ChartData::getValue).sum();
+            sum            = tile.getChartDataAggregate().getSum();
             sections       = tile.getSections();
             redraw();
             setBar(tile.getCurrentValue());
@@ -211,7 +211,7 @@ public class RadialPercentageTileSkin extends TileSkin {
     }
 
     private void setProportionBar() {
-        sum = dataList.stream().mapToDouble(ChartData::getValue).sum();
+        sum = tile.getChartDataAggregate().getSum();
         proportionBar.setLength(-sum * ANGLE_RANGE / referenceValue);
     }
 
@@ -20,10 +20,10 @@ package eu.hansolo.tilesfx.skins;
 import eu.hansolo.tilesfx.Tile;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
+import eu.hansolo.tilesfx.tools.AxisLayout;
 import eu.hansolo.tilesfx.tools.GradientLookup;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.MovingAverage;
-import eu.hansolo.tilesfx.tools.NiceScale;
 import eu.hansolo.tilesfx.tools.Point;
 import eu.hansolo.tilesfx.tools.Statistics;
 import javafx.beans.InvalidationListener;
@@ -97,7 +97,7 @@ public class SparkLineTileSkin extends TileSkin {
     private List<Double>         dataList;
     private MovingAverage        movingAverage;
     private InvalidationListener averagingListener;
-    private NiceScale            niceScaleY;
+    private AxisLayout           axisLayoutY;
     private List<Line>           horizontalTickLines;
     private double               horizontalLineOffset;
     private double               tickLabelFontSize;
@@ -122,8 +122,7 @@ public class SparkLineTileSkin extends TileSkin {
 
         if (tile.isAutoScale()) tile.calcAutoScale();
 
-        niceScaleY = new NiceScale(minValue, maxValue);
-        niceScaleY.setMaxTicks(5);
+        axisLayoutY         = new AxisLayout(5, 5);
         tickLineColor       = Color.color(tile.getChartGridColor().getRed(), tile.getChartGridColor().getGreen(), tile.getChartGridColor().getBlue(), 0.5);
         tickLabelColor      = tile.getTickLabelColor();
         horizontalTickLines = new ArrayList<>(5);
@@ -296,50 +295,15 @@ public class SparkLineTileSkin extends TileSkin {
         double maxY  = minY + graphBounds.getHeight();
 
         if (tile.isFixedYScale()) {
-            niceScaleY.setMinMax(minValue, maxValue);
+            axisLayoutY.setScale(minValue, maxValue);
         } else {
-            niceScaleY.setMinMax(low, high);
+            axisLayoutY.setScale(low, high);
         }
-        double niceMinY = niceScaleY.getNiceMin();
-        double niceMaxY = niceScaleY.getNiceMax();
-        double rangeY   = niceMaxY - niceMinY;
 
         double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
         double stepY = graphBounds.getHeight() / range;
 
-        int    lineCountY   = 0;
-        double tickSpacingY = niceScaleY.getTickSpacing();
-        double tickStepY    = tickSpacingY * stepY;
-        double tickStartY   = maxY;
-
-        horizontalTickLines.forEach(line -> line.setStroke(Color.TRANSPARENT));
-        tickLabelsY.forEach(label -> label.setFill(Color.TRANSPARENT));
-        horizontalLineOffset = 0;
-        for (double y = tickStartY; Math.round(y) > minY; y -= tickStepY) {
-            Line line  = horizontalTickLines.get(lineCountY);
-            Text label = tickLabelsY.get(lineCountY);
-            if (rangeY <= 4) {
-                label.setText(String.format(locale, "%.1f", low + lineCountY * tickSpacingY));
-            } else {
-                label.setText(String.format(locale, "%.0f", low + lineCountY * tickSpacingY));
-            }
-            label.setY(y + graphBounds.getHeight() * 0.03);
-            label.setFill(tickLabelColor);
-            horizontalLineOffset = Math.max(label.getLayoutBounds().getWidth(), horizontalLineOffset);
-
-            line.setStartX(minX);
-            line.setStartY(y);
-            line.setEndY(y);
-            line.setStroke(tickLineColor);
-            lineCountY++;
-            lineCountY = clamp(0, 4, lineCountY);
-        }
-        if (tickLabelFontSize < 6) { horizontalLineOffset = 0; }
-        horizontalTickLines.forEach(line -> line.setEndX(maxX - horizontalLineOffset));
-        tickLabelsY.forEach(label -> {
-            label.setX(maxX - label.getLayoutBounds().getWidth());
-            //label.toFront();
-        });
+        if (axisLayoutY.layout(low, high, false, minY, maxY, locale, axisLayoutY.getNiceRange() <= 4 ? "%.1f" : "%.0f")) { drawTickMarksY(minX, maxX); }
 
         if (Helper.equals(statisticsLow, statisticsHigh)) {
             highText.setText("-");
@@ -403,6 +367,36 @@ public class SparkLineTileSkin extends TileSkin {
         lastHigh = high;
     }
 
+    /**
+     * Updates the horizontal tick lines and their labels, will only be
+     * called if the ticks of the y axis changed.
+     */
+    private void drawTickMarksY(final double MIN_X, final double MAX_X) {
+        horizontalLineOffset = 0;
+        for (int i = 0 ; i < horizontalTickLines.size() ; i++) {
+            Line line  = horizontalTickLines.get(i);
+            Text label = tickLabelsY.get(i);
+            if (i < axisLayoutY.getNoOfTicks()) {
+                double y = axisLayoutY.getTickPosition(i);
+                label.setText(axisLayoutY.getTickLabel(i));
+                label.setY(y + graphBounds.getHeight() * 0.03);
+                label.setFill(tickLabelColor);
+                horizontalLineOffset = Math.max(label.getLayoutBounds().getWidth(), horizontalLineOffset);
+
+                line.setStartX(MIN_X);
+                line.setStartY(y);
+                line.setEndY(y);
+                line.setStroke(tickLineColor);
+            } else {
+                line.setStroke(Color.TRANSPARENT);
+                label.setFill(Color.TRANSPARENT);
+            }
+        }
+        if (tickLabelFontSize < 6) { horizontalLineOffset = 0; }
+        horizontalTickLines.forEach(line -> line.setEndX(MAX_X - horizontalLineOffset));
+        tickLabelsY.forEach(label -> label.setX(MAX_X - label.getLayoutBounds().getWidth()));
+    }
+
     private void addData(final double VALUE) {
         if (dataList.isEmpty()) { for (int i = 0 ; i < noOfDatapoints ;i ++) { dataList.add(VALUE); } }
         if (dataList.size() >= noOfDatapoints) {
@@ -578,6 +572,7 @@ public class SparkLineTileSkin extends TileSkin {
             label.setFont(tickLabelFont);
         });
         horizontalTickLines.forEach(line -> line.setStrokeWidth(0.5));
+        axisLayoutY.invalidate();
 
         stdDeviationArea.setX(graphBounds.getX());
         stdDeviationArea.setWidth(graphBounds.getWidth());
@@ -603,50 +598,15 @@ public class SparkLineTileSkin extends TileSkin {
             double maxY  = minY + graphBounds.getHeight();
 
             if (tile.isFixedYScale()) {
-                niceScaleY.setMinMax(minValue, maxValue);
+                axisLayoutY.setScale(minValue, maxValue);
             } else {
-                niceScaleY.setMinMax(low, high);
+                axisLayoutY.setScale(low, high);
             }
-            double niceMinY = niceScaleY.getNiceMin();
-            double niceMaxY = niceScaleY.getNiceMax();
-            double rangeY   = niceMaxY - niceMinY;
 
             double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
             double stepY = graphBounds.getHeight() / range;
 
-            int    lineCountY   = 0;
-            double tickSpacingY = niceScaleY.getTickSpacing();
-            double tickStepY    = tickSpacingY * stepY;
-            double tickStartY   = maxY;
-
-            horizontalTickLines.forEach(line -> line.setStroke(Color.TRANSPARENT));
-            tickLabelsY.forEach(label -> label.setFill(Color.TRANSPARENT));
-            horizontalLineOffset = 0;
-            for (double y = tickStartY; Math.round(y) > minY; y -= tickStepY) {
-                Line line  = horizontalTickLines.get(lineCountY);
-                Text label = tickLabelsY.get(lineCountY);
-                if (rangeY <= 4) {
-                    label.setText(String.format(locale, "%.1f", low + lineCountY * tickSpacingY));
-                } else {
-                    label.setText(String.format(locale, "%.0f", low + lineCountY * tickSpacingY));
-                }
-                label.setY(y + graphBounds.getHeight() * 0.03);
-                label.setFill(tickLabelColor);
-                horizontalLineOffset = Math.max(label.getLayoutBounds().getWidth(), horizontalLineOffset);
-
-                line.setStartX(minX);
-                line.setStartY(y);
-                line.setEndY(y);
-                line.setStroke(tickLineColor);
-                lineCountY++;
-                lineCountY = clamp(0, 4, lineCountY);
-            }
-            if (tickLabelFontSize < 6) { horizontalLineOffset = 0; }
-            horizontalTickLines.forEach(line -> line.setEndX(maxX - horizontalLineOffset));
-            tickLabelsY.forEach(label -> {
-                label.setX(maxX - label.getLayoutBounds().getWidth());
-                //label.toFront();
-            });
+            if (axisLayoutY.layout(low, high, false, minY, maxY, locale, axisLayoutY.getNiceRange() <= 4 ? "%.1f" : "%.0f")) { drawTickMarksY(minX, maxX); }
 
             if (Helper.equals(statisticsLow, statisticsHigh)) {
                 highText.setText("-");
@@ -24,14 +24,18 @@ import eu.hansolo.tilesfx.events.BoundsEvent;
 import eu.hansolo.tilesfx.events.BoundsEventListener;
 import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.events.TileEventListener;
+import eu.hansolo.tilesfx.jfr.TileSkinRedraw;
+import eu.hansolo.tilesfx.jfr.TileSkinResize;
 import eu.hansolo.tilesfx.tools.CtxBounds;
 import eu.hansolo.tilesfx.tools.InfoRegion;
 import eu.hansolo.tilesfx.tools.LowerRightRegion;
 import eu.hansolo.tilesfx.tools.NotifyRegion;
+import eu.hansolo.tilesfx.tools.TileMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.event.EventHandler;
 import javafx.geometry.Insets;
+import javafx.scene.CacheHint;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 import javafx.scene.effect.BlurType;
@@ -67,6 +71,7 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
     protected static final double                    MINIMUM_HEIGHT   = 50;
     protected static final double                    MAXIMUM_WIDTH    = 1024;
     protected static final double                    MAXIMUM_HEIGHT   = 1024;
+    private   static final long                      METRICS_INTERVAL = 500_000_000l; // ns
     protected              double                    width;
     protected              double                    height;
     protected              double                    size;
@@ -102,6 +107,9 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
     private                InfoRegion                infoRegion;
     private                LowerRightRegion          lowerRightRegion;
     private                EventHandler<MouseEvent>  infoRegionHandler;
+    private                InfoRegion                metricsRegion;
+    private                Pane                      staticLayer;
+    private                long                      lastMetricsUpdate;
 
 
     // ******************** Constructors **************************************
@@ -195,12 +203,35 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
 
     protected Pane getPane() { return pane; }
 
+    /**
+     * Returns the layer for the nodes of a skin that only change on resize,
+     * redraw or if the sections changed. The layer will be placed behind all
+     * other nodes of the skin and will be cached as an image if the static
+     * layer cache of the tile is enabled. So nodes that change with the
+     * value must not be added to the static layer, otherwise the image will
+     * be rendered again on every value change.
+     * @return the static layer
+     */
+    protected Pane getStaticLayer() {
+        if (null == staticLayer) {
+            staticLayer = new Pane();
+            staticLayer.setPickOnBounds(false);
+            staticLayer.setCache(tile.isStaticLayerCacheEnabled());
+            staticLayer.setCacheHint(CacheHint.QUALITY);
+            pane.getChildren().add(pane.getChildren().indexOf(backgroundImageView) + 1, staticLayer);
+        }
+        return staticLayer;
+    }
+
     protected void handleEvents(final String EVENT_TYPE) {
         if (EventType.RESIZE.name().equals(EVENT_TYPE)) {
+            TileSkinResize resizeEvent = TileSkinResize.isRecording() ? new TileSkinResize() : null;
+            if (null != resizeEvent) { resizeEvent.begin(); }
             resize();
-            redraw();
+            if (null != resizeEvent) { resizeEvent.commit(tile, this, pane); }
+            recordedRedraw();
         } else if (EventType.REDRAW.name().equals(EVENT_TYPE)) {
-            redraw();
+            recordedRedraw();
         } else if (EventType.RECALC.name().equals(EVENT_TYPE)) {
             minValue          = tile.getMinValue();
             maxValue          = tile.getMaxValue();
@@ -239,6 +270,7 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
             // Set upper left and upper right notifiers to front
             notifyRegion.toFront();
             infoRegion.toFront();
+            if (null != metricsRegion) { metricsRegion.toFront(); }
         } else if (EventType.INFO_REGION_HANDLER.name().equals(EVENT_TYPE)) {
             if (null != infoRegionHandler) { infoRegion.removeEventHandler(MouseEvent.ANY, infoRegionHandler); }
             infoRegionHandler = tile.getInfoRegionHandler();
@@ -249,6 +281,47 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
 
     protected void handleCurrentValue(final double VALUE) {}
 
+    private void recordedRedraw() {
+        TileSkinRedraw redrawEvent = TileSkinRedraw.isRecording() ? new TileSkinRedraw() : null;
+        if (null != redrawEvent) { redrawEvent.begin(); }
+        long start = System.nanoTime();
+        redraw();
+        tile.getMetrics().redraw(System.nanoTime() - start);
+        if (null != redrawEvent) { redrawEvent.commit(tile, this, pane); }
+        updateMetricsRegion();
+    }
+
+    /**
+     * Shows the metrics of the tile in a region that covers the info region.
+     * The region is only created when the overlay is enabled for the first
+     * time and will be updated at most every 500ms so that the overlay itself
+     * does not add noticeable costs to the redraws it measures.
+     */
+    private void updateMetricsRegion() {
+        if (!tile.isMetricsOverlayEnabled()) {
+            if (null != metricsRegion) { enableNode(metricsRegion, false); }
+            return;
+        }
+        if (null == metricsRegion) {
+            metricsRegion = new InfoRegion();
+            metricsRegion.setPickOnBounds(false);
+            metricsRegion.setPrefSize(size * 0.105, size * 0.105);
+            metricsRegion.addEventHandler(MouseEvent.MOUSE_ENTERED, e -> metricsRegion.setTooltipText(tile.getMetrics().toString()));
+            pane.getChildren().add(metricsRegion);
+        }
+        long now = System.nanoTime();
+        if (metricsRegion.isVisible() && now - lastMetricsUpdate < METRICS_INTERVAL) { return; }
+        lastMetricsUpdate = now;
+
+        TileMetrics metrics = tile.getMetrics();
+        metricsRegion.setRoundedCorner(tile.getRoundedCorners());
+        metricsRegion.setBackgroundColor(metrics.isOverBudget() ? Tile.RED : Tile.GREEN);
+        metricsRegion.setForegroundColor(Tile.BACKGROUND);
+        metricsRegion.setTooltipText(metrics.toString());
+        enableNode(metricsRegion, true);
+        metricsRegion.toFront();
+    }
+
     /**
      * Returns the bounds of the content area. Keep in mind that
      * the skin property of the Tile has to be set before you can
@@ -272,6 +345,14 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
 
     public LowerRightRegion getLowerRightRegion() { return lowerRightRegion; }
 
+    /**
+     * Returns true if the skin draws its items into a canvas if the render
+     * mode of the tile is CANVAS. Only those skins will be created again if
+     * the render mode changes.
+     * @return true if the skin supports the CANVAS render mode
+     */
+    public boolean isCanvasRenderModeSupported() { return false; }
+
     @Override public void dispose() {
         contentBounds.removeAllListeners();
         tile.widthProperty().removeListener(sizeListener);
@@ -334,6 +415,11 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
             infoRegion.setPrefSize(regionSize, regionSize);
             infoRegion.relocate(0, 0);
 
+            if (null != metricsRegion) {
+                metricsRegion.setPrefSize(regionSize, regionSize);
+                metricsRegion.relocate(0, 0);
+            }
+
             lowerRightRegion.setPrefSize(regionSize, regionSize);
             lowerRightRegion.relocate(width - regionSize, height - regionSize);
 
@@ -349,6 +435,8 @@ public class TileSkin extends SkinBase<Tile> implements Skin<Tile> {
 
         backgroundImageView.setOpacity(tile.getBackgroundImageOpacity());
 
+        if (null != staticLayer) { staticLayer.setCache(tile.isStaticLayerCacheEnabled()); }
+
         notifyRegion.setRoundedCorner(hasRoundedCorners);
         notifyRegion.setBackgroundColor(tile.getNotifyRegionBackgroundColor());
         notifyRegion.setForegroundColor(tile.getNotifyRegionForegroundColor());
@@ -19,14 +19,16 @@ package eu.hansolo.tilesfx.skins;
 
 import eu.hansolo.tilesfx.Section;
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.Tile.RenderMode;
 import eu.hansolo.tilesfx.chart.ChartData;
 import eu.hansolo.tilesfx.events.TileEvent;
 import eu.hansolo.tilesfx.fonts.Fonts;
-import eu.hansolo.tilesfx.tools.DoubleExponentialSmoothingForLinearSeries;
-import eu.hansolo.tilesfx.tools.DoubleExponentialSmoothingForLinearSeries.Model;
+import eu.hansolo.tilesfx.tools.AxisLayout;
+import eu.hansolo.tilesfx.tools.CatmullRom;
 import eu.hansolo.tilesfx.tools.Helper;
+import eu.hansolo.tilesfx.tools.HoltWinters;
 import eu.hansolo.tilesfx.tools.MovingAverage;
-import eu.hansolo.tilesfx.tools.NiceScale;
+import eu.hansolo.tilesfx.tools.NodePool;
 import eu.hansolo.tilesfx.tools.Statistics;
 import eu.hansolo.tilesfx.tools.TimeData;
 import javafx.application.Platform;
@@ -37,6 +39,9 @@ import javafx.event.EventType;
 import javafx.geometry.Pos;
 import javafx.geometry.VPos;
 import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
@@ -45,6 +50,7 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.LineTo;
@@ -63,6 +69,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -116,8 +123,19 @@ public class TimelineTileSkin extends TileSkin {
     private              Text                     timeSpanText;
     private              Rectangle                graphBounds;
     private              Map<ChartData, Circle>   dots;
+    private              NodePool<Circle>         dotPool;
     private              Path                     path;
     private              Group                    dotGroup;
+    private              Canvas                   chartCanvas;
+    private              GraphicsContext          chartCtx;
+    private              ChartData[]              dotData;
+    private              double[]                 dotXs;
+    private              double[]                 dotYs;
+    private              int                      noOfDots;
+    private              double[]                 smoothedXs;
+    private              double[]                 smoothedYs;
+    private              ChartData                hoveredData;
+    private              EventHandler<MouseEvent> chartCanvasMouseHandler;
     private              Rectangle                stdDeviationArea;
     private              Line                     thresholdLine;
     private              Line                     lowerThresholdLine;
@@ -125,6 +143,8 @@ public class TimelineTileSkin extends TileSkin {
     private              Group                    sectionGroup;
     private              Map<Section, Rectangle>  sections;
     private              Map<Section, Label>      percentageInSections;
+    private              NodePool<Rectangle>      sectionRectPool;
+    private              NodePool<Label>          sectionLabelPool;
     private              Group                    percentageInSectionGroup;
     private              LinearGradient           gradient;
     private              double                   low;
@@ -137,7 +157,7 @@ public class TimelineTileSkin extends TileSkin {
     private              Duration                 timePeriod;
     private              MovingAverage            movingAverage;
     private              InvalidationListener     periodListener;
-    private              NiceScale                niceScaleY;
+    private              AxisLayout               axisLayoutY;
     private              List<Line>               horizontalTickLines;
     private              double                   horizontalLineOffset;
     private              List<Line>               verticalTickLines;
@@ -178,8 +198,7 @@ public class TimelineTileSkin extends TileSkin {
 
         if (tile.isAutoScale()) { tile.calcAutoScale(); }
 
-        niceScaleY = new NiceScale(minValue, tile.getMaxValue());
-        niceScaleY.setMaxTicks(5);
+        axisLayoutY         = new AxisLayout(5, 5);
         tickLineColor       = Color.color(tile.getChartGridColor().getRed(), tile.getChartGridColor().getGreen(), tile.getChartGridColor().getBlue(), 0.5);
         tickLabelColor      = tile.getTickLabelColor();
         horizontalTickLines = new ArrayList<>(5);
@@ -301,23 +320,24 @@ public class TimelineTileSkin extends TileSkin {
         averageLine.getStrokeDashArray().addAll(PREFERRED_WIDTH * 0.005, PREFERRED_WIDTH * 0.005);
         Helper.enableNode(averageLine, tile.isAverageVisible());
 
-        sections = new HashMap<>();
-        tile.getSections().forEach(section -> {
+        sectionRectPool = new NodePool<>(() -> {
             Rectangle sectionRect = new Rectangle();
             sectionRect.setMouseTransparent(true);
-            sections.put(section, sectionRect);
+            return sectionRect;
         });
+        sections = new HashMap<>();
+        tile.getSections().forEach(section -> sections.put(section, sectionRectPool.acquire()));
         sectionGroup = new Group();
         sectionGroup.getChildren().addAll(sections.values());
         Helper.enableNode(sectionGroup, tile.getSectionsVisible());
 
-        percentageInSections = new HashMap<>();
-        tile.getSections().forEach(section -> {
+        sectionLabelPool = new NodePool<>(() -> {
             Label sectionLabel = new Label();
             sectionLabel.setAlignment(Pos.CENTER_RIGHT);
-            sectionLabel.setTextFill(tile.getTextColor());
-            percentageInSections.put(section, sectionLabel);
+            return sectionLabel;
         });
+        percentageInSections = new HashMap<>();
+        createSectionLabels();
         percentageInSectionGroup = new Group();
         percentageInSectionGroup.getChildren().setAll(percentageInSections.values());
         Helper.enableNode(percentageInSectionGroup, tile.getSectionsVisible());
@@ -333,7 +353,13 @@ public class TimelineTileSkin extends TileSkin {
         path.setStrokeLineJoin(StrokeLineJoin.ROUND);
         path.setStrokeLineCap(StrokeLineCap.ROUND);
 
-        dots = new LinkedHashMap<>(noOfDatapoints);
+        dotPool = new NodePool<>(() -> {
+            Circle dot = new Circle(dotRadius);
+            dot.addEventHandler(MouseEvent.MOUSE_ENTERED, mouseListener);
+            dot.addEventHandler(MouseEvent.MOUSE_EXITED, mouseListener);
+            return dot;
+        });
+        dots    = new LinkedHashMap<>(noOfDatapoints);
         dotGroup = new Group();
         if (tile.getDataPointsVisible()) {
             dotGroup.getChildren().setAll(dots.values());
@@ -342,7 +368,30 @@ public class TimelineTileSkin extends TileSkin {
             dotGroup.getChildren().setAll(path);
         }
 
-        getPane().getChildren().addAll(titleText, valueUnitFlow, fractionLine, sectionGroup, stdDeviationArea, thresholdLine, lowerThresholdLine, dotGroup, percentageInSectionGroup, averageLine, averageText, averageText2, minText, maxText, highText, lowText, trendText, timeSpanText, text);
+        dotData    = new ChartData[0];
+        dotXs      = new double[0];
+        dotYs      = new double[0];
+        noOfDots   = 0;
+        smoothedXs = new double[0];
+        smoothedYs = new double[0];
+        if (RenderMode.CANVAS == tile.getRenderMode()) {
+            // The line and the dots will be drawn into one canvas instead of creating a node for each dot
+            chartCanvas             = new Canvas();
+            chartCtx                = chartCanvas.getGraphicsContext2D();
+            chartCanvasMouseHandler = e -> {
+                ChartData data = MouseEvent.MOUSE_EXITED.equals(e.getEventType()) ? null : getChartDataAt(e.getX(), e.getY());
+                if (data == hoveredData) { return; }
+                hoveredData = data;
+                if (null == data) {
+                    dotTooltip.hide();
+                } else {
+                    showDotTooltip(data, e.getScreenX(), e.getScreenY());
+                }
+            };
+        }
+        Node chart = null == chartCanvas ? dotGroup : chartCanvas;
+
+        getPane().getChildren().addAll(titleText, valueUnitFlow, fractionLine, sectionGroup, stdDeviationArea, thresholdLine, lowerThresholdLine, chart, percentageInSectionGroup, averageLine, averageText, averageText2, minText, maxText, highText, lowText, trendText, timeSpanText, text);
         getPane().getChildren().addAll(verticalTickLines);
         getPane().getChildren().addAll(horizontalTickLines);
         getPane().getChildren().addAll(tickLabelsX);
@@ -372,18 +421,18 @@ public class TimelineTileSkin extends TileSkin {
         tile.getSections().addListener((ListChangeListener<Section>) c -> {
             while(c.next()) {
                 if (c.wasAdded()) {
-                    c.getAddedSubList().forEach(section -> {
-                        Rectangle sectionRect = new Rectangle();
-                        sectionRect.setMouseTransparent(true);
-                        sections.put(section, sectionRect);
-                    });
+                    c.getAddedSubList().forEach(section -> sections.put(section, sectionRectPool.acquire()));
                 } else if (c.wasRemoved()) {
-                    c.getRemoved().forEach(section -> sections.remove(section));
+                    c.getRemoved().forEach(section -> sectionRectPool.release(sections.remove(section)));
                 }
             }
             sectionGroup.getChildren().setAll(sections.values());
             resize();
         });
+        if (null != chartCanvas) {
+            chartCanvas.addEventHandler(MouseEvent.MOUSE_MOVED, chartCanvasMouseHandler);
+            chartCanvas.addEventHandler(MouseEvent.MOUSE_EXITED, chartCanvasMouseHandler);
+        }
     }
 
 
@@ -411,13 +460,7 @@ public class TimelineTileSkin extends TileSkin {
             double value = clamp(minValue, maxValue, tile.getValue());
             tile.getChartData().add(new ChartData("", value, Instant.now()));
         } else if (TileEvent.EventType.SECTION.name().equals(EVENT_TYPE)) {
-            percentageInSections.clear();
-            tile.getSections().forEach(section -> {
-                Label sectionLabel = new Label();
-                sectionLabel.setAlignment(Pos.CENTER_RIGHT);
-                sectionLabel.setTextFill(tile.getTextColor());
-                percentageInSections.put(section, sectionLabel);
-            });
+            createSectionLabels();
             percentageInSectionGroup.getChildren().setAll(percentageInSections.values());
         } else if (TileEvent.EventType.TIME_PERIOD.name().equals(EVENT_TYPE)) {
             timePeriod        = tile.getTimePeriod();
@@ -427,17 +470,7 @@ public class TimelineTileSkin extends TileSkin {
             tile.setAveragingPeriod(noOfDatapoints);
 
             // Add initial values
-            dots.values().forEach(dot -> {
-                dot.removeEventHandler(MouseEvent.MOUSE_ENTERED, mouseListener);
-                dot.removeEventHandler(MouseEvent.MOUSE_EXITED, mouseListener);
-            });
-            dots.clear();
-            reducedDataList.forEach(data -> {
-                Circle dot = new Circle(dotRadius);
-                dot.addEventHandler(MouseEvent.MOUSE_ENTERED, mouseListener);
-                dot.addEventHandler(MouseEvent.MOUSE_EXITED, mouseListener);
-                dots.put(data, dot);
-            });
+            createDots();
             if (tile.getDataPointsVisible()) {
                 dotGroup.getChildren().setAll(dots.values());
                 dotGroup.getChildren().add(path);
@@ -458,13 +491,22 @@ public class TimelineTileSkin extends TileSkin {
             fractionLine.setStrokeWidth(size * 0.005);
         } else if (TileEvent.EventType.CLEAR_DATA.name().equals(EVENT_TYPE)) {
             tile.clearChartData();
+            tile.getTrendForecaster().reset();
             dataList.clear();
             reducedDataList.clear();
             handleCurrentValue(minValue);
             Platform.runLater(() -> {
                 path.getElements().clear();
+                dotPool.releaseAll(dots.values());
                 dots.clear();
                 dotGroup.getChildren().clear();
+                if (null != chartCanvas) {
+                    chartCtx.clearRect(0, 0, chartCanvas.getWidth(), chartCanvas.getHeight());
+                    Arrays.fill(dotData, null);
+                    noOfDots = 0;
+                    hoveredData = null;
+                    dotTooltip.hide();
+                }
             });
         } else if (TileEvent.EventType.THRESHOLD_EXCEEDED.equals(EVENT_TYPE)) {
 
@@ -482,18 +524,40 @@ public class TimelineTileSkin extends TileSkin {
         Circle    dot  = (Circle) e.getSource();
         ChartData data = dots.entrySet().stream().filter(entry -> entry.getValue().equals(dot)).map(entry -> entry.getKey()).findAny().orElse(null);
         if (MouseEvent.MOUSE_ENTERED.equals(type)) {
-            if (null != data) {
-                dotTooltip.setX(e.getScreenX());
-                dotTooltip.setY(e.getScreenY());
-                LocalDateTime localDateTime = LocalDateTime.ofInstant(data.getTimestamp(), tile.getZoneId());
-                dotTooltip.setText(String.join("\n", DTF.format(localDateTime), String.format(tile.getLocale(), String.join(" ", formatString, tile.getUnit()), data.getValue())));
-                dotTooltip.show(tile.getScene().getWindow());
-            }
+            if (null != data) { showDotTooltip(data, e.getScreenX(), e.getScreenY()); }
         } else if (MouseEvent.MOUSE_EXITED.equals(type)) {
             dotTooltip.hide();
         }
     }
 
+    private void showDotTooltip(final ChartData DATA, final double SCREEN_X, final double SCREEN_Y) {
+        dotTooltip.setX(SCREEN_X);
+        dotTooltip.setY(SCREEN_Y);
+        LocalDateTime localDateTime = LocalDateTime.ofInstant(DATA.getTimestamp(), tile.getZoneId());
+        dotTooltip.setText(String.join("\n", DTF.format(localDateTime), String.format(tile.getLocale(), String.join(" ", formatString, tile.getUnit()), DATA.getValue())));
+        dotTooltip.show(tile.getScene().getWindow());
+    }
+
+    /**
+     * Returns the ChartData of the dot under the given canvas coordinates
+     * or null if there is no visible dot at this position.
+     */
+    private ChartData getChartDataAt(final double X, final double Y) {
+        if (!tile.getDataPointsVisible()) { return null; }
+        double    x           = X + chartCanvas.getLayoutX();
+        double    y           = Y + chartCanvas.getLayoutY();
+        double    minDistance = dotRadius;
+        ChartData dataAt      = null;
+        for (int i = 0 ; i < noOfDots ; i++) {
+            double distance = Helper.distance(x, y, dotXs[i], dotYs[i]);
+            if (distance <= minDistance) {
+                minDistance = distance;
+                dataAt      = dotData[i];
+            }
+        }
+        return dataAt;
+    }
+
     @Override protected void handleCurrentValue(final double VALUE) {
         low  = reducedDataList.stream().min(Comparator.comparingDouble(ChartData::getValue)).map(data -> data.getValue()).orElse(tile.getLowerThreshold());
         high = reducedDataList.stream().max(Comparator.comparingDouble(ChartData::getValue)).map(data -> data.getValue()).orElse(tile.getThreshold());
@@ -523,38 +587,11 @@ public class TimelineTileSkin extends TileSkin {
         double stepX = graphBounds.getWidth() / timePeriod.getSeconds();
         double stepY = graphBounds.getHeight() / range;
 
-        niceScaleY.setMinMax(minValue, maxValue);
-        int    lineCountY        = 1;
-        int    tickLabelOffsetY  = 1;
-        double tickSpacingY      = niceScaleY.getTickSpacing();
-        double tickStepY         = tickSpacingY * stepY;
-        double tickStartY        = maxY - tickStepY;
-        if (tickSpacingY < minValue) {
-            tickLabelOffsetY = (int) (minValue / tickSpacingY) + 1;
-            tickStartY = maxY - (tickLabelOffsetY * tickSpacingY - minValue) * stepY;
-        }
+        axisLayoutY.setScale(minValue, maxValue);
+        if (axisLayoutY.layout(minValue, maxValue, true, minY, maxY, locale, "%.0f")) { drawTickMarksY(minX, maxX); }
 
         verticalTickLines.forEach(line -> line.setStroke(Color.TRANSPARENT));
-        horizontalTickLines.forEach(line -> line.setStroke(Color.TRANSPARENT));
         tickLabelsX.forEach(label -> label.setFill(Color.TRANSPARENT));
-        tickLabelsY.forEach(label -> label.setFill(Color.TRANSPARENT));
-
-        horizontalLineOffset = 0;
-        for (double y = tickStartY; Math.round(y) > minY; y -= tickStepY) {
-            Line line  = horizontalTickLines.get(lineCountY);
-            Text label = tickLabelsY.get(lineCountY);
-            label.setText(String.format(locale, "%.0f", minValue + lineCountY * tickSpacingY));
-            label.setY(y + graphBounds.getHeight() * 0.03);
-            label.setFill(tickLabelColor);
-            horizontalLineOffset = Math.max(label.getLayoutBounds().getWidth(), horizontalLineOffset);
-
-            line.setStartX(minX);
-            line.setStartY(y);
-            line.setEndY(y);
-            line.setStroke(tickLineColor);
-            lineCountY++;
-            lineCountY = clamp(0, 4, lineCountY);
-        }
 
         int  lineCountX = 0;
         ZonedDateTime dateTime;
@@ -615,10 +652,6 @@ public class TimelineTileSkin extends TileSkin {
             }
         }
 
-        if (tickLabelFontSize < 6) { horizontalLineOffset = 0; }
-        horizontalTickLines.forEach(line -> line.setEndX(maxX - horizontalLineOffset));
-        tickLabelsY.forEach(label -> label.setX(maxX - label.getLayoutBounds().getWidth()));
-
         minText.setText(String.format(locale, formatString, minValue));
         maxText.setText(String.format(locale, formatString, maxValue));
 
@@ -632,28 +665,32 @@ public class TimelineTileSkin extends TileSkin {
         if (!reducedDataList.isEmpty()) {
             if (tile.isStrokeWithGradient()) { setupGradient(); }
 
-            Iterator entries = dots.entrySet().iterator();
-            Map.Entry<ChartData, Circle> entry = (Map.Entry) entries.next();
-            ChartData data = entry.getKey();
-            Circle    dot  = entry.getValue();
-            path.getElements().clear();
-            path.getElements().add(new MoveTo(maxX - (maxTime - data.getTimestamp().getEpochSecond()) * stepX, maxY - Math.abs(minValue - Helper.clamp(minValue, maxValue, data.getValue())) * stepY));
-            for (long timeSlot = maxTime ; timeSlot >= minTime ; timeSlot -= resolutionStep) {
-                if (data.getTimestamp().getEpochSecond() > timeSlot - resolutionStep) {
-                    dot.setCenterX(maxX - (maxTime - data.getTimestamp().getEpochSecond()) * stepX);
-                    dot.setCenterY(maxY - Math.abs(minValue - Helper.clamp(minValue, maxValue, data.getValue())) * stepY);
-                    dot.setFill(tile.isStrokeWithGradient() ? gradient : tile.getBarColor());
-                    path.getElements().add(new LineTo(dot.getCenterX(), dot.getCenterY()));
-                    if (entries.hasNext()) {
-                        entry = (Map.Entry) entries.next();
-                        data = entry.getKey();
-                        dot  = entry.getValue();
+            if (null != chartCanvas) {
+                drawChart(maxX, maxY, maxTime, stepX, stepY);
+            } else {
+                Iterator entries = dots.entrySet().iterator();
+                Map.Entry<ChartData, Circle> entry = (Map.Entry) entries.next();
+                ChartData data = entry.getKey();
+                Circle    dot  = entry.getValue();
+                path.getElements().clear();
+                path.getElements().add(new MoveTo(maxX - (maxTime - data.getTimestamp().getEpochSecond()) * stepX, maxY - Math.abs(minValue - Helper.clamp(minValue, maxValue, data.getValue())) * stepY));
+                for (long timeSlot = maxTime ; timeSlot >= minTime ; timeSlot -= resolutionStep) {
+                    if (data.getTimestamp().getEpochSecond() > timeSlot - resolutionStep) {
+                        dot.setCenterX(maxX - (maxTime - data.getTimestamp().getEpochSecond()) * stepX);
+                        dot.setCenterY(maxY - Math.abs(minValue - Helper.clamp(minValue, maxValue, data.getValue())) * stepY);
+                        dot.setFill(tile.isStrokeWithGradient() ? gradient : tile.getBarColor());
+                        path.getElements().add(new LineTo(dot.getCenterX(), dot.getCenterY()));
+                        if (entries.hasNext()) {
+                            entry = (Map.Entry) entries.next();
+                            data = entry.getKey();
+                            dot  = entry.getValue();
+                        }
                     }
                 }
-            }
-            path.setStroke(tile.isStrokeWithGradient() ? gradient : tile.getBarColor());
-            if (tile.isSmoothing()) {
-                Helper.smoothPath(path, false);
+                path.setStroke(tile.isStrokeWithGradient() ? gradient : tile.getBarColor());
+                if (tile.isSmoothing()) {
+                    Helper.smoothPath(path, false);
+                }
             }
 
             sections.entrySet().forEach(e -> {
@@ -711,7 +748,123 @@ public class TimelineTileSkin extends TileSkin {
         resizeDynamicText();
     }
 
+    /**
+     * Updates the horizontal tick lines and their labels, will only be
+     * called if the ticks of the y axis changed.
+     */
+    private void drawTickMarksY(final double MIN_X, final double MAX_X) {
+        horizontalLineOffset = 0;
+        for (int i = 0 ; i < horizontalTickLines.size() ; i++) {
+            Line line  = horizontalTickLines.get(i);
+            Text label = tickLabelsY.get(i);
+            if (i < axisLayoutY.getNoOfTicks()) {
+                double y = axisLayoutY.getTickPosition(i);
+                label.setText(axisLayoutY.getTickLabel(i));
+                label.setY(y + graphBounds.getHeight() * 0.03);
+                label.setFill(tickLabelColor);
+                horizontalLineOffset = Math.max(label.getLayoutBounds().getWidth(), horizontalLineOffset);
+
+                line.setStartX(MIN_X);
+                line.setStartY(y);
+                line.setEndY(y);
+                line.setStroke(tickLineColor);
+            } else {
+                line.setStroke(Color.TRANSPARENT);
+                label.setFill(Color.TRANSPARENT);
+            }
+        }
+        if (tickLabelFontSize < 6) { horizontalLineOffset = 0; }
+        horizontalTickLines.forEach(line -> line.setEndX(MAX_X - horizontalLineOffset));
+        tickLabelsY.forEach(label -> label.setX(MAX_X - label.getLayoutBounds().getWidth()));
+    }
+
+    /**
+     * Draws the line and the dots of the reduced data list into the canvas
+     * and keeps the position of each dot for the hit-testing. The positions
+     * are kept in arrays that will be reused for the next call.
+     */
+    private void drawChart(final double MAX_X, final double MAX_Y, final long MAX_TIME, final double STEP_X, final double STEP_Y) {
+        int noOfData = reducedDataList.size();
+        if (dotXs.length < noOfData) {
+            dotData = new ChartData[noOfData];
+            dotXs   = new double[noOfData];
+            dotYs   = new double[noOfData];
+        } else if (noOfDots > noOfData) {
+            Arrays.fill(dotData, noOfData, noOfDots, null);
+        }
+        for (int i = 0 ; i < noOfData ; i++) {
+            ChartData data = reducedDataList.get(i);
+            dotData[i] = data;
+            dotXs[i]   = MAX_X - (MAX_TIME - data.getTimestamp().getEpochSecond()) * STEP_X;
+            dotYs[i]   = MAX_Y - Math.abs(minValue - Helper.clamp(minValue, maxValue, data.getValue())) * STEP_Y;
+        }
+        noOfDots = noOfData;
+
+        double[] xs         = dotXs;
+        double[] ys         = dotYs;
+        int      noOfPoints = noOfDots;
+        if (tile.isSmoothing() && noOfDots > 2) {
+            int noOfSmoothedPoints = CatmullRom.getNoOfSubdividedPoints(noOfDots, 16);
+            if (smoothedXs.length < noOfSmoothedPoints) {
+                smoothedXs = new double[noOfSmoothedPoints];
+                smoothedYs = new double[noOfSmoothedPoints];
+            }
+            noOfPoints = CatmullRom.subdivide(dotXs, dotYs, noOfDots, 16, smoothedXs, smoothedYs);
+            xs         = smoothedXs;
+            ys         = smoothedYs;
+        }
+
+        Paint paint = tile.isStrokeWithGradient() ? gradient : tile.getBarColor();
+
+        chartCtx.clearRect(0, 0, chartCanvas.getWidth(), chartCanvas.getHeight());
+        chartCtx.save();
+        chartCtx.translate(-chartCanvas.getLayoutX(), -chartCanvas.getLayoutY());
+        if (tile.getDataPointsVisible()) {
+            double dotSize = dotRadius * 2;
+            chartCtx.setFill(paint);
+            for (int i = 0 ; i < noOfDots ; i++) { chartCtx.fillOval(dotXs[i] - dotRadius, dotYs[i] - dotRadius, dotSize, dotSize); }
+        }
+        chartCtx.setStroke(paint);
+        chartCtx.setLineWidth(size * 0.01);
+        chartCtx.setLineJoin(StrokeLineJoin.ROUND);
+        chartCtx.setLineCap(StrokeLineCap.ROUND);
+        chartCtx.beginPath();
+        chartCtx.moveTo(xs[0], ys[0]);
+        for (int i = 1 ; i < noOfPoints ; i++) { chartCtx.lineTo(xs[i], ys[i]); }
+        chartCtx.stroke();
+        chartCtx.restore();
+    }
+
+    /**
+     * Creates a dot for every ChartData in the reduced data list, the dots
+     * of the last call will be reused. In CANVAS render mode no dots will
+     * be created because they are drawn in drawChart().
+     */
+    private void createDots() {
+        dotPool.releaseAll(dots.values());
+        dots.clear();
+        if (null != chartCanvas) { return; }
+        reducedDataList.forEach(data -> {
+            Circle dot = dotPool.acquire();
+            dot.setRadius(dotRadius);
+            dots.put(data, dot);
+        });
+    }
+
+    private void createSectionLabels() {
+        sectionLabelPool.releaseAll(percentageInSections.values());
+        percentageInSections.clear();
+        tile.getSections().forEach(section -> {
+            Label sectionLabel = sectionLabelPool.acquire();
+            sectionLabel.setTextFill(tile.getTextColor());
+            percentageInSections.put(section, sectionLabel);
+        });
+    }
+
     private void addData(final ChartData DATA) {
+        HoltWinters forecaster = tile.getTrendForecaster();
+        forecaster.add(DATA.getValue());
+
         if (dataList.size() >= maxNoOfDatapoints) {
             Collections.rotate(dataList, -1);
             if (!dataList.isEmpty()) { dataList.set((noOfDatapoints - 1), DATA); }
@@ -731,17 +884,7 @@ public class TimelineTileSkin extends TileSkin {
         }
         Collections.sort(reducedDataList, Comparator.comparing(ChartData::getTimestamp).reversed());
 
-        dots.values().forEach(dot -> {
-            dot.removeEventHandler(MouseEvent.MOUSE_ENTERED, mouseListener);
-            dot.removeEventHandler(MouseEvent.MOUSE_EXITED, mouseListener);
-        });
-        dots.clear();
-        reducedDataList.forEach(data -> {
-            Circle dot = new Circle(dotRadius);
-            dot.addEventHandler(MouseEvent.MOUSE_ENTERED, mouseListener);
-            dot.addEventHandler(MouseEvent.MOUSE_EXITED, mouseListener);
-            dots.put(data, dot);
-        });
+        createDots();
         if (tile.getDataPointsVisible()) {
             dotGroup.getChildren().setAll(dots.values());
             dotGroup.getChildren().add(path);
@@ -750,12 +893,10 @@ public class TimelineTileSkin extends TileSkin {
         }
 
         int n = Helper.clamp(2, reducedDataList.size(), tile.getNumberOfValuesForTrendCalculation());
-        if (reducedDataList.size() > n) {
-            List<Double> firstNValues = reducedDataList.stream().map(ChartData::getValue).limit(n).collect(Collectors.toList());
-            Model        model        = DoubleExponentialSmoothingForLinearSeries.fit(firstNValues.stream().mapToDouble(Double::doubleValue).toArray(), 0.8, 0.2);
-            String       forecast     = String.format(tile.getLocale(), "%.0f", model.forecast(1)[0]);
-            double       stepX        = graphBounds.getWidth() / (noOfDatapoints - 1);
-            double       trendAngle   = (Helper.getAngleFromXY(0, DATA.getValue(), stepX, model.forecast(1)[0]) - 90);
+        if (reducedDataList.size() > n && forecaster.isReady()) {
+            // The forecaster is updated with every value, so the trend is available without fitting a model
+            double stepX      = graphBounds.getWidth() / (noOfDatapoints - 1);
+            double trendAngle = (Helper.getAngleFromXY(0, forecaster.forecast(1), stepX, DATA.getValue()) - 90);
             if (90 <= trendAngle && trendAngle < 112.5) {
                 trendText.setText("\u2191");
             } else if (112.5 <= trendAngle && trendAngle < 147.5) {
@@ -816,8 +957,14 @@ public class TimelineTileSkin extends TileSkin {
         return timeSpanBuilder.toString();
     }
 
+    @Override public boolean isCanvasRenderModeSupported() { return true; }
+
     @Override public void dispose() {
         tile.timePeriodProperty().removeListener(periodListener);
+        if (null != chartCanvas) {
+            chartCanvas.removeEventHandler(MouseEvent.MOUSE_MOVED, chartCanvasMouseHandler);
+            chartCanvas.removeEventHandler(MouseEvent.MOUSE_EXITED, chartCanvasMouseHandler);
+        }
         super.dispose();
     }
 
@@ -971,6 +1118,14 @@ public class TimelineTileSkin extends TileSkin {
         super.resize();
         graphBounds = new Rectangle(contentBounds.getX(), titleText.isVisible() ? size * 0.5 : size * 0.4, contentBounds.getWidth(), titleText.isVisible() ? height - size * 0.61 : height - size * 0.51);
 
+        if (null != chartCanvas) {
+            // Leave some space around the graph bounds for the dots and the line width
+            double inset = size * 0.02;
+            chartCanvas.setWidth(graphBounds.getWidth() + 2 * inset);
+            chartCanvas.setHeight(graphBounds.getHeight() + 2 * inset);
+            chartCanvas.relocate(graphBounds.getX() - inset, graphBounds.getY() - inset);
+        }
+
         tickLabelFontSize  = graphBounds.getHeight() * 0.1;
         Font tickLabelFont = Fonts.latoRegular(tickLabelFontSize);
         tickLabelsY.forEach(label -> {
@@ -978,6 +1133,7 @@ public class TimelineTileSkin extends TileSkin {
             label.setFont(tickLabelFont);
         });
         horizontalTickLines.forEach(line -> line.setStrokeWidth(0.5));
+        axisLayoutY.invalidate();
 
         double miniLabelFontSize = size * 0.022;
         Font miniTickLabelFont = Fonts.latoRegular(miniLabelFontSize);
@@ -994,8 +1150,6 @@ public class TimelineTileSkin extends TileSkin {
         lowerThresholdLine.getStrokeDashArray().setAll(graphBounds.getWidth() * 0.01, graphBounds.getWidth() * 0.01);
         averageLine.getStrokeDashArray().setAll(graphBounds.getWidth() * 0.01, graphBounds.getWidth() * 0.01);
 
-        handleCurrentValue(Double.parseDouble(valueText.getText()));
-
         if (noOfDatapoints < 60) {
             dotRadius = size * 0.01;
         } else if (noOfDatapoints < 3600) {
@@ -1005,6 +1159,8 @@ public class TimelineTileSkin extends TileSkin {
         }
         dots.values().forEach(dot -> dot.setRadius(dotRadius));
 
+        handleCurrentValue(Double.parseDouble(valueText.getText()));
+
         path.setStrokeWidth(size * 0.01);
 
         if (tile.isStrokeWithGradient()) { setupGradient(); }
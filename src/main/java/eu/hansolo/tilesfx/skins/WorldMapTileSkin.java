@@ -28,6 +28,7 @@ import eu.hansolo.tilesfx.events.TileEvent.EventType;
 import eu.hansolo.tilesfx.fonts.Fonts;
 import eu.hansolo.tilesfx.tools.Helper;
 import eu.hansolo.tilesfx.tools.Location;
+import eu.hansolo.tilesfx.tools.LocationLayer;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableMap;
@@ -69,6 +70,8 @@ public class WorldMapTileSkin extends TileSkin {
     private                ListChangeListener<Location>               poiListener;
     private                ListChangeListener<ChartData>              chartDataListener;
     private                Map<Circle, EventHandler<MouseEvent>>      circleHandlerMap;
+    private                boolean                                    locationLayerEnabled;
+    private                LocationLayer                              locationLayer;
 
 
     // ******************** Constructors **************************************
@@ -89,9 +92,22 @@ public class WorldMapTileSkin extends TileSkin {
 
         countryPaths = tile.getCountryPaths();
 
+        locationLayerEnabled = tile.isLocationLayerEnabled();
+
         String formatString = new StringBuilder("%.").append(tile.getDecimals()).append("f").toString();
 
         poiListener = new WeakListChangeListener<>(change -> {
+            if (locationLayerEnabled) {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        change.getAddedSubList().forEach(addedPoi -> addPoiMarker(addedPoi));
+                    } else if (change.wasRemoved()) {
+                        change.getRemoved().forEach(removedPoi -> locationLayer.removeMarker(removedPoi));
+                    }
+                }
+                locationLayer.redraw();
+                return;
+            }
             while (change.next()) {
                 if (change.wasAdded()) {
                     change.getAddedSubList().forEach(addedPoi -> {
@@ -118,6 +134,17 @@ public class WorldMapTileSkin extends TileSkin {
             resize();
         });
         chartDataListener = new WeakListChangeListener<>(change -> {
+            if (locationLayerEnabled) {
+                while (change.next()) {
+                    if (change.wasAdded()) {
+                        change.getAddedSubList().stream().filter(addedData -> addedData.getLocation() != null).forEach(addedData -> addChartDataMarker(addedData, formatString));
+                    } else if (change.wasRemoved()) {
+                        change.getRemoved().forEach(removedData -> locationLayer.removeMarker(removedData));
+                    }
+                }
+                locationLayer.redraw();
+                return;
+            }
             while (change.next()) {
                 if (change.wasAdded()) {
                     change.getAddedSubList().forEach(addedData -> {
@@ -144,29 +171,39 @@ public class WorldMapTileSkin extends TileSkin {
             resize();
         });
 
-        tile.getPoiList()
-            .forEach(poi -> {
-                String tooltipText = new StringBuilder(poi.getName()).append("\n")
-                                                                     .append(poi.getInfo())
-                                                                     .toString();
-                Circle circle = new Circle(3, poi.getColor());
-                circle.setOnMousePressed(e -> poi.fireLocationEvent(new LocationEvent(poi)));
-                Tooltip.install(circle, new Tooltip(tooltipText));
-                poiLocations.put(poi, circle);
-            });
-
-        tile.getChartData()
-            .stream()
-            .filter(chartData -> chartData.getLocation() != null)
-            .forEach(chartData -> {
-                String tooltipText = new StringBuilder(chartData.getName()).append("\n")
-                                                                           .append(String.format(Locale.US, formatString, chartData.getValue()))
-                                                                           .toString();
-                Circle circle = new Circle(3, chartData.getLocation().getColor());
-                circle.setOnMousePressed(e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, chartData)));
-                Tooltip.install(circle, new Tooltip(tooltipText));
-                chartDataLocations.put(chartData.getLocation(), circle);
-            });
+        locationLayer = new LocationLayer();
+        if (locationLayerEnabled) {
+            tile.getPoiList().forEach(poi -> addPoiMarker(poi));
+            tile.getChartData()
+                .stream()
+                .filter(chartData -> chartData.getLocation() != null)
+                .forEach(chartData -> addChartDataMarker(chartData, formatString));
+        } else {
+            Helper.enableNode(locationLayer, false);
+            tile.getPoiList()
+                .forEach(poi -> {
+                    String tooltipText = new StringBuilder(poi.getName()).append("\n")
+                                                                         .append(poi.getInfo())
+                                                                         .toString();
+                    Circle circle = new Circle(3, poi.getColor());
+                    circle.setOnMousePressed(e -> poi.fireLocationEvent(new LocationEvent(poi)));
+                    Tooltip.install(circle, new Tooltip(tooltipText));
+                    poiLocations.put(poi, circle);
+                });
+
+            tile.getChartData()
+                .stream()
+                .filter(chartData -> chartData.getLocation() != null)
+                .forEach(chartData -> {
+                    String tooltipText = new StringBuilder(chartData.getName()).append("\n")
+                                                                               .append(String.format(Locale.US, formatString, chartData.getValue()))
+                                                                               .toString();
+                    Circle circle = new Circle(3, chartData.getLocation().getColor());
+                    circle.setOnMousePressed(e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, chartData)));
+                    Tooltip.install(circle, new Tooltip(tooltipText));
+                    chartDataLocations.put(chartData.getLocation(), circle);
+                });
+        }
 
         titleText = new Text();
         titleText.setFill(tile.getTitleColor());
@@ -176,22 +213,20 @@ public class WorldMapTileSkin extends TileSkin {
         text.setFill(tile.getUnitColor());
         Helper.enableNode(text, tile.isTextVisible());
 
-        Color fill   = tile.getForegroundColor();
         Color stroke = tile.getBackgroundColor();
 
         worldPane = new Pane();
         countryPaths.forEach((name, pathList) -> {
-            Country country = Country.valueOf(name);
             pathList.forEach(path -> {
-                path.setFill(null == country.getColor() ? fill : country.getColor());
                 path.setStroke(stroke);
                 path.setStrokeWidth(0.2);
             });
             worldPane.getChildren().addAll(pathList);
         });
+        tile.getChoropleth().applyAll((country, color) -> setCountryFill(country, color));
         group = new Group(worldPane);
 
-        getPane().getChildren().addAll(group, titleText, text);
+        getPane().getChildren().addAll(group, locationLayer, titleText, text);
         getPane().getChildren().addAll(chartDataLocations.values());
         getPane().getChildren().addAll(poiLocations.values());
     }
@@ -200,7 +235,11 @@ public class WorldMapTileSkin extends TileSkin {
         super.registerListeners();
         countryPaths.forEach((name , pathList) -> {
             Country country = Country.valueOf(name);
-            EventHandler<MouseEvent> clickHandler = e -> tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, new ChartData(country.getName(), country.getValue(), country.getColor())));
+            EventHandler<MouseEvent> clickHandler = e -> {
+                Double value = tile.getChoropleth().getValue(country);
+                Color  color = tile.getChoropleth().getColor(country);
+                tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, new ChartData(country.getName(), null == value ? country.getValue() : value, null == color ? country.getColor() : color)));
+            };
             pathList.forEach(path -> {
                 handlerMap.put(path, clickHandler);
                 path.addEventHandler(MouseEvent.MOUSE_PRESSED, clickHandler);
@@ -208,6 +247,16 @@ public class WorldMapTileSkin extends TileSkin {
         });
         tile.getPoiList().addListener(poiListener);
         tile.getChartData().addListener(chartDataListener);
+        if (locationLayerEnabled) {
+            locationLayer.setOnMarkerPressed(marker -> {
+                if (marker.getSource() instanceof ChartData) {
+                    tile.fireTileEvent(new TileEvent(EventType.SELECTED_CHART_DATA, (ChartData) marker.getSource()));
+                } else {
+                    marker.getLocation().fireLocationEvent(new LocationEvent(marker.getLocation()));
+                }
+            });
+            getPane().addEventFilter(MouseEvent.ANY, locationLayer.getMouseHandler());
+        }
     }
 
 
@@ -220,6 +269,8 @@ public class WorldMapTileSkin extends TileSkin {
             Helper.enableNode(text, tile.isTextVisible());
         } else if ("REFRESH".equals(EVENT_TYPE)) {
             refresh();
+        } else if ("CHOROPLETH".equals(EVENT_TYPE)) {
+            tile.getChoropleth().applyChanges((country, color) -> setCountryFill(country, color));
         }
     }
 
@@ -227,15 +278,32 @@ public class WorldMapTileSkin extends TileSkin {
         countryPaths.forEach((name, pathList) -> pathList.forEach(path -> path.removeEventHandler(MouseEvent.MOUSE_PRESSED, handlerMap.get(path))));
         tile.getPoiList().removeListener(poiListener);
         tile.getChartData().removeListener(chartDataListener);
+        getPane().removeEventFilter(MouseEvent.ANY, locationLayer.getMouseHandler());
+        locationLayer.clearMarkers();
         handlerMap.clear();
         circleHandlerMap.clear();
         super.dispose();
     }
 
+    private void addPoiMarker(final Location POI) {
+        String tooltipText = new StringBuilder(POI.getName()).append("\n")
+                                                             .append(POI.getInfo())
+                                                             .toString();
+        locationLayer.addMarker(POI, POI, POI.getColor(), tooltipText);
+    }
+
+    private void addChartDataMarker(final ChartData DATA, final String FORMAT_STRING) {
+        String tooltipText = new StringBuilder(DATA.getName()).append("\n")
+                                                              .append(String.format(Locale.US, FORMAT_STRING, DATA.getValue()))
+                                                              .toString();
+        locationLayer.addMarker(DATA, DATA.getLocation(), DATA.getLocation().getColor(), tooltipText);
+    }
+
     private void setFillAndStroke() {
         countryPaths.keySet().forEach(name -> {
             Country country = Country.valueOf(name);
-            setCountryFillAndStroke(country, null == country.getColor() ? tile.getForegroundColor() : country.getColor(), tile.getBackgroundColor());
+            Color   color   = tile.getChoropleth().getColor(country);
+            setCountryFillAndStroke(country, getCountryFill(country, color), tile.getBackgroundColor());
         });
     }
     private void setCountryFillAndStroke(final Country COUNTRY, final Color FILL, final Color STROKE) {
@@ -246,6 +314,19 @@ public class WorldMapTileSkin extends TileSkin {
         }
     }
 
+    private void setCountryFill(final Country COUNTRY, final Color CHOROPLETH_COLOR) {
+        List<CountryPath> paths = countryPaths.get(COUNTRY.getName());
+        if (null == paths) { return; }
+        Color fill = getCountryFill(COUNTRY, CHOROPLETH_COLOR);
+        for (CountryPath path : paths) { path.setFill(fill); }
+    }
+
+    private Color getCountryFill(final Country COUNTRY, final Color CHOROPLETH_COLOR) {
+        if (null != CHOROPLETH_COLOR)   { return CHOROPLETH_COLOR; }
+        if (null != COUNTRY.getColor()) { return COUNTRY.getColor(); }
+        return tile.getForegroundColor();
+    }
+
 
     // ******************** Resizing ******************************************
     @Override protected void resizeStaticText() {
@@ -307,6 +388,15 @@ public class WorldMapTileSkin extends TileSkin {
 
             worldPane.setCache(false);
 
+            if (locationLayerEnabled) {
+                locationLayer.setPrefSize(width, height);
+                locationLayer.resize(width, height);
+                locationLayer.relocate(0, 0);
+                locationLayer.setMarkerRadius(size * 0.0075);
+                locationLayer.setMapTransform(worldPane.getScaleX(), worldPane.getScaleY(), group.getBoundsInParent().getMinX(), group.getBoundsInParent().getMinY());
+                locationLayer.redraw();
+            }
+
             poiLocations.forEach((location, circle) -> {
                 double[] xy = Helper.latLonToXY(location.getLatitude(), location.getLongitude());
                 double   x  = xy[0] * worldPane.getScaleX() + group.getBoundsInParent().getMinX();
@@ -339,15 +429,11 @@ public class WorldMapTileSkin extends TileSkin {
     }
 
     private void refresh() {
-        Color fill   = tile.getForegroundColor();
         Color stroke = tile.getBackgroundColor();
-        countryPaths.forEach((name, pathList) -> {
-            Country country = Country.valueOf(name);
-            pathList.forEach(path -> {
-                path.setFill(null == country.getColor() ? fill : country.getColor());
-                path.setStroke(stroke);
-                path.setStrokeWidth(0.2);
-            });
-        });
+        countryPaths.forEach((name, pathList) -> pathList.forEach(path -> {
+            path.setStroke(stroke);
+            path.setStrokeWidth(0.2);
+        }));
+        tile.getChoropleth().applyAll((country, color) -> setCountryFill(country, color));
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.jfr.AnimationTimerFrame;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Interpolates numeric values for all tiles and chart data with one
+ * AnimationTimer instead of using one Timeline per object. The state of
+ * the active animations is kept in arrays and all of them will be stepped
+ * in one pulse, so the costs only depend on the number of running
+ * animations. An animation is identified by its writer, starting a new
+ * animation for a writer that is already animating will retarget it.
+ * Must only be used on the FX application thread.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public enum Animator {
+    INSTANCE;
+
+    private static final int                           INITIAL_CAPACITY = 32;
+    private static final Runnable                      NO_OP            = () -> {};
+    private        final Map<DoubleConsumer, Integer>  slots;
+    private        final AnimationTimer                timer;
+    private              DoubleConsumer[]              writers;
+    private              Runnable[]                    finishers;
+    private              Interpolator[]                interpolators;
+    private              double[]                      fromValues;
+    private              double[]                      toValues;
+    private              long[]                        startTimes;
+    private              long[]                        durations;
+    private              int                           count;
+    private              DoubleConsumer[]              frameWriters;
+    private              double[]                      frameValues;
+    private              Runnable[]                    frameFinishers;
+    private              boolean                       running;
+
+
+    // ******************** Constructors **************************************
+    Animator() {
+        slots          = new IdentityHashMap<>();
+        writers        = new DoubleConsumer[INITIAL_CAPACITY];
+        finishers      = new Runnable[INITIAL_CAPACITY];
+        interpolators  = new Interpolator[INITIAL_CAPACITY];
+        fromValues     = new double[INITIAL_CAPACITY];
+        toValues       = new double[INITIAL_CAPACITY];
+        startTimes     = new long[INITIAL_CAPACITY];
+        durations      = new long[INITIAL_CAPACITY];
+        frameWriters   = new DoubleConsumer[INITIAL_CAPACITY];
+        frameValues    = new double[INITIAL_CAPACITY];
+        frameFinishers = new Runnable[INITIAL_CAPACITY];
+        count          = 0;
+        running        = false;
+        timer          = new AnimationTimer() {
+            @Override public void handle(final long NOW) { step(NOW); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Animates from FROM to TO within the given duration and passes every
+     * intermediate value to the given writer.
+     * @param WRITER receives the interpolated values, also identifies the animation
+     * @param FROM the start value
+     * @param TO the end value
+     * @param DURATION the duration in milliseconds
+     * @param INTERPOLATOR the interpolator that will be used
+     * @param ON_FINISHED will be called after the end value was written (can be null)
+     */
+    public void animate(final DoubleConsumer WRITER, final double FROM, final double TO, final long DURATION, final Interpolator INTERPOLATOR, final Runnable ON_FINISHED) {
+        Integer slot = slots.get(WRITER);
+        int     index;
+        if (null == slot) {
+            ensureCapacity(count + 1);
+            index = count++;
+            slots.put(WRITER, index);
+        } else {
+            index = slot;
+        }
+        writers[index]       = WRITER;
+        finishers[index]     = ON_FINISHED;
+        interpolators[index] = null == INTERPOLATOR ? Interpolator.LINEAR : INTERPOLATOR;
+        fromValues[index]    = FROM;
+        toValues[index]      = TO;
+        startTimes[index]    = System.nanoTime();
+        durations[index]     = Math.max(1, DURATION) * 1_000_000L;
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    public boolean isAnimating(final DoubleConsumer WRITER) { return slots.containsKey(WRITER); }
+
+    /**
+     * Stops the animation of the given writer without writing the end value.
+     * @param WRITER
+     */
+    public void stop(final DoubleConsumer WRITER) {
+        Integer slot = slots.get(WRITER);
+        if (null != slot) { remove(slot); }
+    }
+
+    /**
+     * Stops the animation of the given writer, writes the end value and
+     * calls the finished handler.
+     * @param WRITER
+     */
+    public void complete(final DoubleConsumer WRITER) {
+        Integer slot = slots.get(WRITER);
+        if (null == slot) { return; }
+        double   to       = toValues[slot];
+        Runnable finisher = finishers[slot];
+        remove(slot);
+        WRITER.accept(to);
+        if (null != finisher) { finisher.run(); }
+    }
+
+    public int getNoOfActiveAnimations() { return count; }
+
+    private void step(final long NOW) {
+        AnimationTimerFrame frame = AnimationTimerFrame.isRecording() ? new AnimationTimerFrame() : null;
+        if (null != frame) { frame.begin(); }
+        // Collect the values first because writers and finishers might start or stop animations
+        final int FRAME_COUNT = count;
+        if (frameWriters.length < FRAME_COUNT) {
+            frameWriters   = new DoubleConsumer[writers.length];
+            frameValues    = new double[writers.length];
+            frameFinishers = new Runnable[writers.length];
+        }
+        for (int i = 0 ; i < FRAME_COUNT ; i++) {
+            double fraction = (double) (NOW - startTimes[i]) / durations[i];
+            frameWriters[i] = writers[i];
+            if (fraction >= 1) {
+                frameValues[i]    = toValues[i];
+                frameFinishers[i] = null == finishers[i] ? NO_OP : finishers[i];
+            } else {
+                double from = fromValues[i];
+                frameValues[i]    = fraction <= 0 ? from : interpolators[i].interpolate(from, toValues[i], fraction);
+                frameFinishers[i] = null;
+            }
+        }
+        for (int i = FRAME_COUNT - 1 ; i >= 0 ; i--) {
+            if (null != frameFinishers[i]) { remove(i); }
+        }
+        for (int i = 0 ; i < FRAME_COUNT ; i++) { frameWriters[i].accept(frameValues[i]); }
+        for (int i = 0 ; i < FRAME_COUNT ; i++) {
+            if (null != frameFinishers[i]) { frameFinishers[i].run(); }
+            frameWriters[i]   = null;
+            frameFinishers[i] = null;
+        }
+        if (0 == count && running) {
+            running = false;
+            timer.stop();
+        }
+        if (null != frame) { frame.commit("Animator", FRAME_COUNT); }
+    }
+
+    private void remove(final int INDEX) {
+        slots.remove(writers[INDEX]);
+        int last = --count;
+        if (INDEX != last) {
+            writers[INDEX]       = writers[last];
+            finishers[INDEX]     = finishers[last];
+            interpolators[INDEX] = interpolators[last];
+            fromValues[INDEX]    = fromValues[last];
+            toValues[INDEX]      = toValues[last];
+            startTimes[INDEX]    = startTimes[last];
+            durations[INDEX]     = durations[last];
+            slots.put(writers[INDEX], INDEX);
+        }
+        writers[last]       = null;
+        finishers[last]     = null;
+        interpolators[last] = null;
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= writers.length) { return; }
+        int newCapacity = Math.max(CAPACITY, writers.length * 2);
+        writers       = Arrays.copyOf(writers, newCapacity);
+        finishers     = Arrays.copyOf(finishers, newCapacity);
+        interpolators = Arrays.copyOf(interpolators, newCapacity);
+        fromValues    = Arrays.copyOf(fromValues, newCapacity);
+        toValues      = Arrays.copyOf(toValues, newCapacity);
+        startTimes    = Arrays.copyOf(startTimes, newCapacity);
+        durations     = Arrays.copyOf(durations, newCapacity);
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import java.util.Locale;
+
+
+/**
+ * Calculates the position, value and text of the ticks of a vertical value
+ * axis. The nice scale and the ticks are only calculated again if one of the
+ * parameters changed, so skins can call layout() on every value and only
+ * have to update their tick lines and labels if it returns true.
+ * The ticks either start at the min value of the axis or, if aligned, at
+ * the first multiple of the tick spacing above the min value. The position
+ * of a tick is measured from the bottom (PIXEL_MAX) to the top (PIXEL_MIN)
+ * of the axis and only ticks that are above PIXEL_MIN will be created.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class AxisLayout {
+    private final NiceScale niceScale;
+    private final int       maxNoOfTicks;
+    private final double[]  positions;
+    private final double[]  values;
+    private final String[]  labels;
+    private       int       noOfTicks;
+    private       boolean   valid;
+    private       double    scaleMin;
+    private       double    scaleMax;
+    private       double    tickSpacing;
+    private       double    axisMin;
+    private       double    axisMax;
+    private       boolean   aligned;
+    private       double    pixelMin;
+    private       double    pixelMax;
+    private       Locale    locale;
+    private       String    format;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param MAX_TICKS the max number of ticks that will be used to calculate the nice scale
+     * @param MAX_NO_OF_TICKS the max number of ticks that will be created (e.g. the number of tick lines)
+     */
+    public AxisLayout(final double MAX_TICKS, final int MAX_NO_OF_TICKS) {
+        niceScale    = new NiceScale(0, 1);
+        maxNoOfTicks = MAX_NO_OF_TICKS;
+        positions    = new double[MAX_NO_OF_TICKS];
+        values       = new double[MAX_NO_OF_TICKS];
+        labels       = new String[MAX_NO_OF_TICKS];
+        scaleMin     = Double.NaN;
+        scaleMax     = Double.NaN;
+        niceScale.setMaxTicks(MAX_TICKS);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Defines the range that will be used to calculate the nice scale.
+     * @param MIN
+     * @param MAX
+     */
+    public void setScale(final double MIN, final double MAX) {
+        if (Double.compare(MIN, scaleMin) == 0 && Double.compare(MAX, scaleMax) == 0) { return; }
+        scaleMin = MIN;
+        scaleMax = MAX;
+        niceScale.setMinMax(MIN, MAX);
+    }
+
+    public double getTickSpacing() { return niceScale.getTickSpacing(); }
+
+    public double getNiceMin() { return niceScale.getNiceMin(); }
+
+    public double getNiceMax() { return niceScale.getNiceMax(); }
+
+    public double getNiceRange() { return niceScale.getNiceMax() - niceScale.getNiceMin(); }
+
+    /**
+     * Calculates the ticks for the given axis if the parameters or the nice
+     * scale changed since the last call.
+     * @param AXIS_MIN the value at the bottom of the axis
+     * @param AXIS_MAX the value at the top of the axis
+     * @param ALIGNED if true the ticks will be placed at multiples of the tick spacing above AXIS_MIN
+     * @param PIXEL_MIN the top of the axis in pixels
+     * @param PIXEL_MAX the bottom of the axis in pixels
+     * @param LOCALE the locale that will be used to format the labels
+     * @param FORMAT the format string that will be used to format the labels
+     * @return true if the ticks changed since the last call
+     */
+    public boolean layout(final double AXIS_MIN, final double AXIS_MAX, final boolean ALIGNED, final double PIXEL_MIN, final double PIXEL_MAX, final Locale LOCALE, final String FORMAT) {
+        final double spacing = niceScale.getTickSpacing();
+        if (valid &&
+            Double.compare(spacing, tickSpacing) == 0 &&
+            Double.compare(AXIS_MIN, axisMin) == 0 && Double.compare(AXIS_MAX, axisMax) == 0 && ALIGNED == aligned &&
+            Double.compare(PIXEL_MIN, pixelMin) == 0 && Double.compare(PIXEL_MAX, pixelMax) == 0 &&
+            LOCALE.equals(locale) && FORMAT.equals(format)) { return false; }
+
+        tickSpacing = spacing;
+        axisMin     = AXIS_MIN;
+        axisMax     = AXIS_MAX;
+        aligned     = ALIGNED;
+        pixelMin    = PIXEL_MIN;
+        pixelMax    = PIXEL_MAX;
+        locale      = LOCALE;
+        format      = FORMAT;
+        valid       = true;
+        noOfTicks   = 0;
+
+        final double range = AXIS_MAX - AXIS_MIN;
+        if (range <= 0 || spacing <= 0 || !Double.isFinite(range) || !Double.isFinite(spacing)) { return true; }
+        final double step  = (PIXEL_MAX - PIXEL_MIN) / range;
+        final double first = ALIGNED ? (Math.floor(AXIS_MIN / spacing) + 1) * spacing : AXIS_MIN;
+        while (noOfTicks < maxNoOfTicks) {
+            final double value    = first + noOfTicks * spacing;
+            final double position = PIXEL_MAX - (value - AXIS_MIN) * step;
+            if (Math.round(position) <= PIXEL_MIN) { break; }
+            positions[noOfTicks] = position;
+            values[noOfTicks]    = value;
+            labels[noOfTicks]    = String.format(LOCALE, FORMAT, value);
+            noOfTicks++;
+        }
+        return true;
+    }
+
+    /**
+     * Forces the next call of layout() to calculate the ticks again, e.g.
+     * after the tick nodes have been resized.
+     */
+    public void invalidate() { valid = false; }
+
+    public int getNoOfTicks() { return noOfTicks; }
+
+    public double getTickPosition(final int INDEX) { return positions[INDEX]; }
+
+    public double getTickValue(final int INDEX) { return values[INDEX]; }
+
+    public String getTickLabel(final int INDEX) { return labels[INDEX]; }
+}
@@ -17,7 +17,12 @@
  */
 package eu.hansolo.tilesfx.tools;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
 public class CatmullRom {
+    private static final Map<Integer, double[][]> BASES = new ConcurrentHashMap<>();
     private CatmullRomSpline splineXValues;
     private CatmullRomSpline splineYValues;
 
@@ -37,6 +42,89 @@ public class CatmullRom {
     // ******************** Methods *******************************************
     public Point q(final double T) { return new Point(splineXValues.q(T), splineYValues.q(T)); }
 
+    /**
+     * Returns the number of points subdivide() will create from the given
+     * number of points.
+     * @param NO_OF_POINTS
+     * @param SUB_DIVISIONS
+     * @return the number of subdivided points
+     */
+    public static int getNoOfSubdividedPoints(final int NO_OF_POINTS, final int SUB_DIVISIONS) {
+        return NO_OF_POINTS < 2 ? NO_OF_POINTS : (NO_OF_POINTS - 1) * SUB_DIVISIONS + 1;
+    }
+
+    /**
+     * Subdivides the polyline given by the first NO_OF_POINTS coordinates in
+     * XS and YS with a Catmull-Rom spline and writes the resulting points to
+     * OUT_XS and OUT_YS which have to be able to take
+     * getNoOfSubdividedPoints(NO_OF_POINTS, SUB_DIVISIONS) values.
+     * The first and last point are used as their own neighbours. The weights
+     * of the four control points only depend on the position in the segment,
+     * so they are computed once per number of subdivisions and no objects
+     * are created while subdividing.
+     * @param XS
+     * @param YS
+     * @param NO_OF_POINTS
+     * @param SUB_DIVISIONS
+     * @param OUT_XS
+     * @param OUT_YS
+     * @return the number of points that have been written
+     */
+    public static int subdivide(final double[] XS, final double[] YS, final int NO_OF_POINTS, final int SUB_DIVISIONS, final double[] OUT_XS, final double[] OUT_YS) {
+        if (NO_OF_POINTS < 2 || SUB_DIVISIONS < 1) {
+            System.arraycopy(XS, 0, OUT_XS, 0, NO_OF_POINTS);
+            System.arraycopy(YS, 0, OUT_YS, 0, NO_OF_POINTS);
+            return NO_OF_POINTS;
+        }
+        double[][] basis = getBasis(SUB_DIVISIONS);
+        double[]   w0    = basis[0];
+        double[]   w1    = basis[1];
+        double[]   w2    = basis[2];
+        double[]   w3    = basis[3];
+        int        last  = NO_OF_POINTS - 1;
+        for (int i = 0 ; i < last ; i++) {
+            int    i0     = i == 0 ? 0 : i - 1;
+            int    i3     = i + 2 > last ? last : i + 2;
+            double x0     = XS[i0];
+            double x1     = XS[i];
+            double x2     = XS[i + 1];
+            double x3     = XS[i3];
+            double y0     = YS[i0];
+            double y1     = YS[i];
+            double y2     = YS[i + 1];
+            double y3     = YS[i3];
+            int    offset = i * SUB_DIVISIONS;
+            for (int j = 0 ; j < SUB_DIVISIONS ; j++) {
+                OUT_XS[offset + j] = w0[j] * x0 + w1[j] * x1 + w2[j] * x2 + w3[j] * x3;
+                OUT_YS[offset + j] = w0[j] * y0 + w1[j] * y1 + w2[j] * y2 + w3[j] * y3;
+            }
+        }
+        // The spline ends exactly at the last point
+        OUT_XS[last * SUB_DIVISIONS] = XS[last];
+        OUT_YS[last * SUB_DIVISIONS] = YS[last];
+        return last * SUB_DIVISIONS + 1;
+    }
+
+    /**
+     * Returns the weights of the four control points for each step of a
+     * segment with the given number of subdivisions.
+     */
+    private static double[][] getBasis(final int SUB_DIVISIONS) {
+        return BASES.computeIfAbsent(SUB_DIVISIONS, subDivisions -> {
+            double[][] basis = new double[4][subDivisions];
+            for (int j = 0 ; j < subDivisions ; j++) {
+                double t  = j / (double) subDivisions;
+                double t2 = t * t;
+                double t3 = t2 * t;
+                basis[0][j] = 0.5 * (-t + 2 * t2 - t3);
+                basis[1][j] = 0.5 * (2 - 5 * t2 + 3 * t3);
+                basis[2][j] = 0.5 * (t + 4 * t2 - 3 * t3);
+                basis[3][j] = 0.5 * (-t2 + t3);
+            }
+            return basis;
+        });
+    }
+
 
     // ******************** Inner Classes *************************************
     class CatmullRomSpline {
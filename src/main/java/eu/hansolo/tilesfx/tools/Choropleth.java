@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Holds the values of countries for one tile and maps them to colors using
+ * a GradientLookup. The value range is divided into a fixed number of color
+ * buckets and the colors of the buckets are precomputed. Only countries
+ * whose color bucket changed are reported to the skin, which makes it cheap
+ * to update the values of many countries frequently.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class Choropleth {
+    public  static final int                  DEFAULT_NO_OF_BUCKETS = 64;
+    private static final int                  NO_BUCKET             = -1;
+    private static final Country[]            COUNTRIES             = Country.values();
+    private        final Map<Country, Double> values;
+    private        final int[]                buckets;
+    private        final BitSet               dirty;
+    private              GradientLookup       gradientLookup;
+    private              Color[]              palette;
+    private              int                  noOfBuckets;
+    private              boolean              autoRange;
+    private              double               minValue;
+    private              double               maxValue;
+
+
+    // ******************** Constructors **************************************
+    public Choropleth() {
+        this(new GradientLookup(new Stop(0.0, Color.web("#3b82c4")), new Stop(0.5, Color.web("#f3cc42")), new Stop(1.0, Color.web("#e3504d"))));
+    }
+    public Choropleth(final GradientLookup GRADIENT_LOOKUP) {
+        values         = new EnumMap<>(Country.class);
+        buckets        = new int[COUNTRIES.length];
+        dirty          = new BitSet(COUNTRIES.length);
+        gradientLookup = GRADIENT_LOOKUP;
+        noOfBuckets    = DEFAULT_NO_OF_BUCKETS;
+        autoRange      = true;
+        minValue       = 0;
+        maxValue       = 0;
+        for (int i = 0 ; i < buckets.length ; i++) { buckets[i] = NO_BUCKET; }
+        createPalette();
+    }
+
+
+    // ******************** Methods *******************************************
+    public Map<Country, Double> getValues() { return Collections.unmodifiableMap(values); }
+
+    public Double getValue(final Country COUNTRY) { return values.get(COUNTRY); }
+
+    /**
+     * Sets the value of the given country and returns true if the color of
+     * the country changed.
+     * @param COUNTRY
+     * @param VALUE
+     * @return true if the color of the country changed
+     */
+    public boolean setValue(final Country COUNTRY, final double VALUE) {
+        if (null == COUNTRY) { return false; }
+        Double oldValue = values.put(COUNTRY, VALUE);
+        if (autoRange && affectsRange(oldValue, VALUE) && updateRange()) { return updateAllBuckets(); }
+        return updateBucket(COUNTRY);
+    }
+
+    /**
+     * Sets the values of all given countries in one batch and returns true
+     * if the color of at least one country changed. If auto range is enabled
+     * the range will only be recalculated once.
+     * @param VALUES
+     * @return true if the color of at least one country changed
+     */
+    public boolean setValues(final Map<Country, Double> VALUES) {
+        if (null == VALUES || VALUES.isEmpty()) { return false; }
+        boolean rangeChanged = false;
+        for (Map.Entry<Country, Double> entry : VALUES.entrySet()) {
+            if (null == entry.getKey() || null == entry.getValue()) { continue; }
+            double value    = entry.getValue();
+            Double oldValue = values.put(entry.getKey(), value);
+            if (autoRange && affectsRange(oldValue, value)) { rangeChanged = true; }
+        }
+        if (rangeChanged && updateRange()) { return updateAllBuckets(); }
+
+        boolean changed = false;
+        for (Country country : VALUES.keySet()) {
+            if (null == country) { continue; }
+            changed |= updateBucket(country);
+        }
+        return changed;
+    }
+
+    public boolean removeValue(final Country COUNTRY) {
+        if (null == COUNTRY) { return false; }
+        Double oldValue = values.remove(COUNTRY);
+        if (null == oldValue) { return false; }
+        boolean changed = updateBucket(COUNTRY);
+        // Removing the min or max value might shrink the range
+        if (autoRange && (oldValue <= minValue || oldValue >= maxValue) && updateRange()) { changed |= updateAllBuckets(); }
+        return changed;
+    }
+
+    public boolean clear() {
+        if (values.isEmpty()) { return false; }
+        values.clear();
+        if (autoRange) { updateRange(); }
+        return updateAllBuckets();
+    }
+
+    /**
+     * Returns the color of the given country or null if no value was set for it.
+     * @param COUNTRY
+     * @return the color of the given country or null if no value was set for it
+     */
+    public Color getColor(final Country COUNTRY) {
+        int bucket = buckets[COUNTRY.ordinal()];
+        return NO_BUCKET == bucket ? null : palette[bucket];
+    }
+
+    public GradientLookup getGradientLookup() { return gradientLookup; }
+    public void setGradientLookup(final GradientLookup GRADIENT_LOOKUP) {
+        if (null == GRADIENT_LOOKUP) { return; }
+        gradientLookup = GRADIENT_LOOKUP;
+        createPalette();
+        markAllDirty();
+    }
+
+    public int getNoOfBuckets() { return noOfBuckets; }
+    /**
+     * Sets the number of color buckets and returns true if the colors of the
+     * countries have to be updated.
+     * @param NO_OF_BUCKETS
+     * @return true if the colors of the countries changed
+     */
+    public boolean setNoOfBuckets(final int NO_OF_BUCKETS) {
+        int noOfBuckets = Helper.clamp(2, 1024, NO_OF_BUCKETS);
+        if (this.noOfBuckets == noOfBuckets) { return false; }
+        this.noOfBuckets = noOfBuckets;
+        createPalette();
+        updateAllBuckets();
+        markAllDirty();
+        return true;
+    }
+
+    public boolean isAutoRange() { return autoRange; }
+    /**
+     * Enables or disables the auto range and returns true if the color of
+     * at least one country changed. If enabled the range will be derived
+     * from the min and max value of all countries.
+     * @param AUTO_RANGE
+     * @return true if the color of at least one country changed
+     */
+    public boolean setAutoRange(final boolean AUTO_RANGE) {
+        if (autoRange == AUTO_RANGE) { return false; }
+        autoRange = AUTO_RANGE;
+        return autoRange && updateRange() && updateAllBuckets();
+    }
+
+    public double getMinValue() { return minValue; }
+    public double getMaxValue() { return maxValue; }
+    /**
+     * Defines a fixed value range and disables auto ranging.
+     * @param MIN_VALUE
+     * @param MAX_VALUE
+     */
+    public void setRange(final double MIN_VALUE, final double MAX_VALUE) {
+        autoRange = false;
+        minValue  = Math.min(MIN_VALUE, MAX_VALUE);
+        maxValue  = Math.max(MIN_VALUE, MAX_VALUE);
+        updateAllBuckets();
+    }
+
+    public boolean hasChanges() { return !dirty.isEmpty(); }
+
+    /**
+     * Calls the given consumer for each country whose color changed since the
+     * last call and resets the changes. The color will be null for countries
+     * without a value.
+     * @param CONSUMER
+     */
+    public void applyChanges(final BiConsumer<Country, Color> CONSUMER) {
+        for (int i = dirty.nextSetBit(0) ; i >= 0 ; i = dirty.nextSetBit(i + 1)) {
+            CONSUMER.accept(COUNTRIES[i], NO_BUCKET == buckets[i] ? null : palette[buckets[i]]);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Calls the given consumer for all countries and resets the changes.
+     * Should be used when a skin is created.
+     * @param CONSUMER
+     */
+    public void applyAll(final BiConsumer<Country, Color> CONSUMER) {
+        for (int i = 0 ; i < COUNTRIES.length ; i++) {
+            CONSUMER.accept(COUNTRIES[i], NO_BUCKET == buckets[i] ? null : palette[buckets[i]]);
+        }
+        dirty.clear();
+    }
+
+    private void createPalette() {
+        palette = new Color[noOfBuckets];
+        for (int i = 0 ; i < noOfBuckets ; i++) { palette[i] = gradientLookup.getColorAt((double) i / (noOfBuckets - 1)); }
+    }
+
+    private int calcBucket(final Country COUNTRY) {
+        Double value = values.get(COUNTRY);
+        if (null == value) { return NO_BUCKET; }
+        double range = maxValue - minValue;
+        if (range <= 0) { return 0; }
+        double fraction = Helper.clamp(0.0, 1.0, (value - minValue) / range);
+        return (int) Math.round(fraction * (noOfBuckets - 1));
+    }
+
+    private boolean updateBucket(final Country COUNTRY) {
+        int index  = COUNTRY.ordinal();
+        int bucket = calcBucket(COUNTRY);
+        if (bucket == buckets[index]) { return false; }
+        buckets[index] = bucket;
+        dirty.set(index);
+        return true;
+    }
+
+    private boolean updateAllBuckets() {
+        boolean changed = false;
+        for (Country country : COUNTRIES) { changed |= updateBucket(country); }
+        return changed;
+    }
+
+    /**
+     * Returns true if replacing OLD_VALUE (null if there was none) by
+     * NEW_VALUE might change the min or max of all values.
+     */
+    private boolean affectsRange(final Double OLD_VALUE, final double NEW_VALUE) {
+        if (1 == values.size() || NEW_VALUE < minValue || NEW_VALUE > maxValue) { return true; }
+        return null != OLD_VALUE && (OLD_VALUE <= minValue || OLD_VALUE >= maxValue);
+    }
+
+    /**
+     * Derives the range from the min and max of all values and returns true
+     * if the range changed.
+     */
+    private boolean updateRange() {
+        double min = 0;
+        double max = 0;
+        if (!values.isEmpty()) {
+            min = Double.MAX_VALUE;
+            max = -Double.MAX_VALUE;
+            for (double value : values.values()) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        if (Double.compare(min, minValue) == 0 && Double.compare(max, maxValue) == 0) { return false; }
+        minValue = min;
+        maxValue = max;
+        return true;
+    }
+
+    private void markAllDirty() { dirty.set(0, COUNTRIES.length); }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Lock free ring buffer with a fixed capacity for double values. Values
+ * can be offered from any number of threads and will never block, if the
+ * buffer is full the oldest values will be overwritten. The values must be
+ * drained by one thread only (e.g. the FX application thread).
+ * Every slot has a sequence that will be set to the index of the value + 1
+ * once the value was written, so the consumer can detect values that are
+ * not written yet or that have been overwritten while reading them.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class DoubleRingBuffer {
+    private static final long            WRITING = -1;
+    private        final int             capacity;
+    private        final int             mask;
+    private        final AtomicLongArray values;
+    private        final AtomicLongArray sequences;
+    private        final AtomicLong      writeIndex;
+    private              long            readIndex;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates a ring buffer that will keep at least the given number of values.
+     * The capacity will be rounded up to the next power of two.
+     * @param CAPACITY
+     */
+    public DoubleRingBuffer(final int CAPACITY) {
+        capacity   = Integer.highestOneBit(Math.max(2, CAPACITY) - 1) << 1;
+        mask       = capacity - 1;
+        values     = new AtomicLongArray(capacity);
+        sequences  = new AtomicLongArray(capacity);
+        writeIndex = new AtomicLong(0);
+        readIndex  = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Adds the given value to the buffer, can be called from any thread.
+     * If the buffer is full the oldest value will be dropped.
+     * @param VALUE
+     */
+    public void offer(final double VALUE) {
+        long index = writeIndex.getAndIncrement();
+        int  slot  = (int) (index & mask);
+        sequences.set(slot, WRITING);
+        values.set(slot, Double.doubleToRawLongBits(VALUE));
+        sequences.set(slot, index + 1);
+    }
+
+    /**
+     * Passes all values that have been offered since the last call in the
+     * order they were offered to the given consumer. Values that have been
+     * overwritten before they could be drained will be skipped. Must only
+     * be called from one thread.
+     * @param CONSUMER
+     * @return the number of values that have been passed to the consumer
+     */
+    public int drain(final DoubleConsumer CONSUMER) {
+        long write = writeIndex.get();
+        if (write - readIndex > capacity) { readIndex = write - capacity; }
+        int count = 0;
+        while (readIndex < write) {
+            int  slot     = (int) (readIndex & mask);
+            long expected = readIndex + 1;
+            long sequence = sequences.get(slot);
+            if (sequence < expected) { break; } // Not written yet, will be drained with the next call
+            if (sequence == expected) {
+                double value = Double.longBitsToDouble(values.get(slot));
+                if (sequences.get(slot) == expected) {
+                    CONSUMER.accept(value);
+                    count++;
+                }
+            }
+            readIndex++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() { return writeIndex.get() == readIndex; }
+}
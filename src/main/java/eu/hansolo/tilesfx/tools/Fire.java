@@ -18,6 +18,7 @@
 package eu.hansolo.tilesfx.tools;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.jfr.AnimationTimerFrame;
 import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -62,7 +63,10 @@ public class Fire extends Canvas {
         height           = getHeight();
         timer            = new AnimationTimer() {
             @Override public void handle(final long NOW) {
+                AnimationTimerFrame frame = AnimationTimerFrame.isRecording() ? new AnimationTimerFrame() : null;
+                if (null != frame) { frame.begin(); }
                 draw();
+                if (null != frame) { frame.commit("Fire", NO_OF_PARTICLES); }
             }
         };
         particlesVisible = true;
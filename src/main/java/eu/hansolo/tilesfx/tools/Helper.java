@@ -796,25 +796,21 @@ public class Helper {
     public static final Point[] subdividePoints(final Point[] POINTS, final int SUB_DEVISIONS) {
         assert POINTS != null;
         assert POINTS.length >= 3;
-        int    noOfPoints = POINTS.length;
-
-        Point[] subdividedPoints = new Point[((noOfPoints - 1) * SUB_DEVISIONS) + 1];
-
-        double increments = 1.0 / (double) SUB_DEVISIONS;
-
-        for (int i = 0 ; i < noOfPoints - 1 ; i++) {
-            Point p0 = i == 0 ? POINTS[i] : POINTS[i - 1];
-            Point p1 = POINTS[i];
-            Point p2 = POINTS[i + 1];
-            Point p3 = (i+2 == noOfPoints) ? POINTS[i + 1] : POINTS[i + 2];
-
-            CatmullRom crs = new CatmullRom(p0, p1, p2, p3);
-
-            for (int j = 0; j <= SUB_DEVISIONS; j++) {
-                subdividedPoints[(i * SUB_DEVISIONS) + j] = crs.q(j * increments);
-            }
+        int      noOfPoints = POINTS.length;
+        double[] xs         = new double[noOfPoints];
+        double[] ys         = new double[noOfPoints];
+        for (int i = 0 ; i < noOfPoints ; i++) {
+            xs[i] = POINTS[i].getX();
+            ys[i] = POINTS[i].getY();
         }
 
+        int      noOfSubdividedPoints = CatmullRom.getNoOfSubdividedPoints(noOfPoints, SUB_DEVISIONS);
+        double[] subdividedXs         = new double[noOfSubdividedPoints];
+        double[] subdividedYs         = new double[noOfSubdividedPoints];
+        CatmullRom.subdivide(xs, ys, noOfPoints, SUB_DEVISIONS, subdividedXs, subdividedYs);
+
+        Point[] subdividedPoints = new Point[noOfSubdividedPoints];
+        for (int i = 0 ; i < noOfSubdividedPoints ; i++) { subdividedPoints[i] = new Point(subdividedXs[i], subdividedYs[i]); }
         return subdividedPoints;
     }
 
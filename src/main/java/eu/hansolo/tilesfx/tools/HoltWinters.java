@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+/**
+ * Online version of the double exponential smoothing (Holt) and optionally
+ * of the additive triple exponential smoothing (Holt-Winters). In contrast to
+ * DoubleExponentialSmoothingForLinearSeries the model is not fitted to a
+ * series again for every new value, the level, trend and seasonal state is
+ * updated in O(1) per value without allocating objects.
+ * The Holt model starts like DoubleExponentialSmoothingForLinearSeries.fit()
+ * with the first value as level and the difference of the first two values as
+ * trend. The Holt-Winters model is initialized with the first two seasons.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class HoltWinters {
+    public  static final double   DEFAULT_ALPHA = 0.8;
+    public  static final double   DEFAULT_BETA  = 0.2;
+    private        final double   alpha;
+    private        final double   beta;
+    private        final double   gamma;
+    private        final int      seasonLength;
+    private        final double[] seasonals;
+    private        final double[] initValues;
+    private              int      noOfInitValues;
+    private              boolean  ready;
+    private              double   level;
+    private              double   trend;
+    private              long     count;
+    private              double   sse;
+
+
+    // ******************** Constructors **************************************
+    public HoltWinters() {
+        this(DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+    public HoltWinters(final double ALPHA, final double BETA) {
+        this(ALPHA, BETA, 0, 0);
+    }
+    /**
+     * Creates a Holt-Winters model with additive seasonality if SEASON_LENGTH
+     * is bigger than 1, otherwise a Holt model without seasonality.
+     * @param ALPHA smoothing factor for the level (0 - 1)
+     * @param BETA smoothing factor for the trend (0 - 1)
+     * @param GAMMA smoothing factor for the seasonal component (0 - 1)
+     * @param SEASON_LENGTH number of values per season
+     */
+    public HoltWinters(final double ALPHA, final double BETA, final double GAMMA, final int SEASON_LENGTH) {
+        if (ALPHA < 0 || ALPHA > 1) { throw new IllegalArgumentException("The value of alpha must be between 0 and 1"); }
+        if (BETA < 0 || BETA > 1)   { throw new IllegalArgumentException("The value of beta must be between 0 and 1"); }
+        if (GAMMA < 0 || GAMMA > 1) { throw new IllegalArgumentException("The value of gamma must be between 0 and 1"); }
+        alpha        = ALPHA;
+        beta         = BETA;
+        gamma        = GAMMA;
+        seasonLength = SEASON_LENGTH > 1 ? SEASON_LENGTH : 0;
+        seasonals    = new double[seasonLength];
+        initValues   = new double[seasonLength > 0 ? 2 * seasonLength : 2];
+        reset();
+    }
+
+
+    // ******************** Methods *******************************************
+    public double getAlpha() { return alpha; }
+
+    public double getBeta() { return beta; }
+
+    public double getGamma() { return gamma; }
+
+    public int getSeasonLength() { return seasonLength; }
+
+    public boolean isSeasonal() { return seasonLength > 0; }
+
+    /**
+     * Returns true as soon as enough values have been added to forecast,
+     * which are two values for the Holt model and two seasons for the
+     * Holt-Winters model.
+     * @return true if the model can forecast values
+     */
+    public boolean isReady() { return ready; }
+
+    /**
+     * @return the number of values that have been added
+     */
+    public long getCount() { return count; }
+
+    public double getLevel() { return level; }
+
+    public double getTrend() { return trend; }
+
+    /**
+     * @return the sum of the squared errors of the one step forecasts
+     */
+    public double getSSE() { return sse; }
+
+    public void add(final double VALUE) {
+        if (ready) {
+            double error = VALUE - forecast(1);
+            sse += error * error;
+            update(count, VALUE);
+        } else {
+            initValues[noOfInitValues++] = VALUE;
+            if (noOfInitValues == initValues.length) { initialize(); }
+        }
+        count++;
+    }
+
+    /**
+     * Returns the forecast for the given number of steps after the last value.
+     * As long as the model is not ready the last value will be returned.
+     * @param STEPS number of steps after the last value (1 is the next value)
+     * @return the forecast for the given number of steps after the last value
+     */
+    public double forecast(final int STEPS) {
+        if (!ready) { return 0 == noOfInitValues ? 0 : initValues[noOfInitValues - 1]; }
+        double forecast = level + STEPS * trend;
+        if (seasonLength > 0) { forecast += seasonals[(int) ((count - 1 + STEPS) % seasonLength)]; }
+        return forecast;
+    }
+
+    public void reset() {
+        noOfInitValues = 0;
+        ready          = false;
+        level          = 0;
+        trend          = 0;
+        count          = 0;
+        sse            = 0;
+        for (int i = 0 ; i < seasonLength ; i++) { seasonals[i] = 0; }
+    }
+
+    private void initialize() {
+        ready = true;
+        if (seasonLength > 0) {
+            double firstMean  = 0;
+            double secondMean = 0;
+            for (int i = 0 ; i < seasonLength ; i++) {
+                firstMean  += initValues[i];
+                secondMean += initValues[i + seasonLength];
+            }
+            firstMean  /= seasonLength;
+            secondMean /= seasonLength;
+            level = firstMean;
+            trend = (secondMean - firstMean) / seasonLength;
+            for (int i = 0 ; i < seasonLength ; i++) { seasonals[i] = initValues[i] - (firstMean + (i - (seasonLength - 1) * 0.5) * trend); }
+            // The level and trend refer to the middle of the first season, move them to its end
+            level += (seasonLength - 1) * 0.5 * trend;
+            for (int i = seasonLength ; i < initValues.length ; i++) { update(i, initValues[i]); }
+        } else {
+            level = initValues[0];
+            trend = initValues[1] - initValues[0];
+            update(0, initValues[0]);
+            update(1, initValues[1]);
+        }
+    }
+
+    private void update(final long INDEX, final double VALUE) {
+        double lastLevel = level;
+        if (seasonLength > 0) {
+            int season = (int) (INDEX % seasonLength);
+            level             = alpha * (VALUE - seasonals[season]) + (1 - alpha) * (level + trend);
+            trend             = beta * (level - lastLevel) + (1 - beta) * trend;
+            seasonals[season] = gamma * (VALUE - level) + (1 - gamma) * seasonals[season];
+        } else {
+            level = alpha * VALUE + (1 - alpha) * (level + trend);
+            trend = beta * (level - lastLevel) + (1 - beta) * trend;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.Tile;
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A cache for decoded images from the classpath that is shared by all tiles.
+ * Images are cached per resource and size. Callers that scale the image
+ * anyway (e.g. by the fit size of an ImageView) can request the image of a
+ * size bucket instead, so that less sizes have to be decoded and cached.
+ * The cache keeps at most
+ * maxEntries images (least recently used will be evicted first) and only
+ * holds them softly so that they can be reclaimed under memory pressure.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public enum ImageCache {
+    INSTANCE;
+
+    public  static final int                               DEFAULT_MAX_ENTRIES = 512;
+    private static final int                               MIN_SIZE            = 1;
+    private static final int                               MAX_SIZE            = 1024;
+    private        final Map<String, SoftReference<Image>> cache;
+    private        final AtomicLong                        hits;
+    private        final AtomicLong                        misses;
+    private        final AtomicLong                        evictions;
+    private              ExecutorService                   executor;
+    private volatile     int                               maxEntries;
+
+
+    // ******************** Constructors **************************************
+    ImageCache() {
+        maxEntries = DEFAULT_MAX_ENTRIES;
+        hits       = new AtomicLong(0);
+        misses     = new AtomicLong(0);
+        evictions  = new AtomicLong(0);
+        cache      = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(final Map.Entry<String, SoftReference<Image>> ELDEST) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the image with the given resource name relative to the given class,
+     * decoded with the given size.
+     * @param ANCHOR the class that will be used to load the resource
+     * @param RESOURCE_NAME the resource name relative to the given class
+     * @param SIZE the requested width and height of the image
+     * @return the decoded image or null if the resource does not exist
+     */
+    public Image getImage(final Class<?> ANCHOR, final String RESOURCE_NAME, final double SIZE) {
+        final String KEY = createKey(ANCHOR, RESOURCE_NAME, SIZE);
+        Image image;
+        synchronized (cache) {
+            SoftReference<Image> reference = cache.get(KEY);
+            image = null == reference ? null : reference.get();
+        }
+        if (null != image) {
+            hits.incrementAndGet();
+            return image;
+        }
+        misses.incrementAndGet();
+        image = loadImage(ANCHOR, RESOURCE_NAME, SIZE);
+        if (null != image) {
+            synchronized (cache) { cache.put(KEY, new SoftReference<>(image)); }
+        }
+        return image;
+    }
+
+    /**
+     * Returns the image with the given resource name relative to the given class,
+     * decoded with the size bucket for the given size (see getBucketSize()).
+     * The returned image might be bigger than the requested size and should be
+     * scaled to the requested size by the caller.
+     * @param ANCHOR the class that will be used to load the resource
+     * @param RESOURCE_NAME the resource name relative to the given class
+     * @param SIZE the requested width and height of the image
+     * @return the decoded image or null if the resource does not exist
+     */
+    public Image getBucketedImage(final Class<?> ANCHOR, final String RESOURCE_NAME, final double SIZE) {
+        return getImage(ANCHOR, RESOURCE_NAME, getBucketSize(SIZE));
+    }
+
+    /**
+     * Returns the location or poi marker image with the given name (e.g. "poi_red.png")
+     * @param NAME the file name of the marker image
+     * @param SIZE the requested width and height of the image
+     * @return the decoded image or null if the resource does not exist
+     */
+    public Image getMarkerImage(final String NAME, final double SIZE) { return getImage(Tile.class, NAME, SIZE); }
+
+    /**
+     * Decodes the given resources in the given sizes on a background thread
+     * so that they are available in the cache when they are needed. Use the
+     * bucket sizes for images that will be requested with getBucketedImage().
+     * @param ANCHOR the class that will be used to load the resources
+     * @param RESOURCE_NAMES the resource names relative to the given class
+     * @param SIZES the sizes that should be decoded
+     * @return a future that completes when all images have been decoded
+     */
+    public Future<?> prewarm(final Class<?> ANCHOR, final Collection<String> RESOURCE_NAMES, final double... SIZES) {
+        return getExecutor().submit(() -> {
+            for (String resourceName : RESOURCE_NAMES) {
+                for (double size : SIZES) {
+                    if (Thread.currentThread().isInterrupted()) { return; }
+                    final String KEY = createKey(ANCHOR, resourceName, size);
+                    boolean cached;
+                    synchronized (cache) {
+                        SoftReference<Image> reference = cache.get(KEY);
+                        cached = null != reference && null != reference.get();
+                    }
+                    if (!cached) {
+                        Image image = loadImage(ANCHOR, resourceName, size);
+                        if (null != image) { synchronized (cache) { cache.put(KEY, new SoftReference<>(image)); } }
+                    }
+                }
+            }
+        });
+    }
+
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(final int MAX_ENTRIES) {
+        maxEntries = Helper.clamp(1, Integer.MAX_VALUE, MAX_ENTRIES);
+        synchronized (cache) {
+            while (cache.size() > maxEntries) {
+                cache.remove(cache.keySet().iterator().next());
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public int size() { synchronized (cache) { return cache.size(); } }
+
+    public long getHits() { return hits.get(); }
+
+    public long getMisses() { return misses.get(); }
+
+    public long getEvictions() { return evictions.get(); }
+
+    public double getHitRatio() {
+        long h     = hits.get();
+        long total = h + misses.get();
+        return 0 == total ? 0 : (double) h / total;
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    public void clear() { synchronized (cache) { cache.clear(); } }
+
+    /**
+     * Returns the size bucket for the given size. Sizes up to 32px keep their
+     * size (rounded up to whole pixels), bigger sizes will be rounded up to
+     * the next multiple of 16px. Sizes will be clamped to 1..1024px.
+     * @param SIZE
+     * @return the size bucket for the given size
+     */
+    public static int getBucketSize(final double SIZE) {
+        int size = Helper.clamp(MIN_SIZE, MAX_SIZE, (int) Math.ceil(SIZE));
+        return size <= 32 ? size : Math.min(MAX_SIZE, ((size + 15) / 16) * 16);
+    }
+
+    private static String createKey(final Class<?> ANCHOR, final String RESOURCE_NAME, final double SIZE) {
+        return new StringBuilder(ANCHOR.getName()).append("/").append(RESOURCE_NAME).append("@").append(SIZE).toString();
+    }
+
+    /**
+     * Decodes the given resource with the given size without caching it.
+     */
+    static Image loadImage(final Class<?> ANCHOR, final String RESOURCE_NAME, final double SIZE) {
+        try (InputStream inputStream = ANCHOR.getResourceAsStream(RESOURCE_NAME)) {
+            if (null == inputStream) { return null; }
+            return new Image(inputStream, SIZE, SIZE, true, false);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (null == executor) { executor = Executors.newSingleThreadExecutor(Helper.getThreadFactory("ImageCachePrewarm", true)); }
+        return executor;
+    }
+}
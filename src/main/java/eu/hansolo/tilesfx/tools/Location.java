@@ -194,7 +194,13 @@ public class Location {
 
     public double getDistanceTo(final Location LOCATION) { return calcDistanceInMeter(this, LOCATION); }
 
-    public boolean isWithinRangeOf(final Location LOCATION, final double METERS) { return getDistanceTo(LOCATION) < METERS; }
+    public double getApproxDistanceTo(final Location LOCATION) { return LocationIndex.calcApproxDistanceInMeter(latitude, longitude, LOCATION.getLatitude(), LOCATION.getLongitude()); }
+
+    public boolean isWithinRangeOf(final Location LOCATION, final double METERS) {
+        // The latitude difference alone is a lower bound of the great circle distance
+        if (Math.toRadians(Math.abs(LOCATION.getLatitude() - latitude)) * LocationIndex.EARTH_RADIUS >= METERS) { return false; }
+        return getDistanceTo(LOCATION) < METERS;
+    }
 
     public double calcDistanceInMeter(final Location P1, final Location P2) {
         return calcDistanceInMeter(P1.getLatitude(), P1.getLongitude(), P2.getLatitude(), P2.getLongitude());
@@ -0,0 +1,423 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.events.LocationEvent;
+import eu.hansolo.tilesfx.events.LocationEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A spatial index for locations that is based on a k-d tree over the
+ * locations converted to points on the unit sphere. Because the chord
+ * length between two points on the sphere grows monotonically with the
+ * great circle distance, nearest neighbour and range queries can be
+ * done with simple euclidean comparisons without any trigonometry per
+ * candidate.
+ * The tree is rebuilt lazily on the next query after the locations
+ * have been changed or one of the locations has been moved. Changes of
+ * a location that do not move it (e.g. its color) keep the tree.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class LocationIndex {
+    public  static final double                  EARTH_RADIUS = 6_371_000; // m
+    private        final List<Location>          locations;
+    private        final LocationEventListener   locationListener;
+    private        final Map<Location, double[]> indexedCoordinates;
+    private              Location[]              tree;
+    private              double[]                xs;
+    private              double[]                ys;
+    private              double[]                zs;
+    private              byte[]                  axes;
+    private              Location[]              latSorted;
+    private              double[]                latSortedLats;
+    private              boolean                 dirty;
+
+
+    // ******************** Constructors **************************************
+    public LocationIndex() {
+        this(new ArrayList<>());
+    }
+    public LocationIndex(final Collection<Location> LOCATIONS) {
+        locations          = new ArrayList<>();
+        locationListener   = e -> checkMoved(e);
+        indexedCoordinates = new IdentityHashMap<>();
+        tree               = new Location[0];
+        xs                 = new double[0];
+        ys                 = new double[0];
+        zs                 = new double[0];
+        axes               = new byte[0];
+        latSorted          = new Location[0];
+        latSortedLats      = new double[0];
+        setLocations(LOCATIONS);
+    }
+
+
+    // ******************** Methods *******************************************
+    public void setLocations(final Collection<Location> LOCATIONS) {
+        clear();
+        LOCATIONS.forEach(location -> add(location));
+    }
+
+    public void add(final Location LOCATION) {
+        if (null == LOCATION) { return; }
+        locations.add(LOCATION);
+        LOCATION.addLocationEventListener(locationListener);
+        dirty = true;
+    }
+
+    public void remove(final Location LOCATION) {
+        if (null == LOCATION) { return; }
+        // Location overrides equals(), so only remove the given instance
+        if (locations.removeIf(location -> location == LOCATION)) {
+            LOCATION.removeLocationEventListener(locationListener);
+            dirty = true;
+        }
+    }
+
+    public void clear() {
+        locations.forEach(location -> location.removeLocationEventListener(locationListener));
+        locations.clear();
+        dirty = true;
+    }
+
+    public int size() { return locations.size(); }
+
+    public boolean isEmpty() { return locations.isEmpty(); }
+
+    /**
+     * Forces a rebuild of the index on the next query.
+     * Moving a location with one of its setters will invalidate the index automatically.
+     */
+    public void invalidate() { dirty = true; }
+
+    public Location getNearest(final Location LOCATION) { return getNearest(LOCATION.getLatitude(), LOCATION.getLongitude()); }
+    public Location getNearest(final double LATITUDE, final double LONGITUDE) {
+        List<Location> nearest = getKNearest(LATITUDE, LONGITUDE, 1);
+        return nearest.isEmpty() ? null : nearest.get(0);
+    }
+
+    /**
+     * Returns the K locations that are closest to the given location, sorted by
+     * their distance in ascending order.
+     * @param LOCATION
+     * @param K
+     * @return the K locations that are closest to the given location
+     */
+    public List<Location> getKNearest(final Location LOCATION, final int K) { return getKNearest(LOCATION.getLatitude(), LOCATION.getLongitude(), K); }
+    public List<Location> getKNearest(final double LATITUDE, final double LONGITUDE, final int K) {
+        validate();
+        int k = Math.min(K, tree.length);
+        if (k <= 0) { return new ArrayList<>(); }
+
+        double[] p = toUnitSphere(LATITUDE, LONGITUDE);
+        // Bounded max heap of the k best candidates so far
+        int[]    heapIndex = new int[k];
+        double[] heapDist  = new double[k];
+        int[]    heapSize  = { 0 };
+        searchKNearest(0, tree.length, p[0], p[1], p[2], k, heapIndex, heapDist, heapSize);
+
+        Integer[] order = new Integer[heapSize[0]];
+        for (int i = 0 ; i < heapSize[0] ; i++) { order[i] = i; }
+        Arrays.sort(order, (i1, i2) -> Double.compare(heapDist[i1], heapDist[i2]));
+        List<Location> result = new ArrayList<>(heapSize[0]);
+        for (Integer i : order) { result.add(tree[heapIndex[i]]); }
+        return result;
+    }
+
+    /**
+     * Returns all locations that are within the given great circle distance
+     * of the given location.
+     * @param LOCATION
+     * @param METERS
+     * @return all locations that are within the given distance in meters
+     */
+    public List<Location> getWithinRange(final Location LOCATION, final double METERS) { return getWithinRange(LOCATION.getLatitude(), LOCATION.getLongitude(), METERS); }
+    public List<Location> getWithinRange(final double LATITUDE, final double LONGITUDE, final double METERS) {
+        validate();
+        List<Location> result = new ArrayList<>();
+        if (tree.length == 0 || METERS < 0) { return result; }
+        double[] p     = toUnitSphere(LATITUDE, LONGITUDE);
+        double   chord = distanceToChord(METERS);
+        searchRange(0, tree.length, p[0], p[1], p[2], chord * chord, result);
+        return result;
+    }
+
+    /**
+     * Returns all locations that are within the given bounding box. If MIN_LONGITUDE
+     * is bigger than MAX_LONGITUDE the box is expected to cross the antimeridian.
+     * @param MIN_LATITUDE
+     * @param MIN_LONGITUDE
+     * @param MAX_LATITUDE
+     * @param MAX_LONGITUDE
+     * @return all locations that are within the given bounding box
+     */
+    public List<Location> getWithinBounds(final double MIN_LATITUDE, final double MIN_LONGITUDE, final double MAX_LATITUDE, final double MAX_LONGITUDE) {
+        validate();
+        List<Location> result = new ArrayList<>();
+        int from = lowerBound(latSortedLats, MIN_LATITUDE);
+        boolean crossesAntimeridian = MIN_LONGITUDE > MAX_LONGITUDE;
+        for (int i = from ; i < latSorted.length && latSortedLats[i] <= MAX_LATITUDE ; i++) {
+            double lon = latSorted[i].getLongitude();
+            boolean inside = crossesAntimeridian ? (lon >= MIN_LONGITUDE || lon <= MAX_LONGITUDE) : (lon >= MIN_LONGITUDE && lon <= MAX_LONGITUDE);
+            if (inside) { result.add(latSorted[i]); }
+        }
+        return result;
+    }
+
+    public List<Location> getLocations() { return Collections.unmodifiableList(locations); }
+
+
+    // ******************** Distance ******************************************
+    /**
+     * Returns the distance between the given coordinates in meters using the
+     * equirectangular approximation. This is much cheaper than the haversine
+     * formula and accurate enough for short distances (up to a few hundred km)
+     * that are not close to the poles.
+     * @param LAT_1
+     * @param LON_1
+     * @param LAT_2
+     * @param LON_2
+     * @return the approximated distance in meters
+     */
+    public static double calcApproxDistanceInMeter(final double LAT_1, final double LON_1, final double LAT_2, final double LON_2) {
+        double deltaLon = LON_2 - LON_1;
+        if (deltaLon > 180)  { deltaLon -= 360; }
+        if (deltaLon < -180) { deltaLon += 360; }
+        final double X = Math.toRadians(deltaLon) * Math.cos(Math.toRadians((LAT_1 + LAT_2) * 0.5));
+        final double Y = Math.toRadians(LAT_2 - LAT_1);
+        return Math.sqrt(X * X + Y * Y) * EARTH_RADIUS;
+    }
+
+    private static double distanceToChord(final double METERS) {
+        double angle = Math.min(Math.PI, METERS / EARTH_RADIUS);
+        return 2 * Math.sin(angle * 0.5);
+    }
+
+    private static double[] toUnitSphere(final double LATITUDE, final double LONGITUDE) {
+        double lat    = Math.toRadians(LATITUDE);
+        double lon    = Math.toRadians(LONGITUDE);
+        double cosLat = Math.cos(lat);
+        return new double[] { cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat) };
+    }
+
+
+    // ******************** Tree **********************************************
+    /**
+     * Invalidates the index only if the latitude or longitude of the location
+     * differs from the coordinates it has been indexed with.
+     */
+    private void checkMoved(final LocationEvent EVENT) {
+        if (dirty) { return; }
+        Location location    = EVENT.getLocation();
+        double[] coordinates = indexedCoordinates.get(location);
+        if (null == coordinates || Double.compare(coordinates[0], location.getLatitude()) != 0 || Double.compare(coordinates[1], location.getLongitude()) != 0) {
+            dirty = true;
+        }
+    }
+
+    private void validate() {
+        if (!dirty) { return; }
+        int n = locations.size();
+        tree = locations.toArray(new Location[n]);
+        xs   = new double[n];
+        ys   = new double[n];
+        zs   = new double[n];
+        axes = new byte[n];
+        indexedCoordinates.clear();
+        for (int i = 0 ; i < n ; i++) {
+            double latitude  = tree[i].getLatitude();
+            double longitude = tree[i].getLongitude();
+            indexedCoordinates.put(tree[i], new double[] { latitude, longitude });
+            double[] p = toUnitSphere(latitude, longitude);
+            xs[i] = p[0];
+            ys[i] = p[1];
+            zs[i] = p[2];
+        }
+        build(0, n);
+
+        latSorted = locations.toArray(new Location[n]);
+        Arrays.sort(latSorted, (l1, l2) -> Double.compare(l1.getLatitude(), l2.getLatitude()));
+        latSortedLats = new double[n];
+        for (int i = 0 ; i < n ; i++) { latSortedLats[i] = latSorted[i].getLatitude(); }
+
+        dirty = false;
+    }
+
+    /**
+     * Builds an implicit k-d tree in the given range where the median of the
+     * range is the node and the left and right halves are the subtrees.
+     * The split axis is the one with the biggest spread in the range.
+     */
+    private void build(final int FROM, final int TO) {
+        if (TO - FROM <= 1) {
+            if (TO - FROM == 1) { axes[FROM] = 0; }
+            return;
+        }
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+        for (int i = FROM ; i < TO ; i++) {
+            minX = Math.min(minX, xs[i]); maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]); maxY = Math.max(maxY, ys[i]);
+            minZ = Math.min(minZ, zs[i]); maxZ = Math.max(maxZ, zs[i]);
+        }
+        double spreadX = maxX - minX;
+        double spreadY = maxY - minY;
+        double spreadZ = maxZ - minZ;
+        byte   axis    = spreadX >= spreadY && spreadX >= spreadZ ? (byte) 0 : spreadY >= spreadZ ? (byte) 1 : (byte) 2;
+        int    mid     = (FROM + TO) >>> 1;
+        select(FROM, TO - 1, mid, axis);
+        axes[mid] = axis;
+        build(FROM, mid);
+        build(mid + 1, TO);
+    }
+
+    private double coordinate(final int INDEX, final int AXIS) {
+        switch (AXIS) {
+            case 0 : return xs[INDEX];
+            case 1 : return ys[INDEX];
+            default: return zs[INDEX];
+        }
+    }
+
+    /**
+     * Quickselect that moves the K-th smallest element (on the given axis)
+     * in the range [LEFT, RIGHT] to position K.
+     */
+    private void select(int left, int right, final int K, final int AXIS) {
+        while (right > left) {
+            double pivot = coordinate((left + right) >>> 1, AXIS);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(i, AXIS) < pivot) { i++; }
+                while (coordinate(j, AXIS) > pivot) { j--; }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (K <= j) {
+                right = j;
+            } else if (K >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(final int I, final int J) {
+        Location location = tree[I]; tree[I] = tree[J]; tree[J] = location;
+        double   x        = xs[I];   xs[I]   = xs[J];   xs[J]   = x;
+        double   y        = ys[I];   ys[I]   = ys[J];   ys[J]   = y;
+        double   z        = zs[I];   zs[I]   = zs[J];   zs[J]   = z;
+    }
+
+    private void searchKNearest(final int FROM, final int TO, final double X, final double Y, final double Z, final int K,
+                                final int[] HEAP_INDEX, final double[] HEAP_DIST, final int[] HEAP_SIZE) {
+        if (FROM >= TO) { return; }
+        int    mid    = (FROM + TO) >>> 1;
+        double dx     = xs[mid] - X;
+        double dy     = ys[mid] - Y;
+        double dz     = zs[mid] - Z;
+        double distSq = dx * dx + dy * dy + dz * dz;
+
+        if (HEAP_SIZE[0] < K) {
+            heapPush(HEAP_INDEX, HEAP_DIST, HEAP_SIZE, mid, distSq);
+        } else if (distSq < HEAP_DIST[0]) {
+            heapReplaceTop(HEAP_INDEX, HEAP_DIST, HEAP_SIZE[0], mid, distSq);
+        }
+
+        int    axis  = axes[mid];
+        double delta = (axis == 0 ? X : axis == 1 ? Y : Z) - coordinate(mid, axis);
+        if (delta < 0) {
+            searchKNearest(FROM, mid, X, Y, Z, K, HEAP_INDEX, HEAP_DIST, HEAP_SIZE);
+            if (HEAP_SIZE[0] < K || delta * delta < HEAP_DIST[0]) { searchKNearest(mid + 1, TO, X, Y, Z, K, HEAP_INDEX, HEAP_DIST, HEAP_SIZE); }
+        } else {
+            searchKNearest(mid + 1, TO, X, Y, Z, K, HEAP_INDEX, HEAP_DIST, HEAP_SIZE);
+            if (HEAP_SIZE[0] < K || delta * delta < HEAP_DIST[0]) { searchKNearest(FROM, mid, X, Y, Z, K, HEAP_INDEX, HEAP_DIST, HEAP_SIZE); }
+        }
+    }
+
+    private void searchRange(final int FROM, final int TO, final double X, final double Y, final double Z, final double MAX_DIST_SQ, final List<Location> RESULT) {
+        if (FROM >= TO) { return; }
+        int    mid    = (FROM + TO) >>> 1;
+        double dx     = xs[mid] - X;
+        double dy     = ys[mid] - Y;
+        double dz     = zs[mid] - Z;
+        if (dx * dx + dy * dy + dz * dz <= MAX_DIST_SQ) { RESULT.add(tree[mid]); }
+
+        int    axis  = axes[mid];
+        double delta = (axis == 0 ? X : axis == 1 ? Y : Z) - coordinate(mid, axis);
+        if (delta < 0 || delta * delta <= MAX_DIST_SQ) { searchRange(FROM, mid, X, Y, Z, MAX_DIST_SQ, RESULT); }
+        if (delta >= 0 || delta * delta <= MAX_DIST_SQ) { searchRange(mid + 1, TO, X, Y, Z, MAX_DIST_SQ, RESULT); }
+    }
+
+    private static void heapPush(final int[] HEAP_INDEX, final double[] HEAP_DIST, final int[] HEAP_SIZE, final int INDEX, final double DIST) {
+        int i = HEAP_SIZE[0]++;
+        HEAP_INDEX[i] = INDEX;
+        HEAP_DIST[i]  = DIST;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (HEAP_DIST[parent] >= HEAP_DIST[i]) { break; }
+            swapHeap(HEAP_INDEX, HEAP_DIST, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void heapReplaceTop(final int[] HEAP_INDEX, final double[] HEAP_DIST, final int SIZE, final int INDEX, final double DIST) {
+        HEAP_INDEX[0] = INDEX;
+        HEAP_DIST[0]  = DIST;
+        int i = 0;
+        while (true) {
+            int left    = 2 * i + 1;
+            int right   = left + 1;
+            int largest = i;
+            if (left < SIZE && HEAP_DIST[left] > HEAP_DIST[largest])   { largest = left; }
+            if (right < SIZE && HEAP_DIST[right] > HEAP_DIST[largest]) { largest = right; }
+            if (largest == i) { break; }
+            swapHeap(HEAP_INDEX, HEAP_DIST, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swapHeap(final int[] HEAP_INDEX, final double[] HEAP_DIST, final int I, final int J) {
+        int    index = HEAP_INDEX[I]; HEAP_INDEX[I] = HEAP_INDEX[J]; HEAP_INDEX[J] = index;
+        double dist  = HEAP_DIST[I];  HEAP_DIST[I]  = HEAP_DIST[J];  HEAP_DIST[J]  = dist;
+    }
+
+    private static int lowerBound(final double[] VALUES, final double KEY) {
+        int low  = 0;
+        int high = VALUES.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (VALUES[mid] < KEY) { low = mid + 1; } else { high = mid; }
+        }
+        return low;
+    }
+}
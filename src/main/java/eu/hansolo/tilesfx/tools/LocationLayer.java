@@ -0,0 +1,469 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.fonts.Fonts;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * A canvas based overlay that draws a large number of locations on
+ * top of the world map without creating a node per location.
+ * The projected map coordinates of each marker are cached and the
+ * screen coordinates are only recalculated if the map transform
+ * changes. Hit testing and clustering are done with a uniform grid
+ * that is rebuilt together with the screen coordinates.
+ * The layer itself is mouse transparent, mouse events have to be
+ * forwarded by adding the handler returned by getMouseHandler() as
+ * an event filter to the parent node.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class LocationLayer extends Region {
+    private static final double                   DEFAULT_MARKER_RADIUS = 3;
+    private static final int                      MAX_NAMES_IN_TOOLTIP  = 5;
+    private              double                   width;
+    private              double                   height;
+    private              Canvas                   canvas;
+    private              GraphicsContext          ctx;
+    private              List<Marker>             markers;
+    private              Map<Object, Marker>      markerMap;
+    private              double                   scaleX;
+    private              double                   scaleY;
+    private              double                   offsetX;
+    private              double                   offsetY;
+    private              double                   markerRadius;
+    private              boolean                  clusteringEnabled;
+    private              double                   clusterDistance;
+    private              Color                    clusterTextColor;
+    private              boolean                  screenCoordinatesValid;
+    private              double                   cellSize;
+    private              int                      cols;
+    private              int                      rows;
+    private              int[]                    cellStart;
+    private              int[]                    cellItems;
+    private              Tooltip                  tooltip;
+    private              Object                   hovered;
+    private              Consumer<Marker>         onMarkerPressed;
+    private              EventHandler<MouseEvent> mouseHandler;
+
+
+    // ******************** Constructors **************************************
+    public LocationLayer() {
+        markers                = new ArrayList<>();
+        markerMap              = new HashMap<>();
+        scaleX                 = 1;
+        scaleY                 = 1;
+        offsetX                = 0;
+        offsetY                = 0;
+        markerRadius           = DEFAULT_MARKER_RADIUS;
+        clusteringEnabled      = true;
+        clusterDistance        = 4 * DEFAULT_MARKER_RADIUS;
+        clusterTextColor       = Color.WHITE;
+        screenCoordinatesValid = false;
+        cellStart              = new int[1];
+        cellItems              = new int[0];
+        mouseHandler           = e -> handleMouseEvent(e);
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        canvas = new Canvas();
+        ctx    = canvas.getGraphicsContext2D();
+
+        tooltip = new Tooltip();
+
+        setMouseTransparent(true);
+        getChildren().setAll(canvas);
+    }
+
+    private void registerListeners() {
+        widthProperty().addListener(o -> resize());
+        heightProperty().addListener(o -> resize());
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds a marker for the given location. The source object is used as key
+     * to remove or update the marker and will be passed to the pressed handler.
+     * @param SOURCE the object that is represented by the marker (e.g. a Location or ChartData)
+     * @param LOCATION the location of the marker
+     * @param COLOR the fill color of the marker
+     * @param TEXT the text that will be shown in the tooltip
+     */
+    public void addMarker(final Object SOURCE, final Location LOCATION, final Color COLOR, final String TEXT) {
+        if (null == SOURCE || null == LOCATION) { return; }
+        if (markerMap.containsKey(SOURCE)) { removeMarker(SOURCE); }
+        Marker marker = new Marker(SOURCE, LOCATION, COLOR, TEXT);
+        marker.index = markers.size();
+        markers.add(marker);
+        markerMap.put(SOURCE, marker);
+        screenCoordinatesValid = false;
+    }
+
+    public void removeMarker(final Object SOURCE) {
+        Marker marker = markerMap.remove(SOURCE);
+        if (null == marker) { return; }
+        // Swap with last marker to remove in constant time
+        int    lastIndex = markers.size() - 1;
+        Marker last      = markers.remove(lastIndex);
+        if (last != marker) {
+            last.index = marker.index;
+            markers.set(marker.index, last);
+        }
+        hovered                = null;
+        screenCoordinatesValid = false;
+    }
+
+    public void clearMarkers() {
+        markers.clear();
+        markerMap.clear();
+        hovered                = null;
+        screenCoordinatesValid = false;
+    }
+
+    public int getNoOfMarkers() { return markers.size(); }
+
+    /**
+     * Defines the transform that is used to convert map coordinates (as returned
+     * by Helper.latLonToXY()) to coordinates in this layer.
+     * The screen coordinates will only be recalculated if the transform changed.
+     * @param SCALE_X
+     * @param SCALE_Y
+     * @param OFFSET_X
+     * @param OFFSET_Y
+     */
+    public void setMapTransform(final double SCALE_X, final double SCALE_Y, final double OFFSET_X, final double OFFSET_Y) {
+        if (Double.compare(scaleX, SCALE_X) == 0 && Double.compare(scaleY, SCALE_Y) == 0 &&
+            Double.compare(offsetX, OFFSET_X) == 0 && Double.compare(offsetY, OFFSET_Y) == 0) { return; }
+        scaleX                 = SCALE_X;
+        scaleY                 = SCALE_Y;
+        offsetX                = OFFSET_X;
+        offsetY                = OFFSET_Y;
+        screenCoordinatesValid = false;
+    }
+
+    public double getMarkerRadius() { return markerRadius; }
+    public void setMarkerRadius(final double RADIUS) {
+        if (Double.compare(markerRadius, RADIUS) == 0) { return; }
+        markerRadius           = Helper.clamp(0.5, Double.MAX_VALUE, RADIUS);
+        clusterDistance        = Helper.clamp(2 * markerRadius, Double.MAX_VALUE, clusterDistance);
+        screenCoordinatesValid = false;
+    }
+
+    public boolean isClusteringEnabled() { return clusteringEnabled; }
+    public void setClusteringEnabled(final boolean ENABLED) {
+        clusteringEnabled      = ENABLED;
+        screenCoordinatesValid = false;
+    }
+
+    /**
+     * Markers that are closer than the given distance in pixels will be
+     * drawn as one cluster if clustering is enabled. Because the distance
+     * is measured in pixels the markers will automatically be split up
+     * into smaller clusters when the map gets bigger.
+     * @param DISTANCE
+     */
+    public double getClusterDistance() { return clusterDistance; }
+    public void setClusterDistance(final double DISTANCE) {
+        clusterDistance        = Helper.clamp(2 * markerRadius, Double.MAX_VALUE, DISTANCE);
+        screenCoordinatesValid = false;
+    }
+
+    public Color getClusterTextColor() { return clusterTextColor; }
+    public void setClusterTextColor(final Color COLOR) { clusterTextColor = COLOR; }
+
+    public void setOnMarkerPressed(final Consumer<Marker> HANDLER) { onMarkerPressed = HANDLER; }
+
+    /**
+     * Returns the handler that should be added as an event filter to the parent
+     * node to enable hovering and selection of markers.
+     * @return the handler that processes mouse events for this layer
+     */
+    public EventHandler<MouseEvent> getMouseHandler() { return mouseHandler; }
+
+    /**
+     * Returns the marker that is closest to the given point within the marker
+     * radius or null if there is no such marker.
+     * @param X
+     * @param Y
+     * @return the marker at the given position or null
+     */
+    public Marker getMarkerAt(final double X, final double Y) {
+        validate();
+        if (markers.isEmpty() || cols == 0 || rows == 0) { return null; }
+        final double MAX_DISTANCE = Math.max(markerRadius * 1.5, clusteringEnabled ? clusterDistance * 0.5 : 0);
+        final double MAX_DIST_SQ  = MAX_DISTANCE * MAX_DISTANCE;
+        int    col       = (int) (X / cellSize);
+        int    row       = (int) (Y / cellSize);
+        Marker closest   = null;
+        double minDistSq = MAX_DIST_SQ;
+        for (int r = Math.max(0, row - 1) ; r <= Math.min(rows - 1, row + 1) ; r++) {
+            for (int c = Math.max(0, col - 1) ; c <= Math.min(cols - 1, col + 1) ; c++) {
+                int cell = r * cols + c;
+                for (int i = cellStart[cell] ; i < cellStart[cell + 1] ; i++) {
+                    Marker marker = markers.get(cellItems[i]);
+                    double dx     = marker.x - X;
+                    double dy     = marker.y - Y;
+                    double distSq = dx * dx + dy * dy;
+                    if (distSq <= minDistSq) {
+                        minDistSq = distSq;
+                        closest   = marker;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    private void handleMouseEvent(final MouseEvent EVT) {
+        final EventType<? extends MouseEvent> TYPE = EVT.getEventType();
+        if (MouseEvent.MOUSE_MOVED.equals(TYPE)) {
+            Marker marker = getMarkerAt(EVT.getX(), EVT.getY());
+            if (null == marker) {
+                hovered = null;
+                tooltip.hide();
+                return;
+            }
+            int[]  cluster = clusteringEnabled ? getCluster(marker) : new int[0];
+            Object key     = cluster.length > 1 ? Integer.valueOf(getCell(marker)) : marker;
+            if (key.equals(hovered) && tooltip.isShowing()) { return; }
+            hovered = key;
+            tooltip.setText(cluster.length > 1 ? createClusterText(cluster) : marker.getText());
+            tooltip.show(this, EVT.getScreenX() + 10, EVT.getScreenY() + 10);
+        } else if (MouseEvent.MOUSE_EXITED.equals(TYPE)) {
+            hovered = null;
+            tooltip.hide();
+        } else if (MouseEvent.MOUSE_PRESSED.equals(TYPE)) {
+            Marker marker = getMarkerAt(EVT.getX(), EVT.getY());
+            if (null == marker) { return; }
+            if (null != onMarkerPressed) { onMarkerPressed.accept(marker); }
+            EVT.consume();
+        }
+    }
+
+    private int getCell(final Marker MARKER) {
+        int col = Helper.clamp(0, cols - 1, (int) (MARKER.x / cellSize));
+        int row = Helper.clamp(0, rows - 1, (int) (MARKER.y / cellSize));
+        return row * cols + col;
+    }
+
+    private int[] getCluster(final Marker MARKER) {
+        int   cell    = getCell(MARKER);
+        int   from    = cellStart[cell];
+        int   to      = cellStart[cell + 1];
+        int[] cluster = new int[to - from];
+        System.arraycopy(cellItems, from, cluster, 0, to - from);
+        return cluster;
+    }
+
+    private String createClusterText(final int[] CLUSTER) {
+        StringBuilder text = new StringBuilder().append(CLUSTER.length).append(" locations");
+        for (int i = 0 ; i < Math.min(MAX_NAMES_IN_TOOLTIP, CLUSTER.length) ; i++) {
+            text.append("\n").append(markers.get(CLUSTER[i]).getLocation().getName());
+        }
+        if (CLUSTER.length > MAX_NAMES_IN_TOOLTIP) { text.append("\n..."); }
+        return text.toString();
+    }
+
+    /**
+     * Recalculates the screen coordinates of all markers and rebuilds the grid
+     * if the map transform, the size or the markers changed.
+     */
+    private void validate() {
+        if (screenCoordinatesValid) { return; }
+        for (Marker marker : markers) { marker.project(scaleX, scaleY, offsetX, offsetY); }
+        buildGrid();
+        screenCoordinatesValid = true;
+    }
+
+    private void buildGrid() {
+        cellSize = Math.max(2 * markerRadius, clusteringEnabled ? clusterDistance : 4 * markerRadius);
+        cols     = width  > 0 ? (int) Math.ceil(width / cellSize)  : 0;
+        rows     = height > 0 ? (int) Math.ceil(height / cellSize) : 0;
+
+        int noOfCells = cols * rows;
+        if (cellStart.length != noOfCells + 1) { cellStart = new int[noOfCells + 1]; } else { Arrays.fill(cellStart, 0); }
+        if (noOfCells == 0) {
+            cellItems = new int[0];
+            return;
+        }
+
+        // Count markers per cell
+        int noOfMarkers = markers.size();
+        int[] cellOfMarker = new int[noOfMarkers];
+        int   noOfVisible  = 0;
+        for (int i = 0 ; i < noOfMarkers ; i++) {
+            Marker marker = markers.get(i);
+            if (marker.x < 0 || marker.y < 0 || marker.x >= width || marker.y >= height) {
+                cellOfMarker[i] = -1;
+                continue;
+            }
+            int cell = ((int) (marker.y / cellSize)) * cols + (int) (marker.x / cellSize);
+            cellOfMarker[i] = cell;
+            cellStart[cell + 1]++;
+            noOfVisible++;
+        }
+        // Prefix sum to get the start index of each cell
+        for (int cell = 0 ; cell < noOfCells ; cell++) { cellStart[cell + 1] += cellStart[cell]; }
+
+        if (cellItems.length != noOfVisible) { cellItems = new int[noOfVisible]; }
+        int[] fill = new int[noOfCells];
+        for (int i = 0 ; i < noOfMarkers ; i++) {
+            int cell = cellOfMarker[i];
+            if (cell < 0) { continue; }
+            cellItems[cellStart[cell] + fill[cell]++] = i;
+        }
+    }
+
+
+    // ******************** Resizing ******************************************
+    private void resize() {
+        width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
+        height = getHeight() - getInsets().getTop() - getInsets().getBottom();
+
+        if (width > 0 && height > 0) {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+            screenCoordinatesValid = false;
+            redraw();
+        }
+    }
+
+    public void redraw() {
+        validate();
+        ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (cols == 0 || rows == 0) { return; }
+
+        final double DIAMETER = markerRadius * 2;
+        if (clusteringEnabled) {
+            ctx.setTextAlign(TextAlignment.CENTER);
+            ctx.setTextBaseline(VPos.CENTER);
+            int noOfCells = cols * rows;
+            for (int cell = 0 ; cell < noOfCells ; cell++) {
+                int from  = cellStart[cell];
+                int count = cellStart[cell + 1] - from;
+                if (count == 0) { continue; }
+                if (count == 1) {
+                    Marker marker = markers.get(cellItems[from]);
+                    ctx.setFill(marker.getColor());
+                    ctx.fillOval(marker.x - markerRadius, marker.y - markerRadius, DIAMETER, DIAMETER);
+                } else {
+                    double cx = 0;
+                    double cy = 0;
+                    for (int i = from ; i < from + count ; i++) {
+                        Marker marker = markers.get(cellItems[i]);
+                        cx += marker.x;
+                        cy += marker.y;
+                    }
+                    cx /= count;
+                    cy /= count;
+                    double radius = Math.min(clusterDistance * 0.5, markerRadius * (1 + Math.log10(count)));
+                    ctx.setFill(markers.get(cellItems[from]).getColor());
+                    ctx.fillOval(cx - radius, cy - radius, radius * 2, radius * 2);
+                    if (radius > 5) {
+                        ctx.setFont(Fonts.latoRegular(radius));
+                        ctx.setFill(clusterTextColor);
+                        ctx.fillText(Integer.toString(count), cx, cy);
+                    }
+                }
+            }
+        } else {
+            for (int i = 0 ; i < cellItems.length ; i++) {
+                Marker marker = markers.get(cellItems[i]);
+                ctx.setFill(marker.getColor());
+                ctx.fillOval(marker.x - markerRadius, marker.y - markerRadius, DIAMETER, DIAMETER);
+            }
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public static class Marker {
+        private final Object   source;
+        private final Location location;
+        private final Color    color;
+        private final String   text;
+        private       int      index;
+        private       double   latitude;
+        private       double   longitude;
+        private       double   mapX;
+        private       double   mapY;
+        private       boolean  projected;
+        private       double   x;
+        private       double   y;
+
+
+        // ******************** Constructors **********************************
+        public Marker(final Object SOURCE, final Location LOCATION, final Color COLOR, final String TEXT) {
+            source    = SOURCE;
+            location  = LOCATION;
+            color     = COLOR;
+            text      = TEXT;
+            projected = false;
+        }
+
+
+        // ******************** Methods ***************************************
+        public Object getSource() { return source; }
+
+        public Location getLocation() { return location; }
+
+        public Color getColor() { return color; }
+
+        public String getText() { return text; }
+
+        public double getX() { return x; }
+
+        public double getY() { return y; }
+
+        private void project(final double SCALE_X, final double SCALE_Y, final double OFFSET_X, final double OFFSET_Y) {
+            // Only recalculate the map coordinates if the location has moved
+            if (!projected || Double.compare(latitude, location.getLatitude()) != 0 || Double.compare(longitude, location.getLongitude()) != 0) {
+                latitude  = location.getLatitude();
+                longitude = location.getLongitude();
+                double[] xy = Helper.latLonToXY(latitude, longitude);
+                mapX      = xy[0];
+                mapY      = xy[1];
+                projected = true;
+            }
+            x = mapX * SCALE_X + OFFSET_X;
+            y = mapY * SCALE_Y + OFFSET_Y;
+        }
+    }
+}
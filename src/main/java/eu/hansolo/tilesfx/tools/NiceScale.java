@@ -75,12 +75,14 @@ public class NiceScale {
     }
 
     public void setMinMax(final double MIN, final double MAX) {
+        if (Double.compare(MIN, min) == 0 && Double.compare(MAX, max) == 0) { return; }
         min = MIN;
         max = MAX;
         calculate();
     }
 
     public void setMaxTicks(final double MAX_TICKS) {
+        if (Double.compare(MAX_TICKS, maxTicks) == 0) { return; }
         maxTicks = MAX_TICKS;
         calculate();
     }
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * A pool of nodes of one type that skins can use to reuse nodes like
+ * section shapes, tick marks or data points instead of creating new ones
+ * every time they are rebuilt. Nodes will be created by the given factory
+ * if the pool is empty, so everything that is the same for all nodes (e.g.
+ * event handlers) can be set up once in the factory.
+ * Released nodes are not removed from their parent, the skin is expected
+ * to replace the children of the parent anyway (e.g. with setAll()) which
+ * is cheaper than removing every single node.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class NodePool<T extends Node> {
+    public  static final int         DEFAULT_MAX_SIZE = 256;
+    private        final Supplier<T> factory;
+    private        final Consumer<T> reset;
+    private        final Deque<T>    pool;
+    private        final int         maxSize;
+
+
+    // ******************** Constructors **************************************
+    public NodePool(final Supplier<T> FACTORY) {
+        this(FACTORY, null, DEFAULT_MAX_SIZE);
+    }
+    /**
+     * @param FACTORY creates a new node if the pool is empty
+     * @param RESET will be called for every released node, can be null
+     * @param MAX_SIZE the max number of nodes that will be kept in the pool
+     */
+    public NodePool(final Supplier<T> FACTORY, final Consumer<T> RESET, final int MAX_SIZE) {
+        factory = FACTORY;
+        reset   = RESET;
+        pool    = new ArrayDeque<>();
+        maxSize = MAX_SIZE;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns a node from the pool or creates a new one if the pool is empty.
+     * @return a node from the pool or a new node
+     */
+    public T acquire() {
+        T node = pool.pollFirst();
+        return null == node ? factory.get() : node;
+    }
+
+    /**
+     * Puts the given node back into the pool.
+     * @param NODE
+     */
+    public void release(final T NODE) {
+        if (null == NODE || pool.size() >= maxSize) { return; }
+        if (null != reset) { reset.accept(NODE); }
+        pool.addFirst(NODE);
+    }
+
+    public void releaseAll(final Collection<? extends T> NODES) { NODES.forEach(node -> release(node)); }
+
+    /**
+     * @return the number of nodes that are available in the pool
+     */
+    public int size() { return pool.size(); }
+
+    public void clear() { pool.clear(); }
+}
@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * An order statistics tree (a treap where every node knows the size of its
+ * subtree) that keeps items ranked by a numeric key. Adding, removing and
+ * repositioning an item as well as looking up its rank or the item at a
+ * given rank take O(log n), so a changed item can be moved to its new rank
+ * without sorting all items again.
+ * The key of an item is read when it is added or updated and cached, so the
+ * tree stays consistent even if the items change before update() is called.
+ * Items with equal keys keep the order in which they were added.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class RankingIndex<T> {
+    private final Map<T, Node<T>>     nodes;
+    private final Random              random;
+    private       ToDoubleFunction<T> keyFunction;
+    private       boolean             descending;
+    private       Node<T>             root;
+    private       long                sequence;
+
+
+    // ******************** Constructors **************************************
+    public RankingIndex(final ToDoubleFunction<T> KEY_FUNCTION, final boolean DESCENDING) {
+        nodes       = new IdentityHashMap<>();
+        random      = new Random();
+        keyFunction = KEY_FUNCTION;
+        descending  = DESCENDING;
+        sequence    = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    public int size() { return nodes.size(); }
+
+    public boolean contains(final T ITEM) { return nodes.containsKey(ITEM); }
+
+    /**
+     * Changes the key function and the sort direction and ranks all items again.
+     * @param KEY_FUNCTION
+     * @param DESCENDING
+     */
+    public void setOrder(final ToDoubleFunction<T> KEY_FUNCTION, final boolean DESCENDING) {
+        List<T> items = toList();
+        keyFunction = KEY_FUNCTION;
+        descending  = DESCENDING;
+        clear();
+        items.forEach(item -> add(item));
+    }
+
+    public void setAll(final Collection<T> ITEMS) {
+        clear();
+        ITEMS.forEach(item -> add(item));
+    }
+
+    /**
+     * Adds the given item and returns its rank.
+     * @param ITEM
+     * @return the rank of the added item (0 is the first rank)
+     */
+    public int add(final T ITEM) {
+        if (nodes.containsKey(ITEM)) { return update(ITEM)[1]; }
+        Node<T> node = new Node<>(ITEM, keyFunction.applyAsDouble(ITEM), sequence++, random.nextInt());
+        nodes.put(ITEM, node);
+        insert(node);
+        return rankOf(node);
+    }
+
+    /**
+     * Removes the given item and returns the rank it had.
+     * @param ITEM
+     * @return the rank the item had or -1 if it was not in the index
+     */
+    public int remove(final T ITEM) {
+        Node<T> node = nodes.remove(ITEM);
+        if (null == node) { return -1; }
+        int rank = rankOf(node);
+        detach(node);
+        return rank;
+    }
+
+    /**
+     * Reads the key of the given item again and moves the item to its new
+     * rank if the key changed. Returns the old and the new rank. All items
+     * between these two ranks moved by one rank.
+     * @param ITEM
+     * @return an array with the old and the new rank of the item
+     */
+    public int[] update(final T ITEM) {
+        Node<T> node = nodes.get(ITEM);
+        if (null == node) { return new int[] { -1, add(ITEM) }; }
+        int    oldRank = rankOf(node);
+        double key     = keyFunction.applyAsDouble(ITEM);
+        if (Double.compare(key, node.key) == 0) { return new int[] { oldRank, oldRank }; }
+        detach(node);
+        node.key = key;
+        insert(node);
+        return new int[] { oldRank, rankOf(node) };
+    }
+
+    /**
+     * Returns the rank of the given item where 0 is the first rank.
+     * @param ITEM
+     * @return the rank of the given item or -1 if it is not in the index
+     */
+    public int getRank(final T ITEM) {
+        Node<T> node = nodes.get(ITEM);
+        return null == node ? -1 : rankOf(node);
+    }
+
+    /**
+     * Returns the item with the given rank.
+     * @param RANK
+     * @return the item with the given rank
+     */
+    public T get(final int RANK) {
+        if (RANK < 0 || RANK >= size()) { throw new IndexOutOfBoundsException("Rank: " + RANK + ", Size: " + size()); }
+        Node<T> node = root;
+        int     rank = RANK;
+        while (true) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node.item;
+            } else {
+                rank -= leftSize + 1;
+                node  = node.right;
+            }
+        }
+    }
+
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        collect(root, list);
+        return list;
+    }
+
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    private int compare(final Node<T> A, final Node<T> B) {
+        int result = descending ? Double.compare(B.key, A.key) : Double.compare(A.key, B.key);
+        return 0 == result ? Long.compare(A.sequence, B.sequence) : result;
+    }
+
+    private void insert(final Node<T> NODE) {
+        NODE.left   = null;
+        NODE.right  = null;
+        NODE.parent = null;
+        NODE.size   = 1;
+        List<Node<T>> parts = split(root, NODE);
+        root = merge(merge(parts.get(0), NODE), parts.get(1));
+        root.parent = null;
+    }
+
+    private void detach(final Node<T> NODE) {
+        Node<T> parent      = NODE.parent;
+        Node<T> replacement = merge(NODE.left, NODE.right);
+        if (null == parent) {
+            root = replacement;
+            if (null != root) { root.parent = null; }
+        } else if (parent.left == NODE) {
+            setLeft(parent, replacement);
+        } else {
+            setRight(parent, replacement);
+        }
+        for (Node<T> node = parent ; null != node ; node = node.parent) { updateSize(node); }
+        NODE.left   = null;
+        NODE.right  = null;
+        NODE.parent = null;
+    }
+
+    /**
+     * Splits the given tree into the nodes that are ranked before the given
+     * node and the nodes that are ranked after it.
+     */
+    private List<Node<T>> split(final Node<T> TREE, final Node<T> NODE) {
+        List<Node<T>> parts = new ArrayList<>(2);
+        if (null == TREE) {
+            parts.add(null);
+            parts.add(null);
+        } else if (compare(TREE, NODE) < 0) {
+            List<Node<T>> rightParts = split(TREE.right, NODE);
+            setRight(TREE, rightParts.get(0));
+            updateSize(TREE);
+            parts.add(TREE);
+            parts.add(rightParts.get(1));
+        } else {
+            List<Node<T>> leftParts = split(TREE.left, NODE);
+            setLeft(TREE, leftParts.get(1));
+            updateSize(TREE);
+            parts.add(leftParts.get(0));
+            parts.add(TREE);
+        }
+        return parts;
+    }
+
+    /**
+     * Merges two trees where all nodes of LEFT are ranked before the nodes of RIGHT.
+     */
+    private Node<T> merge(final Node<T> LEFT, final Node<T> RIGHT) {
+        if (null == LEFT)  { return RIGHT; }
+        if (null == RIGHT) { return LEFT; }
+        if (LEFT.priority > RIGHT.priority) {
+            setRight(LEFT, merge(LEFT.right, RIGHT));
+            updateSize(LEFT);
+            return LEFT;
+        } else {
+            setLeft(RIGHT, merge(LEFT, RIGHT.left));
+            updateSize(RIGHT);
+            return RIGHT;
+        }
+    }
+
+    private int rankOf(final Node<T> NODE) {
+        int rank = size(NODE.left);
+        for (Node<T> node = NODE ; null != node.parent ; node = node.parent) {
+            if (node.parent.right == node) { rank += size(node.parent.left) + 1; }
+        }
+        return rank;
+    }
+
+    private void collect(final Node<T> NODE, final List<T> LIST) {
+        if (null == NODE) { return; }
+        collect(NODE.left, LIST);
+        LIST.add(NODE.item);
+        collect(NODE.right, LIST);
+    }
+
+    private static <T> int size(final Node<T> NODE) { return null == NODE ? 0 : NODE.size; }
+
+    private static <T> void updateSize(final Node<T> NODE) { NODE.size = 1 + size(NODE.left) + size(NODE.right); }
+
+    private static <T> void setLeft(final Node<T> PARENT, final Node<T> CHILD) {
+        PARENT.left = CHILD;
+        if (null != CHILD) { CHILD.parent = PARENT; }
+    }
+
+    private static <T> void setRight(final Node<T> PARENT, final Node<T> CHILD) {
+        PARENT.right = CHILD;
+        if (null != CHILD) { CHILD.parent = PARENT; }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Node<T> {
+        final T       item;
+        final long    sequence;
+        final int     priority;
+        double        key;
+        int           size;
+        Node<T>       left;
+        Node<T>       right;
+        Node<T>       parent;
+
+        Node(final T ITEM, final double KEY, final long SEQUENCE, final int PRIORITY) {
+            item     = ITEM;
+            key      = KEY;
+            sequence = SEQUENCE;
+            priority = PRIORITY;
+            size     = 1;
+        }
+    }
+}
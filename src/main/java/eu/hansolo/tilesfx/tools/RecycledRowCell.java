@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.input.MouseEvent;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+
+/**
+ * A ListCell that renders its item with a row node that will be created once
+ * per cell and recycled for every item the cell shows. Because a ListView
+ * only creates cells for the visible rows, only a few rows exist no matter
+ * how many items are in the list, the items themselves never become part of
+ * the scene graph.
+ * The cell registers itself in the given map while it shows an item, so that
+ * a changed item can be rendered again with rebind() without refreshing the
+ * whole list. Mouse events on the row are forwarded to the item, so event
+ * handlers that have been added to the items keep working.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class RecycledRowCell<T extends Node, R extends Node> extends ListCell<T> {
+    private final Supplier<R>                   rowFactory;
+    private final BiConsumer<R, T>              binder;
+    private final Map<T, RecycledRowCell<T, R>> visibleCells;
+    private       R                             row;
+
+
+    // ******************** Constructors **************************************
+    public RecycledRowCell(final Supplier<R> ROW_FACTORY, final BiConsumer<R, T> BINDER, final Map<T, RecycledRowCell<T, R>> VISIBLE_CELLS) {
+        rowFactory   = ROW_FACTORY;
+        binder       = BINDER;
+        visibleCells = VISIBLE_CELLS;
+        setText(null);
+        addEventHandler(MouseEvent.ANY, e -> {
+            T item = getItem();
+            if (isEmpty() || null == item) { return; }
+            item.fireEvent(e.copyFor(item, item));
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override protected void updateItem(final T ITEM, final boolean EMPTY) {
+        T lastItem = getItem();
+        if (null != lastItem && visibleCells.get(lastItem) == this) { visibleCells.remove(lastItem); }
+        super.updateItem(ITEM, EMPTY);
+        if (EMPTY || null == ITEM) {
+            setGraphic(null);
+        } else {
+            if (null == row) { row = rowFactory.get(); }
+            binder.accept(row, ITEM);
+            visibleCells.put(ITEM, this);
+            if (getGraphic() != row) { setGraphic(row); }
+        }
+    }
+
+    public R getRow() { return row; }
+
+    /**
+     * Renders the current item of this cell again.
+     */
+    public void rebind() {
+        T item = getItem();
+        if (null == row || null == item || isEmpty()) { return; }
+        binder.accept(row, item);
+    }
+
+    /**
+     * Renders the given item again if it is visible in one of the cells.
+     * @param VISIBLE_CELLS the map that has been passed to the cells
+     * @param ITEM the item that changed
+     */
+    public static <T extends Node, R extends Node> void rebind(final Map<T, RecycledRowCell<T, R>> VISIBLE_CELLS, final T ITEM) {
+        if (null == ITEM) { return; }
+        RecycledRowCell<T, R> cell = VISIBLE_CELLS.get(ITEM);
+        if (null != cell) { cell.rebind(); }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package eu.hansolo.tilesfx.tools;
 
+import eu.hansolo.tilesfx.jfr.AnimationTimerFrame;
 import javafx.animation.AnimationTimer;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
@@ -69,8 +70,11 @@ public class RotationEffect extends Region {
             @Override
             public void handle(final long now) {
                 if (now > lastTimerCall + 20_000_000l) {
+                    AnimationTimerFrame frame = AnimationTimerFrame.isRecording() ? new AnimationTimerFrame() : null;
+                    if (null != frame) { frame.begin(); }
                     redraw();
                     lastTimerCall = now;
+                    if (null != frame) { frame.commit("RotationEffect", 1); }
                 }
             }
         };
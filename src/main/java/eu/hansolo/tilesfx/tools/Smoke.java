@@ -18,6 +18,7 @@
 package eu.hansolo.tilesfx.tools;
 
 import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.jfr.AnimationTimerFrame;
 import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -54,12 +55,15 @@ public class Smoke extends Canvas {
         lastTimerCall = System.nanoTime();
         timer         = new AnimationTimer() {
             @Override public void handle(final long NOW) {
+                AnimationTimerFrame frame = AnimationTimerFrame.isRecording() ? new AnimationTimerFrame() : null;
+                if (null != frame) { frame.begin(); }
                 if (NOW > lastTimerCall + GENERATION_RATE) {
                     if (running && particles.size() < NO_OF_PARTICLES) { particles.add(new ImageParticle(IMAGE, width, height)); }
                     if (particles.isEmpty()) timer.stop();
                     lastTimerCall = NOW;
                 }
                 draw();
+                if (null != frame) { frame.commit("Smoke", particles.size()); }
             }
         };
         setMouseTransparent(true);
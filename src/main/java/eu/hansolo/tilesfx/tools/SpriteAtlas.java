@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import eu.hansolo.tilesfx.icons.Flag;
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Packs square images of the same size (e.g. flags and icons) into one
+ * WritableImage. All ImageViews that show a sprite of the atlas share the
+ * same image (and with that the same texture) and only differ in their
+ * viewport. Sprites can also be drawn into a canvas with drawSprite().
+ * The atlas will never get wider or higher than MAX_ATLAS_SIZE pixels so
+ * that it fits into one texture, which limits the sprite size to
+ * MAX_SPRITE_SIZE. If the atlas has to grow it will be replaced by a
+ * bigger image, ImageViews that have been set up with updateImageView()
+ * are bound to the image of the atlas and will follow automatically.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class SpriteAtlas {
+    public  static final int                       MAX_ATLAS_SIZE  = 4096;
+    public  static final int                       MAX_SPRITE_SIZE = 128;
+    private static final int                       MIN_COLUMNS     = 16;
+    private static final Map<Integer, SpriteAtlas> FLAG_ATLASES    = new ConcurrentHashMap<>();
+    private static       ExecutorService           executor;
+    private        final int                       spriteSize;
+    private        final int                       columns;
+    private        final int                       maxRows;
+    private        final Map<String, Rectangle2D>  viewports;
+    private        final ObjectProperty<Image>     image;
+    private              int                       noOfSprites;
+
+
+    // ******************** Constructors **************************************
+    public SpriteAtlas(final int SPRITE_SIZE) {
+        this(SPRITE_SIZE, MIN_COLUMNS * 4);
+    }
+    public SpriteAtlas(final int SPRITE_SIZE, final int INITIAL_CAPACITY) {
+        int initialCapacity = Math.max(1, INITIAL_CAPACITY);
+        spriteSize  = Helper.clamp(1, MAX_SPRITE_SIZE, SPRITE_SIZE);
+        columns     = Helper.clamp(1, MAX_ATLAS_SIZE / spriteSize, Math.max(MIN_COLUMNS, (int) Math.ceil(Math.sqrt(initialCapacity))));
+        maxRows     = MAX_ATLAS_SIZE / spriteSize;
+        viewports   = new HashMap<>();
+        image       = new SimpleObjectProperty<>(this, "image", new WritableImage(columns * spriteSize, Math.min(maxRows, calcRows(initialCapacity)) * spriteSize));
+        noOfSprites = 0;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the shared atlas that contains all flags in the size bucket of
+     * the given size (see getFlagBucketSize()). The flags will be decoded on
+     * a background thread and copied into the atlas on the FX application
+     * thread, until then the sprites of the atlas are transparent. Views that
+     * have been set up with updateImageView() will show the flags as soon as
+     * they have been loaded.
+     * @param SIZE the requested size of the flags
+     * @return the shared atlas that contains all flags in the given size bucket
+     */
+    public static SpriteAtlas getFlagAtlas(final double SIZE) {
+        return FLAG_ATLASES.computeIfAbsent(getFlagBucketSize(SIZE), bucket -> {
+            Flag[]      flags = Flag.values();
+            SpriteAtlas atlas = new SpriteAtlas(bucket, flags.length);
+            // Reserve the cells up front so that the views can be set up before the flags have been loaded
+            for (Flag flag : flags) { atlas.reserve(flag.name()); }
+            getExecutor().execute(() -> {
+                // The atlas keeps its own copy of the pixels, so the flags don't go through the ImageCache
+                Image[] images = new Image[flags.length];
+                for (int i = 0 ; i < flags.length ; i++) { images[i] = ImageCache.loadImage(Flag.class, flags[i].getImageFileName(), bucket); }
+                Platform.runLater(() -> {
+                    for (int i = 0 ; i < flags.length ; i++) { atlas.register(flags[i].name(), images[i]); }
+                });
+            });
+            return atlas;
+        });
+    }
+
+    /**
+     * Returns the size of the flag atlas that will be used for the given size.
+     * The size will be rounded up to the next power of two between 16 and
+     * MAX_SPRITE_SIZE, so there are at most four flag atlases.
+     * @param SIZE
+     * @return the sprite size of the flag atlas for the given size
+     */
+    public static int getFlagBucketSize(final double SIZE) {
+        int bucket = 16;
+        while (bucket < SIZE && bucket < MAX_SPRITE_SIZE) { bucket <<= 1; }
+        return bucket;
+    }
+
+    public int getSpriteSize() { return spriteSize; }
+
+    public int getNoOfSprites() { return noOfSprites; }
+
+    /**
+     * Returns the maximum number of sprites that fit into the atlas.
+     * @return the maximum number of sprites that fit into the atlas
+     */
+    public int getMaxNoOfSprites() { return columns * maxRows; }
+
+    public Image getImage() { return image.get(); }
+    public ReadOnlyObjectProperty<Image> imageProperty() { return image; }
+
+    public boolean contains(final String KEY) { return viewports.containsKey(KEY); }
+
+    /**
+     * Copies the given image into the atlas and registers it with the given key.
+     * Images that are not of the sprite size of the atlas will be centered
+     * in their cell and cropped if they are bigger. Registering an image with
+     * an existing key will replace the existing sprite. Must be called on
+     * the FX application thread if the atlas is already in use.
+     * @param KEY the key that will be used to look up the sprite
+     * @param IMAGE the image of the sprite
+     * @return false if the image could not be registered because the atlas is full
+     */
+    public synchronized boolean register(final String KEY, final Image IMAGE) {
+        if (null == KEY || null == IMAGE || null == IMAGE.getPixelReader()) { return false; }
+        Rectangle2D viewport = reserve(KEY);
+        if (null == viewport) { return false; }
+        copyInto(IMAGE, (int) viewport.getMinX(), (int) viewport.getMinY());
+        return true;
+    }
+
+    public Rectangle2D getViewport(final String KEY) { return viewports.get(KEY); }
+
+    public ImageView createImageView(final String KEY) {
+        ImageView imageView = new ImageView();
+        updateImageView(imageView, KEY);
+        return imageView;
+    }
+
+    /**
+     * Lets the given ImageView show the sprite with the given key. The image
+     * of the ImageView will be bound to the image of the atlas.
+     * @param IMAGE_VIEW
+     * @param KEY
+     */
+    public void updateImageView(final ImageView IMAGE_VIEW, final String KEY) {
+        Rectangle2D viewport = viewports.get(KEY);
+        if (null == viewport) {
+            IMAGE_VIEW.imageProperty().unbind();
+            IMAGE_VIEW.setImage(null);
+            return;
+        }
+        IMAGE_VIEW.imageProperty().bind(image);
+        IMAGE_VIEW.setViewport(viewport);
+    }
+
+    public void drawSprite(final GraphicsContext CTX, final String KEY, final double X, final double Y, final double WIDTH, final double HEIGHT) {
+        Rectangle2D viewport = viewports.get(KEY);
+        if (null == viewport) { return; }
+        CTX.drawImage(image.get(), viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(), X, Y, WIDTH, HEIGHT);
+    }
+
+    private int calcRows(final int NO_OF_SPRITES) { return (NO_OF_SPRITES + columns - 1) / columns; }
+
+    /**
+     * Returns the cell of the given key, a new cell will be added if the key
+     * has not been registered yet.
+     * @param KEY
+     * @return the cell of the given key or null if the atlas is full
+     */
+    private synchronized Rectangle2D reserve(final String KEY) {
+        Rectangle2D viewport = viewports.get(KEY);
+        if (null != viewport) { return viewport; }
+        if (!ensureCapacity(noOfSprites + 1)) { return null; }
+        int column = noOfSprites % columns;
+        int row    = noOfSprites / columns;
+        viewport = new Rectangle2D(column * spriteSize, row * spriteSize, spriteSize, spriteSize);
+        viewports.put(KEY, viewport);
+        noOfSprites++;
+        return viewport;
+    }
+
+    private boolean ensureCapacity(final int NO_OF_SPRITES) {
+        Image current  = image.get();
+        int   rows     = (int) current.getHeight() / spriteSize;
+        int   required = calcRows(NO_OF_SPRITES);
+        if (required <= rows) { return true; }
+        if (required > maxRows) { return false; }
+        WritableImage newImage = new WritableImage((int) current.getWidth(), Math.min(maxRows, rows * 2) * spriteSize);
+        newImage.getPixelWriter().setPixels(0, 0, (int) current.getWidth(), (int) current.getHeight(), current.getPixelReader(), 0, 0);
+        image.set(newImage);
+        return true;
+    }
+
+    private void copyInto(final Image IMAGE, final int X, final int Y) {
+        PixelReader reader  = IMAGE.getPixelReader();
+        PixelWriter writer  = ((WritableImage) image.get()).getPixelWriter();
+        int         width   = (int) Math.min(spriteSize, IMAGE.getWidth());
+        int         height  = (int) Math.min(spriteSize, IMAGE.getHeight());
+        int         offsetX = (spriteSize - width) / 2;
+        int         offsetY = (spriteSize - height) / 2;
+        int         srcX    = (int) (IMAGE.getWidth() - width) / 2;
+        int         srcY    = (int) (IMAGE.getHeight() - height) / 2;
+        for (int y = 0 ; y < spriteSize ; y++) {
+            for (int x = 0 ; x < spriteSize ; x++) { writer.setArgb(X + x, Y + y, 0); }
+        }
+        writer.setPixels(X + offsetX, Y + offsetY, width, height, reader, srcX, srcY);
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (null == executor) { executor = Executors.newSingleThreadExecutor(Helper.getThreadFactory("SpriteAtlas", true)); }
+        return executor;
+    }
+}
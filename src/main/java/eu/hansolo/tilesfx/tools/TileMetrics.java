@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.tilesfx.tools;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Performance counters of a tile. All counters are lock free and can be
+ * updated and read from any thread. The redraw time is kept as an
+ * exponentially weighted moving average (EWMA) so that it follows the
+ * current load without storing old samples.
+ *
+ * Created by hansolo on 19.10.26.
+ */
+public class TileMetrics {
+    public  static final double     DEFAULT_REDRAW_BUDGET = 2.0; // ms
+    private static final double     EWMA_ALPHA            = 0.1;
+    private        final LongAdder  valuesReceived;
+    private        final LongAdder  eventsFired;
+    private        final LongAdder  eventsQueued;
+    private        final LongAdder  redraws;
+    private        final LongAdder  redrawTime;
+    private        final LongAdder  animationFrames;
+    private        final AtomicLong averageRedrawTime;
+    private        final AtomicLong maxRedrawTime;
+    private volatile     long       redrawBudget;
+
+
+    // ******************** Constructors **************************************
+    public TileMetrics() {
+        valuesReceived    = new LongAdder();
+        eventsFired       = new LongAdder();
+        eventsQueued      = new LongAdder();
+        redraws           = new LongAdder();
+        redrawTime        = new LongAdder();
+        animationFrames   = new LongAdder();
+        averageRedrawTime = new AtomicLong(Double.doubleToLongBits(0));
+        maxRedrawTime     = new AtomicLong(0);
+        redrawBudget      = Math.round(DEFAULT_REDRAW_BUDGET * 1_000_000);
+    }
+
+
+    // ******************** Methods *******************************************
+    public void valueReceived() { valuesReceived.increment(); }
+
+    public void eventFired() { eventsFired.increment(); }
+
+    /**
+     * Counts an event that has been queued because the tile was not showing.
+     */
+    public void eventQueued() { eventsQueued.increment(); }
+
+    public void animationFrame() { animationFrames.increment(); }
+
+    /**
+     * Records a redraw of the skin that took the given time.
+     * @param NANOS the time the redraw took in nanoseconds
+     */
+    public void redraw(final long NANOS) {
+        redraws.increment();
+        redrawTime.add(NANOS);
+        maxRedrawTime.accumulateAndGet(NANOS, Math::max);
+        long   current;
+        double average;
+        do {
+            current = averageRedrawTime.get();
+            double last = Double.longBitsToDouble(current);
+            average = 0 == last ? NANOS : last + EWMA_ALPHA * (NANOS - last);
+        } while (!averageRedrawTime.compareAndSet(current, Double.doubleToLongBits(average)));
+    }
+
+    public long getValuesReceived() { return valuesReceived.sum(); }
+
+    public long getEventsFired() { return eventsFired.sum(); }
+
+    public long getEventsQueued() { return eventsQueued.sum(); }
+
+    public long getAnimationFrames() { return animationFrames.sum(); }
+
+    public long getRedraws() { return redraws.sum(); }
+
+    /**
+     * @return the total time of all redraws in ms
+     */
+    public double getTotalRedrawTime() { return redrawTime.sum() / 1_000_000.0; }
+
+    /**
+     * @return the moving average of the redraw time in ms
+     */
+    public double getAverageRedrawTime() { return Double.longBitsToDouble(averageRedrawTime.get()) / 1_000_000.0; }
+
+    /**
+     * @return the longest redraw time in ms
+     */
+    public double getMaxRedrawTime() { return maxRedrawTime.get() / 1_000_000.0; }
+
+    /**
+     * @return the time in ms an average redraw may take before the tile is over budget
+     */
+    public double getRedrawBudget() { return redrawBudget / 1_000_000.0; }
+    public void setRedrawBudget(final double BUDGET) { redrawBudget = Math.round(Helper.clamp(0.0, Double.MAX_VALUE, BUDGET) * 1_000_000); }
+
+    public boolean isOverBudget() { return Double.longBitsToDouble(averageRedrawTime.get()) > redrawBudget; }
+
+    public void reset() {
+        valuesReceived.reset();
+        eventsFired.reset();
+        eventsQueued.reset();
+        redraws.reset();
+        redrawTime.reset();
+        animationFrames.reset();
+        averageRedrawTime.set(Double.doubleToLongBits(0));
+        maxRedrawTime.set(0);
+    }
+
+    @Override public String toString() {
+        return new StringBuilder().append("Values received : ").append(getValuesReceived()).append("\n")
+                                  .append("Events fired    : ").append(getEventsFired()).append("\n")
+                                  .append("Events queued   : ").append(getEventsQueued()).append("\n")
+                                  .append("Anim. frames    : ").append(getAnimationFrames()).append("\n")
+                                  .append("Redraws         : ").append(getRedraws()).append("\n")
+                                  .append("Redraw avg (ms) : ").append(String.format(Locale.US, "%.3f", getAverageRedrawTime())).append("\n")
+                                  .append("Redraw max (ms) : ").append(String.format(Locale.US, "%.3f", getMaxRedrawTime())).append("\n")
+                                  .append("Budget (ms)     : ").append(String.format(Locale.US, "%.3f", getRedrawBudget()))
+                                  .toString();
+    }
+}
@@ -19,6 +19,9 @@ module eu.hansolo.tilesfx {
 
     // Java
     requires java.base;
+    requires jdk.jfr;
+    requires static java.management;
+    requires static jdk.management;
 
     // Java-FX
     requires transitive javafx.base;
@@ -35,4 +38,7 @@ module eu.hansolo.tilesfx {
     exports eu.hansolo.tilesfx.icons;
     exports eu.hansolo.tilesfx.skins;
     exports eu.hansolo.tilesfx.tools;
+
+    // Flight recorder events are internal, jdk.jfr needs access to register them
+    exports eu.hansolo.tilesfx.jfr to jdk.jfr;
 }
\ No newline at end of file